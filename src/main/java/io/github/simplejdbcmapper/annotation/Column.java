@@ -32,4 +32,19 @@ public @interface Column {
 
 	/** column sqlType */
 	int sqlType() default Integer.MIN_VALUE;
+
+	/**
+	 * lazy loading of a BLOB/CLOB column. The property type has to be
+	 * {@link io.github.simplejdbcmapper.core.LazyBytes} or
+	 * {@link io.github.simplejdbcmapper.core.LazyText}. The column is not part of
+	 * the find queries and its value is loaded on first access.
+	 */
+	boolean lazy() default false;
+
+	/**
+	 * The column value is assigned by the database, for example by a column
+	 * DEFAULT, a trigger or a computed column. The column is left out of inserts
+	 * and updates. On insert the value is read back and assigned to the property.
+	 */
+	boolean generated() default false;
 }
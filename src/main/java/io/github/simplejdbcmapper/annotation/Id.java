@@ -39,6 +39,27 @@ import java.lang.annotation.Target;
  *    ...
  *  }
  * In this case you will have to manually set the id value before calling insert()
+ *
+ * For id assigned from a database sequence:
+ * {@literal @}Table(name="invoice")
+ *  class Invoice {
+ *   {@literal @}Id(type=IdType.SEQUENCE, sequence="invoice_seq", allocationSize=50)
+ *    private Long id;
+ *    ...
+ *  }
+ * The id is assigned before the row is inserted. A block of allocationSize ids is
+ * reserved with a single call to the sequence and handed out from memory, so the
+ * sequence has to be created with 'INCREMENT BY' equal to allocationSize.
+ *
+ * For id generated by the mapper without a database round trip:
+ * {@literal @}Table(name="event")
+ *  class Event {
+ *   {@literal @}Id(type=IdType.UUID_V7)
+ *    private UUID id;
+ *    ...
+ *  }
+ * The id is a time ordered UUID assigned before the row is inserted. Use
+ * IdType.SNOWFLAKE for time ordered Long ids.
  * </pre>
  *
  * @author Antony Joseph
@@ -47,4 +68,20 @@ import java.lang.annotation.Target;
 @Target(ElementType.FIELD)
 public @interface Id {
 	IdType type() default IdType.MANUAL;
+
+	/**
+	 * The name of the database sequence for IdType.SEQUENCE. If the name is not
+	 * qualified by a schema the schema of the table is used.
+	 * 
+	 * @return the sequence name
+	 */
+	String sequence() default "";
+
+	/**
+	 * The number of ids reserved by a single call to the sequence for
+	 * IdType.SEQUENCE. Has to match the 'INCREMENT BY' of the sequence.
+	 * 
+	 * @return the allocation size
+	 */
+	int allocationSize() default 1;
 }
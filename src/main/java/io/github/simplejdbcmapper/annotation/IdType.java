@@ -19,5 +19,23 @@ package io.github.simplejdbcmapper.annotation;
  * @author Antony Joseph
  */
 public enum IdType {
-	AUTO_GENERATED, MANUAL;
+	AUTO_GENERATED, MANUAL,
+	/**
+	 * The id is assigned from a database sequence before the insert. See
+	 * {@link Id#sequence()} and {@link Id#allocationSize()}.
+	 */
+	SEQUENCE,
+	/**
+	 * The id is a time ordered UUID (version 7) generated by the mapper before the
+	 * insert. The property type has to be UUID or String.
+	 */
+	UUID_V7,
+	/**
+	 * The id is a time ordered Snowflake style long generated by the mapper before
+	 * the insert. The ids include the node id configured with
+	 * SimpleJdbcMapper.setSnowflakeNodeId(), which has to be set and be unique for
+	 * each instance of the application writing to the table. The property type has
+	 * to be Long.
+	 */
+	SNOWFLAKE;
 }
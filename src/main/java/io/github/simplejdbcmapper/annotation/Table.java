@@ -28,6 +28,12 @@ import java.lang.annotation.Target;
  * name = "tablename"
  * schema = "schemaname"
  * catalog = "catalogname"
+ * fetchSize = number of rows fetched per round trip by the find queries
+ * maxRows = maximum number of rows returned by the find queries
+ * queryTimeout = timeout in seconds for the find queries
+ *
+ * For fetchSize, maxRows and queryTimeout -1 (the default) means the JdbcTemplate/driver default is used.
+ * They can be overridden per call using QueryOptions.
  *
  * {@literal @}Table(name="products")
  *  public class Product{
@@ -49,6 +55,11 @@ import java.lang.annotation.Target;
  *    .....
  *  }
  *
+ *  {@literal @}Table(name="audit_log", fetchSize=1000, queryTimeout=30)
+ *  public class AuditLog{
+ *    .....
+ *  }
+ *
  * </pre>
  *
  * @author Antony Joseph
@@ -61,4 +72,10 @@ public @interface Table {
 	String catalog() default "";
 
 	String schema() default "";
+
+	int fetchSize() default -1;
+
+	int maxRows() default -1;
+
+	int queryTimeout() default -1;
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.simplejdbcmapper.exception.MapperException;
+
+/**
+ * Creates the accessors used to instantiate mapped objects and to get/set their
+ * property values.
+ *
+ * <p>
+ * The accessors are generated once per mapped class with LambdaMetafactory so
+ * the row mapping and insert/update code paths make direct calls to the
+ * constructor/getters/setters instead of going through Method.invoke() which
+ * allocates a varargs array on every call. If an accessor cannot be generated
+ * (for example module restrictions) it falls back to reflection.
+ *
+ * @author Antony Joseph
+ */
+final class AccessorFactory {
+	private static final Logger logger = LoggerFactory.getLogger(AccessorFactory.class);
+
+	private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+
+	private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType BICONSUMER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	@SuppressWarnings("unchecked")
+	public static Supplier<Object> instantiator(Constructor<?> constructor) {
+		try {
+			MethodHandles.Lookup lookup = privateLookup(constructor.getDeclaringClass());
+			MethodHandle mh = lookup.unreflectConstructor(constructor);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+					SUPPLIER_TYPE, mh, mh.type());
+			return (Supplier<Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			logFallback(constructor.toString(), e);
+			return () -> {
+				try {
+					return constructor.newInstance();
+				} catch (Exception ex) {
+					throw new MapperException(ex.getMessage(), ex);
+				}
+			};
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Function<Object, Object> getter(Method readMethod) {
+		try {
+			MethodHandles.Lookup lookup = privateLookup(readMethod.getDeclaringClass());
+			MethodHandle mh = lookup.unreflect(readMethod);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+					FUNCTION_TYPE, mh, mh.type().wrap());
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			logFallback(readMethod.toString(), e);
+			return obj -> {
+				try {
+					return readMethod.invoke(obj);
+				} catch (Exception ex) {
+					throw new MapperException(ex.getMessage(), ex);
+				}
+			};
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public static BiConsumer<Object, Object> setter(Method writeMethod) {
+		try {
+			MethodHandles.Lookup lookup = privateLookup(writeMethod.getDeclaringClass());
+			MethodHandle mh = lookup.unreflect(writeMethod);
+			// the return value of the setter (if any) is discarded.
+			MethodType instantiatedType = MethodType.methodType(void.class, mh.type().wrap().parameterArray());
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+					BICONSUMER_TYPE, mh, instantiatedType);
+			return (BiConsumer<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			logFallback(writeMethod.toString(), e);
+			return (obj, val) -> {
+				try {
+					writeMethod.invoke(obj, val);
+				} catch (IllegalArgumentException ex) {
+					throw ex;
+				} catch (Exception ex) {
+					throw new MapperException(ex.getMessage(), ex);
+				}
+			};
+		}
+	}
+
+	private static MethodHandles.Lookup privateLookup(Class<?> type) throws IllegalAccessException {
+		// the lambda class gets defined in the package of the mapped class so it has
+		// access to it irrespective of which class loader loaded the mapped class.
+		return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+	}
+
+	private static void logFallback(String member, Throwable e) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Could not generate accessor for {}. Falling back to reflection", member, e);
+		}
+	}
+
+	private AccessorFactory() {
+	}
+}
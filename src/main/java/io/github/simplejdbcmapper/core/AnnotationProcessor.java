@@ -19,6 +19,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
@@ -29,6 +30,7 @@ import io.github.simplejdbcmapper.annotation.Column;
 import io.github.simplejdbcmapper.annotation.CreatedBy;
 import io.github.simplejdbcmapper.annotation.CreatedOn;
 import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
 import io.github.simplejdbcmapper.annotation.Table;
 import io.github.simplejdbcmapper.annotation.UpdatedBy;
 import io.github.simplejdbcmapper.annotation.UpdatedOn;
@@ -63,6 +65,8 @@ class AnnotationProcessor {
 				sqlType = colAnnotation.sqlType();
 			}
 			PropertyMapping propertyMapping = new PropertyMapping(propertyName, field.getType(), colName, sqlType);
+			propertyMapping.setLazy(colAnnotation.lazy());
+			propertyMapping.setGenerated(colAnnotation.generated());
 			propNameToPropertyMapping.put(propertyName, propertyMapping);
 		}
 	}
@@ -91,6 +95,30 @@ class AnnotationProcessor {
 		processAnnotation(UpdatedBy.class, field, propNameToPropertyMapping);
 	}
 
+	void validateIdAnnotation(Id idAnnotation, Field field, Class<?> entityType) {
+		if (idAnnotation.type() == IdType.SEQUENCE) {
+			String prefix = "For " + entityType.getSimpleName() + "." + field.getName()
+					+ " @Id(type = IdType.SEQUENCE)";
+			if (!StringUtils.hasText(idAnnotation.sequence())) {
+				throw new AnnotationException(prefix + " requires the sequence name");
+			}
+			if (idAnnotation.allocationSize() < 1) {
+				throw new AnnotationException(prefix + " allocationSize has to be greater than 0");
+			}
+			if (field.getType() != Long.class && field.getType() != Integer.class) {
+				throw new AnnotationException(prefix + " requires the type of the property to be Long or Integer");
+			}
+		} else if (idAnnotation.type() == IdType.UUID_V7) {
+			if (field.getType() != UUID.class && field.getType() != String.class) {
+				throw new AnnotationException("For " + entityType.getSimpleName() + "." + field.getName()
+						+ " @Id(type = IdType.UUID_V7) requires the type of the property to be UUID or String");
+			}
+		} else if (idAnnotation.type() == IdType.SNOWFLAKE && field.getType() != Long.class) {
+			throw new AnnotationException("For " + entityType.getSimpleName() + "." + field.getName()
+					+ " @Id(type = IdType.SNOWFLAKE) requires the type of the property to be Long");
+		}
+	}
+
 	void validateAnnotations(List<PropertyMapping> propertyMappings, Class<?> type) {
 		annotationTypeCheck(propertyMappings, type);
 		annotationDuplicateCheck(propertyMappings, type);
@@ -125,6 +153,11 @@ class AnnotationProcessor {
 			throw new AnnotationException(
 					"For " + entityType.getSimpleName() + " the @Table annotation has a blank name");
 		}
+		if (tableAnnotation.fetchSize() < -1 || tableAnnotation.maxRows() < -1
+				|| tableAnnotation.queryTimeout() < -1) {
+			throw new AnnotationException("For " + entityType.getSimpleName()
+					+ " the @Table annotation fetchSize, maxRows and queryTimeout cannot be less than -1");
+		}
 	}
 
 	private void annotationTypeCheck(List<PropertyMapping> propertyMappings, Class<?> entityType) {
@@ -138,6 +171,18 @@ class AnnotationProcessor {
 			} else if (propMapping.getPropertyType() == Clob.class) {
 				throw new AnnotationException(entityType.getSimpleName() + "." + propMapping.getPropertyName()
 						+ " is of type java.sql.Clob and is not supported.");
+			} else if (propMapping.isLazy() && !isLazyType(propMapping.getPropertyType())) {
+				throw new AnnotationException(entityType.getSimpleName() + "." + propMapping.getPropertyName()
+						+ " has @Column(lazy = true). Its type has to be LazyBytes or LazyText");
+			} else if (!propMapping.isLazy() && isLazyType(propMapping.getPropertyType())) {
+				throw new AnnotationException(entityType.getSimpleName() + "." + propMapping.getPropertyName()
+						+ " is of type " + propMapping.getPropertyType().getSimpleName()
+						+ " and has to be annotated with @Column(lazy = true)");
+			} else if (propMapping.isGenerated() && (propMapping.isIdAnnotation() || propMapping.isVersionAnnotation()
+					|| propMapping.isCreatedOnAnnotation() || propMapping.isCreatedByAnnotation()
+					|| propMapping.isUpdatedOnAnnotation() || propMapping.isUpdatedByAnnotation())) {
+				throw new AnnotationException(entityType.getSimpleName() + "." + propMapping.getPropertyName()
+						+ " has @Column(generated = true) which conflicts with its other annotation");
 			} else if (propMapping.isVersionAnnotation() && propMapping.getPropertyType() != Integer.class) {
 				throw new AnnotationException("@Version requires the type of property " + entityType.getSimpleName()
 						+ "." + propMapping.getPropertyName() + " to be Integer");
@@ -145,6 +190,10 @@ class AnnotationProcessor {
 		}
 	}
 
+	private boolean isLazyType(Class<?> type) {
+		return type == LazyBytes.class || type == LazyText.class;
+	}
+
 	private void annotationDuplicateCheck(List<PropertyMapping> propertyMappings, Class<?> entityType) {
 		int idCnt = 0;
 		int versionCnt = 0;
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+/**
+ * How {@link io.github.simplejdbcmapper.core.SimpleJdbcMapper#insertAll}
+ * sends the rows of the objects with non auto generated ids to the database.
+ *
+ * @author Antony Joseph
+ */
+public enum BatchInsertStrategy {
+	/**
+	 * An INSERT statement per row executed as a JDBC batch. The default.
+	 */
+	JDBC_BATCH,
+
+	/**
+	 * INSERT statements with multiple rows, {@code INSERT INTO t (cols) VALUES
+	 * (...), (...), ...}. Useful for drivers which execute the statements of a
+	 * JDBC batch individually on the server. The number of rows per statement is
+	 * limited by the bind parameter limit of the database. Databases which do not
+	 * support multi row VALUES, like Oracle, use JDBC_BATCH.
+	 */
+	MULTI_ROW_VALUES
+}
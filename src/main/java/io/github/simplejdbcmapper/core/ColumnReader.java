@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * Reads a column value from the ResultSet and returns the value to be assigned
+ * to the property.
+ *
+ * <p>
+ * A reader is chosen once for each property mapping when the EntityRowMapper is
+ * created, so the per row processing does not have to figure out how to
+ * extract the value for each column.
+ *
+ * @author Antony Joseph
+ */
+@FunctionalInterface
+interface ColumnReader {
+
+	Object read(ResultSet rs, int index) throws SQLException;
+
+	/*
+	 * Same logic as Spring's JdbcUtil.getResultSetValue() which has been proven
+	 * over the years. The difference is the decision on how to extract the value is
+	 * made once per property instead of for every column of every row.
+	 */
+	static ColumnReader of(PropertyMapping propMapping, ConversionService conversionService) {
+		Class<?> requiredType = propMapping.getPropertyType();
+		// Explicitly extract typed value, as far as possible.
+		return switch (propMapping.getResultSetType()) {
+		case STRING -> ResultSet::getString;
+		case BOOLEAN -> (rs, index) -> {
+			boolean value = rs.getBoolean(index);
+			return rs.wasNull() ? null : value;
+		};
+		case BYTE -> (rs, index) -> {
+			byte value = rs.getByte(index);
+			return rs.wasNull() ? null : value;
+		};
+		case SHORT -> (rs, index) -> {
+			short value = rs.getShort(index);
+			return rs.wasNull() ? null : value;
+		};
+		case INTEGER -> (rs, index) -> {
+			int value = rs.getInt(index);
+			return rs.wasNull() ? null : value;
+		};
+		case LONG -> (rs, index) -> {
+			long value = rs.getLong(index);
+			return rs.wasNull() ? null : value;
+		};
+		case FLOAT -> (rs, index) -> {
+			float value = rs.getFloat(index);
+			return rs.wasNull() ? null : value;
+		};
+		// NUMBER same as double
+		case DOUBLE, NUMBER -> (rs, index) -> {
+			double value = rs.getDouble(index);
+			return rs.wasNull() ? null : value;
+		};
+		case BIGDECIMAL -> ResultSet::getBigDecimal;
+		case DATE -> ResultSet::getDate;
+		case TIME -> ResultSet::getTime;
+		// java.util.Date same as timestamp
+		case TIMESTAMP, UTILDATE -> ResultSet::getTimestamp;
+		case BYTEARRAY -> ResultSet::getBytes;
+		case BLOB -> ResultSet::getBlob;
+		case CLOB -> ResultSet::getClob;
+		case ENUM -> (rs, index) -> {
+			// Enums are represented as a String in simpleJdbcMapper. Leave enum type
+			// conversion up to the ConversionService.
+			Object obj = rs.getObject(index);
+			if (obj != null && !(obj instanceof String)) {
+				// for example, on Postgres: getObject returns a PGObject, but we need a String
+				obj = rs.getString(index);
+			}
+			return obj == null ? null : conversionService.convert(obj, requiredType);
+		};
+		// JDBC 4.2 types. Try getObject(int, Class) and if the driver does not support
+		// it convert the legacy value directly without going through the
+		// ConversionService.
+		case LOCALDATE -> new GetObjectColumnReader(propMapping, (rs, index) -> {
+			Date value = rs.getDate(index);
+			return value == null ? null : value.toLocalDate();
+		});
+		case LOCALDATETIME -> new GetObjectColumnReader(propMapping, (rs, index) -> {
+			Timestamp value = rs.getTimestamp(index);
+			return value == null ? null : value.toLocalDateTime();
+		});
+		case OFFSETDATETIME -> new GetObjectColumnReader(propMapping, (rs, index) -> {
+			Timestamp value = rs.getTimestamp(index);
+			return value == null ? null : OffsetDateTime.ofInstant(value.toInstant(), ZoneId.systemDefault());
+		});
+		case INSTANT -> new GetObjectColumnReader(propMapping, (rs, index) -> {
+			Timestamp value = rs.getTimestamp(index);
+			return value == null ? null : value.toInstant();
+		});
+		case UUID -> new GetObjectColumnReader(propMapping, (rs, index) -> {
+			Object value = JdbcUtils.getResultSetValue(rs, index);
+			if (value == null || value instanceof java.util.UUID) {
+				return value;
+			}
+			return value instanceof String str ? java.util.UUID.fromString(str)
+					: conversionService.convert(value, requiredType);
+		});
+		default -> new GetObjectColumnReader(propMapping, convertingReader(requiredType, conversionService));
+		};
+	}
+
+	/*
+	 * Corresponding SQL types for JSR-310, left up to the ConversionService to
+	 * convert them. For other types fall back to getObject without type
+	 * specification and let the ConversionService convert the value.
+	 */
+	private static ColumnReader convertingReader(Class<?> requiredType, ConversionService conversionService) {
+		ColumnReader reader = switch (requiredType.getName()) {
+		case "java.time.LocalTime" -> ResultSet::getTime;
+		default -> JdbcUtils::getResultSetValue;
+		};
+		return (rs, index) -> {
+			Object value = reader.read(rs, index);
+			return value == null ? null : conversionService.convert(value, requiredType);
+		};
+	}
+
+	/**
+	 * Rely on getObject(int, Class) and if the driver does not support it for the
+	 * type use the fallback reader.
+	 * 
+	 * <p>
+	 * The strategy that worked for the first row is remembered so that for drivers
+	 * which do not support getObject(int, Class) for the type, subsequent rows do
+	 * not incur the cost of the exception being thrown for every column value.
+	 */
+	final class GetObjectColumnReader implements ColumnReader {
+		private static final Logger logger = LoggerFactory.getLogger(GetObjectColumnReader.class);
+
+		enum Strategy {
+			UNRESOLVED, GET_OBJECT, FALLBACK
+		}
+
+		private final String propertyName;
+
+		private final Class<?> requiredType;
+
+		// returns the final property value
+		private final ColumnReader fallbackReader;
+
+		// benign race. Worst case a couple of concurrent first rows resolve it again.
+		private volatile Strategy strategy = Strategy.UNRESOLVED;
+
+		GetObjectColumnReader(PropertyMapping propMapping, ColumnReader fallbackReader) {
+			this.propertyName = propMapping.getPropertyName();
+			this.requiredType = propMapping.getPropertyType();
+			this.fallbackReader = fallbackReader;
+		}
+
+		@Override
+		public Object read(ResultSet rs, int index) throws SQLException {
+			if (strategy != Strategy.FALLBACK) {
+				try {
+					Object value = rs.getObject(index, requiredType);
+					resolve(Strategy.GET_OBJECT);
+					return value;
+				} catch (SQLFeatureNotSupportedException | AbstractMethodError ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("JDBC driver does not support JDBC 4.1 'getObject(int, Class)' method", ex);
+					}
+				} catch (SQLException ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("JDBC driver has limited support for 'getObject(int, Class)' with column type: "
+								+ requiredType.getName(), ex);
+					}
+				}
+				resolve(Strategy.FALLBACK);
+			}
+			return fallbackReader.read(rs, index);
+		}
+
+		String getPropertyName() {
+			return propertyName;
+		}
+
+		Strategy getStrategy() {
+			return strategy;
+		}
+
+		private void resolve(Strategy newStrategy) {
+			if (strategy != newStrategy) {
+				strategy = newStrategy;
+				if (logger.isDebugEnabled()) {
+					logger.debug("Property {} of type {} will be read using strategy {}", propertyName,
+							requiredType.getName(), newStrategy);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The conditions on the properties of an entity used by
+ * {@link io.github.simplejdbcmapper.core.SimpleJdbcMapper#updateWhere} and
+ * {@link io.github.simplejdbcmapper.core.SimpleJdbcMapper#deleteWhere}. The
+ * conditions are combined with AND.
+ * 
+ * <pre>
+ * Criteria criteria = Criteria.where("status", "NEW").and("cost", Criteria.Operator.GT, 100.0);
+ * int cnt = sjm.updateWhere(Product.class, criteria, Map.of("status", "ON HOLD"));
+ * </pre>
+ * 
+ * A null value with {@link Operator#EQ} is 'IS NULL' and with
+ * {@link Operator#NE} is 'IS NOT NULL'. The value of {@link Operator#IN} is a
+ * collection of values. Its parameter list is padded to the next power of two
+ * with the last value so lists of similar sizes share the same sql, and it is
+ * split when it exceeds the limits of the database.
+ * 
+ * <p>
+ * Criteria is immutable. Each of the and() methods returns a new instance.
+ * 
+ * @author Antony Joseph
+ */
+public final class Criteria {
+	/**
+	 * The comparison operators
+	 */
+	public enum Operator {
+		EQ("="), NE("<>"), LT("<"), LE("<="), GT(">"), GE(">="), IN("IN");
+
+		private final String sql;
+
+		Operator(String sql) {
+			this.sql = sql;
+		}
+
+		String getSql() {
+			return sql;
+		}
+	}
+
+	private final List<Condition> conditions;
+
+	// the shape of the conditions which determines the sql. Used as part of cache
+	// keys.
+	private final String key;
+
+	// the number of bind parameters of the where clause
+	private final int parameterCount;
+
+	private Criteria(List<Condition> conditions) {
+		this.conditions = Collections.unmodifiableList(conditions);
+		StringBuilder sb = new StringBuilder();
+		int count = 0;
+		for (Condition condition : conditions) {
+			if (sb.length() > 0) {
+				sb.append(',');
+			}
+			sb.append(condition.propertyName()).append(' ').append(condition.operator().name());
+			if (condition.value() == null) {
+				sb.append(" NULL");
+			} else if (condition.operator() == Operator.IN) {
+				int size = paddedSize(condition);
+				sb.append(' ').append(size);
+				count += size;
+			} else {
+				count++;
+			}
+		}
+		this.key = sb.toString();
+		this.parameterCount = count;
+	}
+
+	/**
+	 * Criteria with a property equal to the value.
+	 * 
+	 * @param propertyName the property name (NOT the column name)
+	 * @param value        the value. Can be null
+	 * @return the Criteria
+	 */
+	public static Criteria where(String propertyName, Object value) {
+		return where(propertyName, Operator.EQ, value);
+	}
+
+	/**
+	 * Criteria with a condition on a property.
+	 * 
+	 * @param propertyName the property name (NOT the column name)
+	 * @param operator     the operator
+	 * @param value        the value. A collection for {@link Operator#IN}
+	 * @return the Criteria
+	 */
+	public static Criteria where(String propertyName, Operator operator, Object value) {
+		return new Criteria(List.of(condition(propertyName, operator, value)));
+	}
+
+	/**
+	 * Adds a condition with a property equal to the value.
+	 * 
+	 * @param propertyName the property name (NOT the column name)
+	 * @param value        the value. Can be null
+	 * @return new Criteria with the condition added
+	 */
+	public Criteria and(String propertyName, Object value) {
+		return and(propertyName, Operator.EQ, value);
+	}
+
+	/**
+	 * Adds a condition on a property.
+	 * 
+	 * @param propertyName the property name (NOT the column name)
+	 * @param operator     the operator
+	 * @param value        the value. A collection for {@link Operator#IN}
+	 * @return new Criteria with the condition added
+	 */
+	public Criteria and(String propertyName, Operator operator, Object value) {
+		List<Condition> list = new ArrayList<>(conditions);
+		list.add(condition(propertyName, operator, value));
+		return new Criteria(list);
+	}
+
+	List<Condition> getConditions() {
+		return conditions;
+	}
+
+	// used as part of cache keys
+	String getKey() {
+		return key;
+	}
+
+	int getParameterCount() {
+		return parameterCount;
+	}
+
+	boolean hasProperty(String propertyName) {
+		for (Condition condition : conditions) {
+			if (condition.propertyName().equals(propertyName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Splits the criteria on its largest IN list so that the where clause of
+	 * each of them has at most maxParameters bind parameters. The rows matched by
+	 * the returned criteria are the rows matched by this criteria. Duplicate
+	 * values of the list are removed.
+	 * 
+	 * @param maxParameters the max bind parameters of the where clause
+	 * @return the criteria. Just this criteria if it does not exceed the limit.
+	 */
+	List<Criteria> split(int maxParameters) {
+		if (parameterCount <= maxParameters) {
+			return List.of(this);
+		}
+		int inIndex = -1;
+		for (int i = 0; i < conditions.size(); i++) {
+			Condition condition = conditions.get(i);
+			if (condition.operator() == Operator.IN && (inIndex == -1
+					|| paddedSize(condition) > paddedSize(conditions.get(inIndex)))) {
+				inIndex = i;
+			}
+		}
+		int room = inIndex == -1 ? 0 : maxParameters - parameterCount + paddedSize(conditions.get(inIndex));
+		if (room < 1) {
+			throw new IllegalArgumentException(
+					"The criteria has " + parameterCount + " parameters which exceeds the database limit of "
+							+ maxParameters + " and cannot be split on an IN list");
+		}
+		// the chunks are powers of two so their padding does not exceed the room
+		int chunkSize = Integer.highestOneBit(room);
+		Condition in = conditions.get(inIndex);
+		List<Object> values = List.copyOf(new LinkedHashSet<>((Collection<?>) in.value()));
+		List<Criteria> list = new ArrayList<>();
+		for (int from = 0; from < values.size(); from += chunkSize) {
+			List<Condition> chunk = new ArrayList<>(conditions);
+			chunk.set(inIndex, new Condition(in.propertyName(), Operator.IN,
+					values.subList(from, Math.min(from + chunkSize, values.size()))));
+			list.add(new Criteria(chunk));
+		}
+		return list;
+	}
+
+	/**
+	 * The 'WHERE' clause of the criteria with positional parameters. The values
+	 * are bound in the order of {@link #getArgs(TableMapping)}.
+	 * 
+	 * @param tableMapping the table mapping of the entity
+	 * @param dialect      the database dialect
+	 * @return the where clause
+	 */
+	String whereClause(TableMapping tableMapping, DatabaseDialect dialect) {
+		StringBuilder sb = new StringBuilder(128);
+		sb.append(" WHERE ");
+		boolean first = true;
+		for (Condition condition : conditions) {
+			if (!first) {
+				sb.append(" AND ");
+			}
+			first = false;
+			String columnName = getPropertyMapping(tableMapping, condition.propertyName()).getColumnName();
+			if (condition.value() == null) {
+				sb.append(columnName).append(condition.operator() == Operator.EQ ? " IS NULL" : " IS NOT NULL");
+			} else if (condition.operator() == Operator.IN) {
+				appendInLists(sb, columnName, paddedSize(condition), dialect.getMaxInListSize());
+			} else {
+				sb.append(columnName).append(' ').append(condition.operator().getSql()).append(" ?");
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The values of the parameters of the where clause. Enums are persisted by
+	 * name.
+	 * 
+	 * @param tableMapping the table mapping of the entity
+	 * @return the values with their sql types
+	 */
+	List<SqlParameterValue> getArgs(TableMapping tableMapping) {
+		List<SqlParameterValue> args = new ArrayList<>();
+		for (Condition condition : conditions) {
+			if (condition.value() != null) {
+				Integer sqlType = getPropertyMapping(tableMapping, condition.propertyName()).getColumnSqlType();
+				if (condition.operator() == Operator.IN) {
+					Object val = null;
+					for (Object v : (Collection<?>) condition.value()) {
+						val = persistableValue(v);
+						args.add(new SqlParameterValue(sqlType, val));
+					}
+					// padded with the last value
+					for (int i = ((Collection<?>) condition.value()).size(); i < paddedSize(condition); i++) {
+						args.add(new SqlParameterValue(sqlType, val));
+					}
+				} else {
+					args.add(new SqlParameterValue(sqlType, persistableValue(condition.value())));
+				}
+			}
+		}
+		return args;
+	}
+
+	// a list over the limit is split into lists combined with OR
+	private static void appendInLists(StringBuilder sb, String columnName, int size, int maxInListSize) {
+		boolean split = size > maxInListSize;
+		if (split) {
+			sb.append('(');
+		}
+		for (int from = 0; from < size; from += maxInListSize) {
+			if (from > 0) {
+				sb.append(" OR ");
+			}
+			sb.append(columnName).append(" IN (");
+			int to = Math.min(size, from + maxInListSize);
+			for (int i = from; i < to; i++) {
+				sb.append(i == from ? "?" : ", ?");
+			}
+			sb.append(')');
+		}
+		if (split) {
+			sb.append(')');
+		}
+	}
+
+	// the size of the parameter list of an IN condition, the next power of two
+	private static int paddedSize(Condition condition) {
+		int size = ((Collection<?>) condition.value()).size();
+		return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+	}
+
+	private static Object persistableValue(Object val) {
+		return val instanceof Enum<?> e ? e.name() : val;
+	}
+
+	private static PropertyMapping getPropertyMapping(TableMapping tableMapping, String propertyName) {
+		PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(propertyName);
+		if (propMapping == null) {
+			throw new IllegalArgumentException(
+					propertyName + " is not a mapped property for class " + tableMapping.getMappedObjType().getName());
+		}
+		if (propMapping.isBinaryLargeObject() || propMapping.isCharacterLargeObject()) {
+			throw new IllegalArgumentException(tableMapping.getMappedObjType().getSimpleName() + "." + propertyName
+					+ " is a large object and cannot be used in a Criteria");
+		}
+		return propMapping;
+	}
+
+	private static Condition condition(String propertyName, Operator operator, Object value) {
+		Assert.notNull(propertyName, "propertyName must not be null");
+		Assert.notNull(operator, "operator must not be null");
+		if (value == null && operator != Operator.EQ && operator != Operator.NE) {
+			throw new IllegalArgumentException("value must not be null for operator " + operator);
+		}
+		if (operator == Operator.IN) {
+			if (!(value instanceof Collection<?> values) || ObjectUtils.isEmpty(values)) {
+				throw new IllegalArgumentException("value of operator IN has to be a collection which is not empty");
+			}
+			Assert.noNullElements(values, "value of operator IN must not contain null elements");
+			// copied so later changes to the collection do not change the sql shape
+			value = List.copyOf(values);
+		}
+		return new Condition(propertyName, operator, value);
+	}
+
+	record Condition(String propertyName, Operator operator, Object value) {
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+/**
+ * The database specific sql syntax used by the mapper. Resolved from the
+ * database product name of the DataSource.
+ *
+ * @author Antony Joseph
+ */
+enum DatabaseDialect {
+	POSTGRES(" LIMIT ?", true, true, null, 65535, Integer.MAX_VALUE, Integer.MAX_VALUE, "SELECT nextval('%s')"),
+	// MySQL has no sequences. The sequence syntax is MariaDB's.
+	MYSQL(" LIMIT ?", true, false, null, 65535, Integer.MAX_VALUE, Integer.MAX_VALUE, "SELECT NEXTVAL(%s)"),
+	// Oracle (before 23ai) does not support multi row VALUES. An IN list is limited
+	// to 1000 expressions.
+	ORACLE(" FETCH FIRST ? ROWS ONLY", false, true, null, 65535, 0, 1000, "SELECT %s.NEXTVAL FROM DUAL"),
+	// SQL Server limits a VALUES list of an INSERT to 1000 rows.
+	SQLSERVER(" OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY", false, false, "SCOPE_IDENTITY()", 2100, 1000, Integer.MAX_VALUE,
+			"SELECT NEXT VALUE FOR %s"),
+	OTHER(" FETCH FIRST ? ROWS ONLY", false, false, null, 999, Integer.MAX_VALUE, Integer.MAX_VALUE,
+			"SELECT NEXT VALUE FOR %s");
+
+	private final String limitClause;
+
+	private final boolean batchGeneratedKeys;
+
+	private final boolean generatedColumnKeys;
+
+	private final String scopeIdentityFunction;
+
+	private final int maxBindParameters;
+
+	private final int maxValuesRows;
+
+	private final int maxInListSize;
+
+	private final String sequenceNextValueSql;
+
+	DatabaseDialect(String limitClause, boolean batchGeneratedKeys, boolean generatedColumnKeys,
+			String scopeIdentityFunction, int maxBindParameters, int maxValuesRows, int maxInListSize, String sequenceNextValueSql) {
+		this.limitClause = limitClause;
+		this.batchGeneratedKeys = batchGeneratedKeys;
+		this.generatedColumnKeys = generatedColumnKeys;
+		this.scopeIdentityFunction = scopeIdentityFunction;
+		this.maxBindParameters = maxBindParameters;
+		this.maxValuesRows = maxValuesRows;
+		this.maxInListSize = maxInListSize;
+		this.sequenceNextValueSql = sequenceNextValueSql;
+	}
+
+	/**
+	 * The clause appended after the "ORDER BY" clause to limit the number of rows
+	 * returned. The number of rows is a bind parameter.
+	 * 
+	 * @return the limit clause
+	 */
+	String getLimitClause() {
+		return limitClause;
+	}
+
+	/**
+	 * Whether the JDBC driver returns the generated keys of all the rows of an
+	 * executeBatch(). The Oracle and SQL Server drivers do not, and for unknown
+	 * databases it is not assumed.
+	 * 
+	 * @return true if the batch generated keys are supported
+	 */
+	boolean supportsBatchGeneratedKeys() {
+		return batchGeneratedKeys;
+	}
+
+	/**
+	 * Whether the JDBC driver returns any requested column of the inserted row as
+	 * a generated key, and not just the identity column. The PostgreSQL and Oracle
+	 * drivers do (RETURNING), the MySQL and SQL Server drivers only return the
+	 * identity column.
+	 * 
+	 * @return true if the generated column keys are supported
+	 */
+	boolean supportsGeneratedColumnKeys() {
+		return generatedColumnKeys;
+	}
+
+	/**
+	 * The function which returns the identity generated by the last insert of the
+	 * current scope. Unlike @@IDENTITY it ignores the inserts of triggers. Used to
+	 * send an insert and the SELECT of its row as a single batch (SQL Server).
+	 * 
+	 * @return the function. null if the insert and select are not batched.
+	 */
+	String getScopeIdentityFunction() {
+		return scopeIdentityFunction;
+	}
+
+	/**
+	 * The maximum number of bind parameters of a statement.
+	 * 
+	 * @return the max bind parameters
+	 */
+	int getMaxBindParameters() {
+		return maxBindParameters;
+	}
+
+	/**
+	 * The maximum number of rows of a multi row 'INSERT ... VALUES' statement.
+	 * 
+	 * @return the max rows. 0 if multi row VALUES is not supported.
+	 */
+	int getMaxValuesRows() {
+		return maxValuesRows;
+	}
+
+	/**
+	 * The maximum number of values of an 'IN (...)' list. Longer lists are split
+	 * into lists combined with OR.
+	 * 
+	 * @return the max values of an IN list
+	 */
+	int getMaxInListSize() {
+		return maxInListSize;
+	}
+
+	/**
+	 * The query which returns the next value of a sequence.
+	 * 
+	 * @param sequenceName the sequence name
+	 * @return the sql
+	 */
+	String getSequenceNextValueSql(String sequenceName) {
+		return String.format(sequenceNextValueSql, sequenceName);
+	}
+
+	static DatabaseDialect fromProductName(String productName) {
+		if (productName == null) {
+			return OTHER;
+		}
+		String name = productName.toLowerCase();
+		if (name.contains("postgresql")) {
+			return POSTGRES;
+		} else if (name.contains("mysql") || name.contains("mariadb")) {
+			return MYSQL;
+		} else if (name.contains("oracle")) {
+			return ORACLE;
+		} else if (name.contains("sql server")) {
+			return SQLSERVER;
+		}
+		return OTHER;
+	}
+}
@@ -26,6 +26,10 @@ class DeleteOperation {
 
 	private final SimpleCache<Class<?>, String> deleteSqlCache = new SimpleCache<>();
 
+	// Map key - class and criteria key
+	// value - the delete sql
+	private final LruCache<WhereSqlKey, String> deleteWhereSqlCache = new LruCache<>(3000);
+
 	public DeleteOperation(SimpleJdbcMapperSupport sjmSupport) {
 		this.sjmSupport = sjmSupport;
 	}
@@ -50,8 +54,34 @@ class DeleteOperation {
 				new SqlParameterValue(tableMapping.getIdPropertyMapping().getColumnSqlType(), id));
 	}
 
+	public Integer deleteWhere(Class<?> entityType, Criteria criteria) {
+		Assert.notNull(entityType, "entityType must not be null");
+		Assert.notNull(criteria, "criteria must not be null");
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		DatabaseDialect dialect = sjmSupport.getDatabaseDialect();
+		int cnt = 0;
+		// criteria over the bind parameter limit are run in chunks of its IN list
+		for (Criteria chunk : criteria.split(dialect.getMaxBindParameters())) {
+			WhereSqlKey cacheKey = new WhereSqlKey(entityType, chunk.getKey());
+			String sql = deleteWhereSqlCache.get(cacheKey);
+			if (sql == null) {
+				sql = "DELETE FROM " + tableMapping.fullyQualifiedTableName() + chunk.whereClause(tableMapping, dialect);
+				deleteWhereSqlCache.put(cacheKey, sql);
+			}
+			cnt += sjmSupport.getJdbcTemplate().update(sql, chunk.getArgs(tableMapping).toArray());
+		}
+		return cnt;
+	}
+
 	SimpleCache<Class<?>, String> getDeleteSqlCache() {
 		return deleteSqlCache;
 	}
 
+	LruCache<WhereSqlKey, String> getDeleteWhereSqlCache() {
+		return deleteWhereSqlCache;
+	}
+
+	record WhereSqlKey(Class<?> entityType, String criteriaKey) {
+	}
+
 }
\ No newline at end of file
@@ -13,16 +13,16 @@
  */
 package io.github.simplejdbcmapper.core;
 
-import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import io.github.simplejdbcmapper.exception.MapperException;
 
@@ -56,6 +56,12 @@ import io.github.simplejdbcmapper.exception.MapperException;
  * query ResultSet in a performant way.
  * 
  * <p>
+ * An EntityRowMapper is thread safe. SimpleJdbcMapper creates one per mapped
+ * class and hands out the same instance on subsequent calls. With
+ * {@link io.github.simplejdbcmapper.core.SimpleJdbcMapper#setGeneratedRowMappers(boolean)}
+ * the columns are mapped by a class generated at runtime for the mapped class.
+ * 
+ * <p>
  * Query:
  * 
  * <pre>
@@ -84,155 +90,176 @@ import io.github.simplejdbcmapper.exception.MapperException;
  * @author Antony Joseph
  */
 public final class EntityRowMapper<T> implements RowMapper<T> {
-	private static final Logger logger = LoggerFactory.getLogger(EntityRowMapper.class);
-
 	private final ConversionService conversionService;
 	private final PropertyMapping[] propertyMappings;
-	private final Constructor<T> mappedObjConstructor;
+	private final ColumnReader[] columnReaders;
+	private final PropertyMapping[] lazyPropertyMappings;
+	private final LobLoader[] lobLoaders;
+	private final PropertyMapping idPropertyMapping;
+	private final Supplier<Object> mappedObjInstantiator;
+	private final Class<?> mappedObjType;
 	private final int startIndex;
 	private final int endIndex;
+	private final TableMapping tableMapping;
+	// null if the mapped objects do not get snapshots
+	private final EntitySnapshots entitySnapshots;
+	private final boolean generateRowPopulator;
+	// null if not requested or the generation failed. The columnReaders are used
+	// instead.
+	private final RowPopulator rowPopulator;
 
-	@SuppressWarnings("unchecked")
-	EntityRowMapper(TableMapping tableMapping, ConversionService conversionService, int offset) {
+	EntityRowMapper(TableMapping tableMapping, ConversionService conversionService, int offset,
+			NamedParameterJdbcTemplate npJdbcTemplate, EntitySnapshots entitySnapshots) {
+		this(tableMapping, tableMapping.getPropertyMappings(), conversionService, offset, npJdbcTemplate,
+				entitySnapshots, false);
+	}
+
+	EntityRowMapper(TableMapping tableMapping, ConversionService conversionService, int offset,
+			NamedParameterJdbcTemplate npJdbcTemplate, EntitySnapshots entitySnapshots,
+			boolean generateRowPopulator) {
+		this(tableMapping, tableMapping.getPropertyMappings(), conversionService, offset, npJdbcTemplate,
+				entitySnapshots, generateRowPopulator);
+	}
+
+	EntityRowMapper(TableMapping tableMapping, PropertyMapping[] propertyMappings, ConversionService conversionService,
+			int offset, NamedParameterJdbcTemplate npJdbcTemplate, EntitySnapshots entitySnapshots) {
+		this(tableMapping, propertyMappings, conversionService, offset, npJdbcTemplate, entitySnapshots, false);
+	}
+
+	// propertyMappings can be a subset of the table mapping properties, for
+	// example for projections. The sql columns have to be in the same order and
+	// do not include the lazy properties. Only objects with all the properties
+	// mapped can get snapshots.
+	EntityRowMapper(TableMapping tableMapping, PropertyMapping[] propertyMappings, ConversionService conversionService,
+			int offset, NamedParameterJdbcTemplate npJdbcTemplate, EntitySnapshots entitySnapshots,
+			boolean generateRowPopulator) {
 		this.conversionService = conversionService;
-		this.propertyMappings = tableMapping.getPropertyMappings();
-		this.mappedObjConstructor = tableMapping.getMappedObjConstructor();
+		this.tableMapping = tableMapping;
+		this.entitySnapshots = entitySnapshots;
+		this.propertyMappings = Arrays.stream(propertyMappings).filter(pm -> !pm.isLazy())
+				.toArray(PropertyMapping[]::new);
+		this.lazyPropertyMappings = Arrays.stream(propertyMappings).filter(PropertyMapping::isLazy)
+				.toArray(PropertyMapping[]::new);
+		this.mappedObjInstantiator = tableMapping.getMappedObjInstantiator();
+		this.mappedObjType = tableMapping.getMappedObjType();
+		// decide once how each column value gets extracted so the per row processing
+		// does not have to.
+		this.columnReaders = new ColumnReader[this.propertyMappings.length];
+		for (int i = 0; i < this.propertyMappings.length; i++) {
+			columnReaders[i] = ColumnReader.of(this.propertyMappings[i], conversionService);
+		}
+		// the lazy properties get a handle which loads the value by id.
+		this.lobLoaders = new LobLoader[lazyPropertyMappings.length];
+		for (int i = 0; i < lazyPropertyMappings.length; i++) {
+			lobLoaders[i] = new LobLoader(npJdbcTemplate, tableMapping, lazyPropertyMappings[i], conversionService);
+		}
+		this.idPropertyMapping = tableMapping.getIdPropertyMapping();
+		if (lazyPropertyMappings.length > 0 && !Arrays.asList(this.propertyMappings).contains(idPropertyMapping)) {
+			throw new MapperException("The id property " + mappedObjType.getSimpleName() + "."
+					+ idPropertyMapping.getPropertyName() + " is required to map the lazy properties");
+		}
 		// offset is used for multi entity query resultSet
 		this.startIndex = offset;
-		this.endIndex = propertyMappings.length + offset - 1;
+		this.endIndex = this.propertyMappings.length + offset - 1;
+		this.generateRowPopulator = generateRowPopulator;
+		this.rowPopulator = generateRowPopulator
+				? RowPopulatorGenerator.generate(mappedObjType, this.propertyMappings, columnReaders)
+				: null;
 	}
 
 	@Override
 	public T mapRow(ResultSet rs, int rowNumber) throws SQLException {
-		T obj = null;
+		return mapRowInto(rs, null);
+	}
+
+	/**
+	 * Maps the current row into the given object. Every mapped property is
+	 * assigned (including nulls) so an instance can be reused across rows. A new
+	 * object is created if the object is null.
+	 * 
+	 * @param rs  the ResultSet
+	 * @param obj the object to populate. Can be null
+	 * @return the populated object
+	 */
+	T mapRowInto(ResultSet rs, T obj) {
 		try {
-			obj = mappedObjConstructor.newInstance();
-			boolean[] typedValueExtracted = { true };
+			if (obj == null) {
+				obj = newMappedObject();
+			}
 			// since the sql columns were generated using the property mappings the
 			// resultset columns will be in same order.
-			for (int index = startIndex; index <= endIndex; index++) {
-				// propertyMappings index starts at 0
-				PropertyMapping propMapping = propertyMappings[index - startIndex];
-				Object value = getResultSetValue(rs, index, propMapping.getResultSetType(),
-						propMapping.getPropertyType(), typedValueExtracted);
-				if (typedValueExtracted[0] || value == null) {
-					propMapping.getWriteMethod().invoke(obj, value);
-				} else {
-					propMapping.getWriteMethod().invoke(obj,
-							conversionService.convert(value, propMapping.getPropertyType()));
+			if (rowPopulator != null) {
+				rowPopulator.populate(rs, obj, startIndex);
+			} else {
+				PropertyMapping[] mappings = propertyMappings;
+				ColumnReader[] readers = columnReaders;
+				for (int i = 0; i < mappings.length; i++) {
+					mappings[i].getWriteAccessor().accept(obj, readers[i].read(rs, startIndex + i));
 				}
 			}
+			if (lobLoaders.length > 0) {
+				assignLazyHandles(obj);
+			}
+			if (entitySnapshots != null) {
+				entitySnapshots.take(obj, tableMapping);
+			}
 		} catch (Exception e) {
 			throw new MapperException(e.getMessage(), e);
 		}
 		return obj;
 	}
 
-	/*
-	 * Same logic as Spring's JdbcUtil.getResultSetValue().
-	 * JdbcUtil.getResultSetValue() logic has been proven over the years, retaining
-	 * its logic but changed the structure to use 'switch' statement with enums
-	 * instead of the bunch of if/else's for performance reasons. As was the goal,
-	 * java compiled the switch statement into a 'tableswitch' which means the
-	 * program will jump directly to the correct 'case' block in one step.
+	private void assignLazyHandles(T obj) {
+		Object id = idPropertyMapping.getReadAccessor().apply(obj);
+		for (int i = 0; i < lobLoaders.length; i++) {
+			lazyPropertyMappings[i].getWriteAccessor().accept(obj, id == null ? null : lobLoaders[i].newHandle(id));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	T newMappedObject() {
+		return (T) mappedObjInstantiator.get();
+	}
+
+	ConversionService getConversionService() {
+		return conversionService;
+	}
+
+	EntitySnapshots getEntitySnapshots() {
+		return entitySnapshots;
+	}
+
+	boolean isGenerateRowPopulator() {
+		return generateRowPopulator;
+	}
+
+	boolean isRowPopulatorGenerated() {
+		return rowPopulator != null;
+	}
+
+	/**
+	 * Gets the strategy used to read the values of properties whose types are
+	 * retrieved using ResultSet.getObject(int, Class). The strategy is resolved on
+	 * the first row processed.
+	 * 
+	 * @return map of property name and strategy
 	 */
-	private Object getResultSetValue(ResultSet rs, int index, ResultSetType resultSetType, Class<?> requiredType,
-			boolean[] typedValueExtracted) throws SQLException {
-		typedValueExtracted[0] = true;
-		Object value;
-		// Explicitly extract typed value, as far as possible.
-		switch (resultSetType) {
-		case ResultSetType.STRING:
-			return rs.getString(index);
-		case ResultSetType.BOOLEAN:
-			value = rs.getBoolean(index);
-			break;
-		case ResultSetType.BYTE:
-			value = rs.getByte(index);
-			break;
-		case ResultSetType.SHORT:
-			value = rs.getShort(index);
-			break;
-		case ResultSetType.INTEGER:
-			value = rs.getInt(index);
-			break;
-		case ResultSetType.LONG:
-			value = rs.getLong(index);
-			break;
-		case ResultSetType.FLOAT:
-			value = rs.getFloat(index);
-			break;
-		case ResultSetType.DOUBLE:
-			value = rs.getDouble(index);
-			break;
-		case ResultSetType.NUMBER: // same as double
-			value = rs.getDouble(index);
-			break;
-		case ResultSetType.BIGDECIMAL:
-			return rs.getBigDecimal(index);
-		case ResultSetType.DATE:
-			return rs.getDate(index);
-		case ResultSetType.TIME:
-			return rs.getTime(index);
-		case ResultSetType.TIMESTAMP:
-			return rs.getTimestamp(index);
-		case ResultSetType.UTILDATE: // java.util.Date. same as timestamp
-			return rs.getTimestamp(index);
-		case ResultSetType.BYTEARRAY:
-			return rs.getBytes(index);
-		case ResultSetType.BLOB:
-			return rs.getBlob(index);
-		case ResultSetType.CLOB:
-			return rs.getClob(index);
-		case ResultSetType.ENUM:
-			typedValueExtracted[0] = false;
-			// Enums are represented as a String in simpleJdbcMapper.
-			// leave enum type conversion up to the caller (for example, a
-			// ConversionService) but make sure that we return nothing other than a String
-			Object obj = rs.getObject(index);
-			if (obj instanceof String) {
-				return obj;
-			} else {
-				// for example, on Postgres: getObject returns a PGObject, but we need a String
-				return rs.getString(index);
+	Map<String, String> getColumnReadStrategies() {
+		Map<String, String> map = new LinkedHashMap<>();
+		for (ColumnReader reader : columnReaders) {
+			if (reader instanceof ColumnReader.GetObjectColumnReader getObjectReader) {
+				map.put(getObjectReader.getPropertyName(), getObjectReader.getStrategy().name());
 			}
-		default:
-			// Some unknown type desired -> rely on getObject.
-			try {
-				return rs.getObject(index, requiredType);
-			} catch (SQLFeatureNotSupportedException | AbstractMethodError ex) {
-				if (logger.isDebugEnabled()) {
-					logger.debug("JDBC driver does not support JDBC 4.1 'getObject(int, Class)' method", ex);
-				}
-			} catch (SQLException ex) {
-				if (logger.isDebugEnabled()) {
-					logger.debug("JDBC driver has limited support for 'getObject(int, Class)' with column type: "
-							+ requiredType.getName(), ex);
-				}
-			}
-			typedValueExtracted[0] = false;
-
-			// Corresponding SQL types for JSR-310, left up to the caller to convert
-			// them (for example, through a ConversionService).
-			String typeName = requiredType.getSimpleName();
-			return switch (typeName) {
-			case "LocalDate" -> rs.getDate(index);
-			case "LocalTime" -> rs.getTime(index);
-			case "LocalDateTime" -> rs.getTimestamp(index);
-			// Fall back to getObject without type specification, again
-			// left up to the caller to convert the value if necessary.
-			default -> JdbcUtils.getResultSetValue(rs, index);
-			};
-
 		}
-		// Perform was-null check if necessary (for results that the JDBC driver returns
-		// as primitives).
-		return (rs.wasNull() ? null : value);
+		return map;
 	}
 
 	@Override
 	public String toString() {
-		return mappedObjConstructor.getName() + " startIndex: " + startIndex + " endIndex: " + endIndex;
+		String str = mappedObjType.getName() + " startIndex: " + startIndex + " endIndex: " + endIndex
+				+ (rowPopulator != null ? " generated" : "");
+		Map<String, String> strategies = getColumnReadStrategies();
+		return strategies.isEmpty() ? str : str + " getObject strategies: " + strategies;
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The snapshots of the property values of loaded entities, used to update only
+ * the properties which have changed since the entity was loaded.
+ * 
+ * <p>
+ * The entities are held by identity with weak references so a snapshot goes
+ * away with its entity.
+ *
+ * @author Antony Joseph
+ */
+class EntitySnapshots {
+	private final Map<IdentityKey, Object[]> snapshots = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Takes a snapshot of the current property values of the entity. The values
+	 * are in the order of {@link TableMapping#getPropertyMappings()}.
+	 * 
+	 * @param entity       the entity
+	 * @param tableMapping the table mapping of the entity
+	 */
+	public void take(Object entity, TableMapping tableMapping) {
+		expungeStaleEntries();
+		PropertyMapping[] propertyMappings = tableMapping.getPropertyMappings();
+		Object[] values = new Object[propertyMappings.length];
+		for (int i = 0; i < propertyMappings.length; i++) {
+			values[i] = copy(propertyMappings[i].getReadAccessor().apply(entity));
+		}
+		snapshots.put(new IdentityKey(entity, queue), values);
+	}
+
+	public Object[] get(Object entity) {
+		expungeStaleEntries();
+		return snapshots.get(new IdentityKey(entity, null));
+	}
+
+	public void remove(Object entity) {
+		snapshots.remove(new IdentityKey(entity, null));
+	}
+
+	public int size() {
+		expungeStaleEntries();
+		return snapshots.size();
+	}
+
+	/**
+	 * Whether the value of a property is the same as its value in the snapshot.
+	 * 
+	 * @param snapshotValue the value in the snapshot
+	 * @param value         the current value
+	 * @return true if unchanged
+	 */
+	public static boolean isUnchanged(Object snapshotValue, Object value) {
+		return Objects.deepEquals(snapshotValue, value);
+	}
+
+	// byte arrays are copied so changes made in place are detected
+	private static Object copy(Object value) {
+		return value instanceof byte[] bytes ? bytes.clone() : value;
+	}
+
+	private void expungeStaleEntries() {
+		Reference<?> ref;
+		while ((ref = queue.poll()) != null) {
+			snapshots.remove(ref);
+		}
+	}
+
+	private static class IdentityKey extends WeakReference<Object> {
+		private final int hash;
+
+		IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof IdentityKey other)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == other.get();
+		}
+	}
+
+}
@@ -31,7 +31,7 @@ class EntityWrapper {
 
 	public Object getPropertyValue(PropertyMapping propMapping) {
 		try {
-			return propMapping.getReadMethod().invoke(object);
+			return propMapping.getReadAccessor().apply(object);
 		} catch (Exception e) {
 			throw new MapperException(e.getMessage() + " error while trying to get value of "
 					+ object.getClass().getSimpleName() + "." + propMapping.getPropertyName(), e);
@@ -45,11 +45,15 @@ class EntityWrapper {
 	public void setPropertyValue(PropertyMapping propMapping, Object val, ConversionService conversionService) {
 		try {
 			if (conversionService == null) {
-				propMapping.getWriteMethod().invoke(object, val);
+				propMapping.getWriteAccessor().accept(object, val);
 			} else {
-				propMapping.getWriteMethod().invoke(object,
+				propMapping.getWriteAccessor().accept(object,
 						conversionService.convert(val, propMapping.getPropertyType()));
 			}
+		} catch (ClassCastException e) {
+			// keep the message consistent with what Method.invoke() reports
+			throw new MapperException(
+					"argument type mismatch. Invoking " + propMapping.getWriteMethod() + " with value " + val, e);
 		} catch (Exception e) {
 			throw new MapperException(
 					e.getMessage() + ". Invoking " + propMapping.getWriteMethod() + " with value " + val, e);
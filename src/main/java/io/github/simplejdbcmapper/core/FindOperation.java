@@ -13,20 +13,38 @@
  */
 package io.github.simplejdbcmapper.core;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SqlParameterValue;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -41,12 +59,34 @@ class FindOperation {
 	private static final Logger logger = LoggerFactory.getLogger(FindOperation.class);
 
 	private static final String ENTITY_TYPE_MUST_NOT_BE_NULL = "entityType must not be null";
+
+	private static final String OPTIONS_MUST_NOT_BE_NULL = "options must not be null";
+
+	private static final Set<Class<?>> SCANNABLE_ID_TYPES = Set.of(Integer.class, Long.class, Short.class,
+			BigInteger.class);
+
 	private final SimpleJdbcMapperSupport sjmSupport;
 
 	private final SimpleCache<Class<?>, String> findByIdSqlCache = new SimpleCache<>();
 
 	private final SimpleCache<Class<?>, String> entitySqlColumnsCache = new SimpleCache<>();
 
+	// EntityRowMapper is immutable so one instance per entity is shared across
+	// queries.
+	private final SimpleCache<Class<?>, EntityRowMapper<?>> entityRowMapperCache = new SimpleCache<>();
+
+	// Map key - classname:sortKeys-first/next
+	// value - the page sql
+	private final SimpleCache<String, String> findPageSqlCache = new SimpleCache<>(3000);
+
+	// Map key - classname-ordered/unordered
+	// value - the partition sql
+	private final SimpleCache<String, String> parallelScanSqlCache = new SimpleCache<>();
+
+	// Map key - classname:projection
+	// value - the sql columns and row mapper for the projected properties
+	private final SimpleCache<String, ProjectionMapping> projectionMappingCache = new SimpleCache<>(3000);
+
 	// Map key - classname-tableAlias
 	// value - the column sql string
 	private final SimpleCache<String, String> entitySqlColumnsAliasCache = new SimpleCache<>(3000);
@@ -64,57 +104,276 @@ class FindOperation {
 					+ " WHERE " + tableMapping.getIdColumnName() + " = ?";
 			findByIdSqlCache.put(entityType, sql);
 		}
-		T obj = null;
-		try {
-			obj = sjmSupport.getJdbcTemplate().queryForObject(sql, newEntityRowMapper(entityType),
-					new SqlParameterValue(tableMapping.getIdPropertyMapping().getColumnSqlType(), getValue(id)));
-		} catch (EmptyResultDataAccessException e) {
-			// do nothing
-		}
-		return obj;
+		List<T> list = sjmSupport.getJdbcTemplate().query(
+				preparedStatementCreator(queryOptions(tableMapping, QueryOptions.NONE, false), sql,
+						new SqlParameterValue(tableMapping.getIdPropertyMapping().getColumnSqlType(), getValue(id))),
+				newEntityRowMapper(entityType));
+		return DataAccessUtils.singleResult(list);
 	}
 
 	public <T> List<T> findAll(Class<T> entityType, SortBy... sortByArray) {
+		return findAll(entityType, QueryOptions.NONE, sortByArray);
+	}
+
+	public <T> List<T> findAll(Class<T> entityType, QueryOptions options, SortBy... sortByArray) {
 		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
-		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
-		StringBuilder sql = new StringBuilder(256);
-		sql.append("SELECT ").append(getEntitySqlColumns(entityType)).append(" FROM ")
-				.append(tableMapping.fullyQualifiedTableName())
-				.append(orderByClause(entityType, sortByArray, tableMapping));
-		return sjmSupport.getJdbcTemplate().query(sql.toString(), newEntityRowMapper(entityType));
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
+		return sjmSupport.getJdbcTemplate().query(
+				preparedStatementCreator(queryOptions(entityType, options, false), findAllSql(entityType, sortByArray)),
+				newEntityRowMapper(entityType));
 	}
 
-	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+	public <T> List<T> findAll(Class<T> entityType, Projection projection, SortBy... sortByArray) {
+		return findAll(entityType, projection, QueryOptions.NONE, sortByArray);
+	}
+
+	public <T> List<T> findAll(Class<T> entityType, Projection projection, QueryOptions options,
 			SortBy... sortByArray) {
 		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
-		Assert.notNull(propertyName, "propertyName must not be null");
+		Assert.notNull(projection, "projection must not be null");
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
 		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
-		PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(propertyName);
-		if (propMapping == null) {
-			throw new MapperException(entityType.getSimpleName() + "." + propertyName + " does not have a mapping.");
-		}
-		StringBuilder sql = new StringBuilder(256);
-		sql.append("SELECT ").append(getEntitySqlColumns(entityType)).append(" FROM ")
-				.append(tableMapping.fullyQualifiedTableName()).append(" WHERE ");
-		if (propertyValue == null) {
-			sql.append(propMapping.getColumnName()).append(" IS NULL");
+		ProjectionMapping projectionMapping = getProjectionMapping(entityType, projection);
+		String sql = "SELECT " + projectionMapping.sqlColumns() + " FROM " + tableMapping.fullyQualifiedTableName()
+				+ orderByClause(entityType, sortByArray, tableMapping);
+		return sjmSupport.getJdbcTemplate().query(
+				preparedStatementCreator(queryOptions(tableMapping, options, false), sql),
+				projectionMapping.rowMapper(entityType));
+	}
+
+	public <T> Stream<T> streamAll(Class<T> entityType, SortBy... sortByArray) {
+		return streamAll(entityType, QueryOptions.NONE, sortByArray);
+	}
+
+	public <T> Stream<T> streamAll(Class<T> entityType, QueryOptions options, SortBy... sortByArray) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
+		return queryForStream(queryOptions(entityType, options, true), findAllSql(entityType, sortByArray),
+				newEntityRowMapper(entityType));
+	}
+
+	public <T> void forEach(Class<T> entityType, Consumer<? super T> action, boolean reuseInstance,
+			QueryOptions options, SortBy... sortByArray) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(action, "action must not be null");
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
+		String sql = findAllSql(entityType, sortByArray);
+		EntityRowMapper<T> rowMapper = newEntityRowMapper(entityType);
+		RowCallbackHandler rch;
+		if (reuseInstance) {
+			// one instance for the whole query which runs on the calling thread.
+			T instance = rowMapper.newMappedObject();
+			rch = rs -> action.accept(rowMapper.mapRowInto(rs, instance));
 		} else {
-			sql.append(propMapping.getColumnName()).append(" = ?");
+			rch = rs -> action.accept(rowMapper.mapRowInto(rs, null));
 		}
-		sql.append(orderByClause(entityType, sortByArray, tableMapping));
-		if (propertyValue == null) {
-			return sjmSupport.getJdbcTemplate().query(sql.toString(), newEntityRowMapper(entityType));
-		} else {
-			return sjmSupport.getJdbcTemplate().query(sql.toString(), newEntityRowMapper(entityType),
-					new SqlParameterValue(propMapping.getColumnSqlType(), getValue(propertyValue)));
+		sjmSupport.getJdbcTemplate().query(preparedStatementCreator(queryOptions(entityType, options, true), sql), rch);
+	}
+
+	public <T> Page<T> findPage(Class<T> entityType, PageRequest pageRequest) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(pageRequest, "pageRequest must not be null");
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		SortKey[] sortKeys = sortKeys(entityType, pageRequest.getSortByArray(), tableMapping);
+		PropertyMapping[] keyMappings = new PropertyMapping[sortKeys.length];
+		StringJoiner fingerprint = new StringJoiner(",", entityType.getName() + ":", "");
+		for (int i = 0; i < sortKeys.length; i++) {
+			keyMappings[i] = sortKeys[i].propMapping();
+			fingerprint.add(keyMappings[i].getPropertyName() + (sortKeys[i].descending() ? " DESC" : " ASC"));
+		}
+		boolean firstPage = pageRequest.getContinuationToken() == null;
+		String cacheKey = fingerprint + (firstPage ? "-first" : "-next");
+		String sql = findPageSqlCache.get(cacheKey);
+		if (sql == null) {
+			sql = findPageSql(entityType, sortKeys, firstPage, tableMapping);
+			findPageSqlCache.put(cacheKey, sql);
 		}
+		List<Object> params = new ArrayList<>();
+		if (!firstPage) {
+			Object[] values = PageToken.decode(pageRequest.getContinuationToken(), fingerprint.toString(),
+					keyMappings, sjmSupport.getConversionService());
+			// parameters for: (k1 > ?) OR (k1 = ? AND k2 > ?) OR ...
+			for (int i = 0; i < keyMappings.length; i++) {
+				for (int j = 0; j <= i; j++) {
+					params.add(new SqlParameterValue(keyMappings[j].getColumnSqlType(), getValue(values[j])));
+				}
+			}
+		}
+		int pageSize = pageRequest.getPageSize();
+		// fetch one more row than needed to figure out whether there is a next page
+		params.add(pageSize + 1);
+		List<T> list = sjmSupport.getJdbcTemplate().query(
+				preparedStatementCreator(queryOptionsWithoutMaxRows(tableMapping, QueryOptions.NONE, false), sql,
+						params.toArray()),
+				newEntityRowMapper(entityType));
+		String continuationToken = null;
+		if (list.size() > pageSize) {
+			list = new ArrayList<>(list.subList(0, pageSize));
+			T last = list.get(pageSize - 1);
+			Object[] values = new Object[keyMappings.length];
+			for (int i = 0; i < keyMappings.length; i++) {
+				values[i] = keyMappings[i].getReadAccessor().apply(last);
+				if (values[i] == null) {
+					throw new MapperException("findPage() does not support null values for sort property "
+							+ entityType.getSimpleName() + "." + keyMappings[i].getPropertyName());
+				}
+			}
+			continuationToken = PageToken.encode(fingerprint.toString(), values, sjmSupport.getConversionService());
+		}
+		return new Page<>(list, pageRequest, continuationToken);
+	}
+
+	public <T> void parallelScan(Class<T> entityType, int partitions, int maxConcurrency, boolean ordered,
+			QueryOptions callOptions, Consumer<? super List<T>> action) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(callOptions, OPTIONS_MUST_NOT_BE_NULL);
+		Assert.notNull(action, "action must not be null");
+		if (partitions < 1 || maxConcurrency < 1) {
+			throw new IllegalArgumentException("partitions and maxConcurrency must be greater than 0");
+		}
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		PropertyMapping idMapping = tableMapping.getIdPropertyMapping();
+		if (!SCANNABLE_ID_TYPES.contains(idMapping.getPropertyType())) {
+			throw new MapperException("parallelScan() requires an id of type Integer, Long, Short or BigInteger. "
+					+ entityType.getSimpleName() + "." + idMapping.getPropertyName() + " is of type "
+					+ idMapping.getPropertyType().getSimpleName());
+		}
+		List<BigInteger[]> ranges = partitionIdRange(tableMapping, partitions);
+		if (ranges.isEmpty()) {
+			return;
+		}
+		String cacheKey = entityType.getName() + (ordered ? "-ordered" : "-unordered");
+		String sql = parallelScanSqlCache.get(cacheKey);
+		if (sql == null) {
+			sql = "SELECT " + getEntitySqlColumns(entityType) + " FROM " + tableMapping.fullyQualifiedTableName()
+					+ " WHERE " + idMapping.getColumnName() + " >= ? AND " + idMapping.getColumnName() + " <= ?"
+					+ (ordered ? " ORDER BY " + idMapping.getColumnName() : "");
+			parallelScanSqlCache.put(cacheKey, sql);
+		}
+		String partitionSql = sql;
+		EntityRowMapper<T> rowMapper = newEntityRowMapper(entityType);
+		QueryOptions options = queryOptionsWithoutMaxRows(tableMapping, callOptions, true);
+		ConversionService conversionService = sjmSupport.getConversionService();
+		// A partition is only submitted while the partitions being queried plus the
+		// ones waiting to be delivered are less than maxConcurrency, and it stays
+		// pending until the action has consumed it. This bounds the connections taken
+		// from the pool as well as the partition results held in memory. The partition
+		// results are handed to the action on the calling thread so it does not need to
+		// be thread safe.
+		Deque<Future<List<T>>> pending = new ArrayDeque<>(maxConcurrency);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			// only the unordered delivery uses the completion queue. For the ordered one
+			// it would keep references to the results which were already delivered.
+			CompletionService<List<T>> completionService = ordered ? null
+					: new ExecutorCompletionService<>(executor);
+			int next = 0;
+			// the pending partitions have to be cancelled before the executor is closed
+			// since close() waits for the tasks to complete.
+			try {
+				while (next < ranges.size() || !pending.isEmpty()) {
+					while (next < ranges.size() && pending.size() < maxConcurrency) {
+						BigInteger[] range = ranges.get(next++);
+						SqlParameterValue from = new SqlParameterValue(idMapping.getColumnSqlType(),
+								conversionService.convert(range[0], idMapping.getPropertyType()));
+						SqlParameterValue to = new SqlParameterValue(idMapping.getColumnSqlType(),
+								conversionService.convert(range[1], idMapping.getPropertyType()));
+						Callable<List<T>> task = () -> sjmSupport.getJdbcTemplate()
+								.query(preparedStatementCreator(options, partitionSql, from, to), rowMapper);
+						pending.add(ordered ? executor.submit(task) : completionService.submit(task));
+					}
+					// ordered: in id range order. unordered: as the partitions complete.
+					Future<List<T>> future = ordered ? pending.peekFirst() : completionService.take();
+					List<T> list = future.get();
+					action.accept(list);
+					pending.remove(future);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancel(pending);
+				throw new MapperException("parallelScan() was interrupted", e);
+			} catch (ExecutionException e) {
+				cancel(pending);
+				if (e.getCause() instanceof RuntimeException re) {
+					throw re;
+				} else if (e.getCause() instanceof Error err) {
+					throw err;
+				}
+				throw new MapperException(e.getCause().getMessage(), (Exception) e.getCause());
+			} catch (RuntimeException e) {
+				// thrown by the action
+				cancel(pending);
+				throw e;
+			}
+		}
+	}
+
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			SortBy... sortByArray) {
+		return findByPropertyValue(entityType, propertyName, propertyValue, QueryOptions.NONE, sortByArray);
+	}
+
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			QueryOptions options, SortBy... sortByArray) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(propertyName, "propertyName must not be null");
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
+		PropertyMapping propMapping = getPropertyMapping(entityType, propertyName);
+		String sql = findByPropertyValueSql(entityType, getEntitySqlColumns(entityType), propMapping, propertyValue,
+				sortByArray);
+		return sjmSupport.getJdbcTemplate().query(preparedStatementCreator(queryOptions(entityType, options, false),
+				sql, propertyValueArgs(propMapping, propertyValue)), newEntityRowMapper(entityType));
+	}
+
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			Projection projection, SortBy... sortByArray) {
+		return findByPropertyValue(entityType, propertyName, propertyValue, projection, QueryOptions.NONE,
+				sortByArray);
+	}
+
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			Projection projection, QueryOptions options, SortBy... sortByArray) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(propertyName, "propertyName must not be null");
+		Assert.notNull(projection, "projection must not be null");
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
+		PropertyMapping propMapping = getPropertyMapping(entityType, propertyName);
+		ProjectionMapping projectionMapping = getProjectionMapping(entityType, projection);
+		String sql = findByPropertyValueSql(entityType, projectionMapping.sqlColumns(), propMapping, propertyValue,
+				sortByArray);
+		return sjmSupport.getJdbcTemplate().query(
+				preparedStatementCreator(queryOptions(entityType, options, false), sql,
+						propertyValueArgs(propMapping, propertyValue)),
+				projectionMapping.rowMapper(entityType));
+	}
+
+	public <T> Stream<T> streamByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			SortBy... sortByArray) {
+		return streamByPropertyValue(entityType, propertyName, propertyValue, QueryOptions.NONE, sortByArray);
+	}
+
+	public <T> Stream<T> streamByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			QueryOptions options, SortBy... sortByArray) {
+		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
+		Assert.notNull(propertyName, "propertyName must not be null");
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
+		PropertyMapping propMapping = getPropertyMapping(entityType, propertyName);
+		String sql = findByPropertyValueSql(entityType, getEntitySqlColumns(entityType), propMapping, propertyValue,
+				sortByArray);
+		return queryForStream(queryOptions(entityType, options, true), sql, newEntityRowMapper(entityType),
+				propertyValueArgs(propMapping, propertyValue));
 	}
 
 	public <T, U> List<T> findByPropertyValues(Class<T> entityType, String propertyName, Collection<U> propertyValues,
 			SortBy... sortByArray) {
+		return findByPropertyValues(entityType, propertyName, propertyValues, QueryOptions.NONE, sortByArray);
+	}
+
+	public <T, U> List<T> findByPropertyValues(Class<T> entityType, String propertyName, Collection<U> propertyValues,
+			QueryOptions options, SortBy... sortByArray) {
 		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
 		Assert.notNull(propertyName, "propertyName must not be null");
 		Assert.notNull(propertyValues, "propertyValues must not be null");
+		Assert.notNull(options, OPTIONS_MUST_NOT_BE_NULL);
 		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
 		PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(propertyName);
 		if (propMapping == null) {
@@ -128,24 +387,27 @@ class FindOperation {
 		StringBuilder sql = new StringBuilder(256);
 		sql.append("SELECT ").append(getEntitySqlColumns(entityType)).append(" FROM ")
 				.append(tableMapping.fullyQualifiedTableName()).append(" WHERE ");
+		// positional parameters, same as what NamedParameterJdbcTemplate would expand
+		// an 'IN (:propertyValues)' to, so the statement settings can be applied.
+		Object[] args = new Object[localPropertyValues.size()];
 		if (ObjectUtils.isEmpty(localPropertyValues)) {
 			sql.append(propMapping.getColumnName()).append(" IS NULL");
 		} else {
-			sql.append(propMapping.getColumnName()).append(" IN (:propertyValues)");
+			StringJoiner sj = new StringJoiner(", ", " IN (", ")");
+			int i = 0;
+			for (Object value : getValues(localPropertyValues)) {
+				sj.add("?");
+				args[i++] = new SqlParameterValue(propMapping.getColumnSqlType(), value);
+			}
+			sql.append(propMapping.getColumnName()).append(sj);
 			if (hasNullInSet) {
 				sql.append(" OR ").append(propMapping.getColumnName()).append(" IS NULL");
 			}
 		}
 		sql.append(orderByClause(entityType, sortByArray, tableMapping));
-		if (ObjectUtils.isEmpty(localPropertyValues)) {
-			return sjmSupport.getJdbcTemplate().query(sql.toString(), newEntityRowMapper(entityType));
-		} else {
-			Set<?> values = getValues(localPropertyValues);
-			MapSqlParameterSource param = new MapSqlParameterSource();
-			param.addValue("propertyValues", values, propMapping.getColumnSqlType());
-			return sjmSupport.getNamedParameterJdbcTemplate().query(sql.toString(), param,
-					newEntityRowMapper(entityType));
-		}
+		return sjmSupport.getJdbcTemplate().query(
+				preparedStatementCreator(queryOptions(tableMapping, options, false), sql.toString(), args),
+				newEntityRowMapper(entityType));
 	}
 
 	public String getEntitySqlColumns(Class<?> entityType) {
@@ -154,7 +416,7 @@ class FindOperation {
 		if (columnsSql == null) {
 			TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
 			StringJoiner sj = new StringJoiner(", ", " ", " ");
-			for (PropertyMapping propMapping : tableMapping.getPropertyMappings()) {
+			for (PropertyMapping propMapping : tableMapping.getSelectPropertyMappings()) {
 				sj.add(propMapping.getColumnName());
 			}
 			columnsSql = sj.toString();
@@ -172,7 +434,7 @@ class FindOperation {
 			String tablePrefix = tableAlias + ".";
 			TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
 			StringJoiner sj = new StringJoiner(", ");
-			for (PropertyMapping propMapping : tableMapping.getPropertyMappings()) {
+			for (PropertyMapping propMapping : tableMapping.getSelectPropertyMappings()) {
 				sj.add(tablePrefix + propMapping.getColumnName());
 			}
 			columnsSql = sj.toString();
@@ -195,11 +457,23 @@ class FindOperation {
 		return sb.toString();
 	}
 
+	@SuppressWarnings("unchecked")
 	public <T> EntityRowMapper<T> newEntityRowMapper(Class<T> entityType) {
-		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
-		EntityRowMapper<T> rowMapper = new EntityRowMapper<>(tableMapping, sjmSupport.getConversionService(), 1);
-		if (logger.isDebugEnabled()) {
-			logger.debug("EntityRowMapper: {}", rowMapper);
+		EntityRowMapper<T> rowMapper = (EntityRowMapper<T>) entityRowMapperCache.get(entityType);
+		// the conversion service, snapshot updates or generated row mappers could have
+		// been changed after the row mapper was cached.
+		if (rowMapper == null || rowMapper.getConversionService() != sjmSupport.getConversionService()
+				|| rowMapper.getEntitySnapshots() != sjmSupport.getEntitySnapshots()
+				|| rowMapper.isGenerateRowPopulator() != sjmSupport.isGeneratedRowMappers()) {
+			TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+			rowMapper = new EntityRowMapper<>(tableMapping, sjmSupport.getConversionService(), 1,
+					sjmSupport.getNamedParameterJdbcTemplate(), sjmSupport.getEntitySnapshots(),
+					sjmSupport.isGeneratedRowMappers());
+			entityRowMapperCache.remove(entityType);
+			entityRowMapperCache.put(entityType, rowMapper);
+			if (logger.isDebugEnabled()) {
+				logger.debug("EntityRowMapper: {}", rowMapper);
+			}
 		}
 		return rowMapper;
 	}
@@ -208,7 +482,7 @@ class FindOperation {
 		Assert.notNull(entityType, ENTITY_TYPE_MUST_NOT_BE_NULL);
 		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
 		StringJoiner sj = new StringJoiner(", ", " ", " ");
-		for (PropertyMapping propMapping : tableMapping.getPropertyMappings()) {
+		for (PropertyMapping propMapping : tableMapping.getSelectPropertyMappings()) {
 			String underscorePropertyName = InternalUtils.toUnderscoreName(propMapping.getPropertyName());
 			if (underscorePropertyName.equals(propMapping.getColumnName())) {
 				sj.add(propMapping.getColumnName());
@@ -225,7 +499,7 @@ class FindOperation {
 		String tablePrefix = tableAlias + ".";
 		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
 		StringJoiner sj = new StringJoiner(", ", " ", " ");
-		for (PropertyMapping propMapping : tableMapping.getPropertyMappings()) {
+		for (PropertyMapping propMapping : tableMapping.getSelectPropertyMappings()) {
 			String underscorePropertyName = InternalUtils.toUnderscoreName(propMapping.getPropertyName());
 			if (underscorePropertyName.equals(propMapping.getColumnName())) {
 				sj.add(tablePrefix + propMapping.getColumnName());
@@ -254,10 +528,236 @@ class FindOperation {
 		return entitySqlColumnsCache;
 	}
 
+	SimpleCache<Class<?>, EntityRowMapper<?>> getEntityRowMapperCache() {
+		return entityRowMapperCache;
+	}
+
+	SimpleCache<String, String> getFindPageSqlCache() {
+		return findPageSqlCache;
+	}
+
+	SimpleCache<String, String> getParallelScanSqlCache() {
+		return parallelScanSqlCache;
+	}
+
+	SimpleCache<String, ProjectionMapping> getProjectionMappingCache() {
+		return projectionMappingCache;
+	}
+
 	SimpleCache<String, String> getEntitySqlColumnsAliasCache() {
 		return entitySqlColumnsAliasCache;
 	}
 
+	// splits MIN(id) to MAX(id) into contiguous inclusive ranges.
+	private List<BigInteger[]> partitionIdRange(TableMapping tableMapping, int partitions) {
+		String idColumnName = tableMapping.getIdColumnName();
+		String sql = "SELECT MIN(" + idColumnName + "), MAX(" + idColumnName + ") FROM "
+				+ tableMapping.fullyQualifiedTableName();
+		BigDecimal[] minMax = sjmSupport.getJdbcTemplate().queryForObject(sql,
+				(rs, rowNum) -> new BigDecimal[] { rs.getBigDecimal(1), rs.getBigDecimal(2) });
+		List<BigInteger[]> ranges = new ArrayList<>();
+		if (minMax == null || minMax[0] == null) {
+			return ranges;
+		}
+		BigInteger min = minMax[0].toBigInteger();
+		BigInteger max = minMax[1].toBigInteger();
+		BigInteger span = max.subtract(min).add(BigInteger.ONE);
+		BigInteger count = span.min(BigInteger.valueOf(partitions));
+		BigInteger from = min;
+		for (long i = 1; i <= count.longValue(); i++) {
+			BigInteger next = min.add(span.multiply(BigInteger.valueOf(i)).divide(count));
+			ranges.add(new BigInteger[] { from, next.subtract(BigInteger.ONE) });
+			from = next;
+		}
+		return ranges;
+	}
+
+	private void cancel(Collection<? extends Future<?>> futures) {
+		for (Future<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+
+	private String findAllSql(Class<?> entityType, SortBy[] sortByArray) {
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		StringBuilder sql = new StringBuilder(256);
+		sql.append("SELECT ").append(getEntitySqlColumns(entityType)).append(" FROM ")
+				.append(tableMapping.fullyQualifiedTableName())
+				.append(orderByClause(entityType, sortByArray, tableMapping));
+		return sql.toString();
+	}
+
+	private String findPageSql(Class<?> entityType, SortKey[] sortKeys, boolean firstPage,
+			TableMapping tableMapping) {
+		StringBuilder sql = new StringBuilder(256);
+		sql.append("SELECT ").append(getEntitySqlColumns(entityType)).append(" FROM ")
+				.append(tableMapping.fullyQualifiedTableName());
+		if (!firstPage) {
+			// Expanded form of (k1, k2) > (?, ?) since not all databases support row
+			// value comparisons and the sort directions of the keys can differ.
+			sql.append(" WHERE (");
+			for (int i = 0; i < sortKeys.length; i++) {
+				if (i > 0) {
+					sql.append(" OR ");
+				}
+				sql.append("(");
+				for (int j = 0; j < i; j++) {
+					sql.append(sortKeys[j].propMapping().getColumnName()).append(" = ? AND ");
+				}
+				sql.append(sortKeys[i].propMapping().getColumnName()).append(sortKeys[i].descending() ? " < ?" : " > ?")
+						.append(")");
+			}
+			sql.append(")");
+		}
+		sql.append(" ORDER BY ");
+		for (int i = 0; i < sortKeys.length; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(sortKeys[i].propMapping().getColumnName()).append(sortKeys[i].descending() ? " DESC" : " ASC");
+		}
+		sql.append(sjmSupport.getDatabaseDialect().getLimitClause());
+		return sql.toString();
+	}
+
+	// the id is added as the last sort key, if not already there, so that the
+	// ordering is unique.
+	private SortKey[] sortKeys(Class<?> entityType, SortBy[] sortByArray, TableMapping tableMapping) {
+		List<SortKey> sortKeys = new ArrayList<>();
+		boolean hasId = false;
+		for (SortBy sortBy : sortByArray) {
+			PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(sortBy.getPropertyName());
+			if (propMapping == null) {
+				throw new IllegalArgumentException(
+						sortBy.getPropertyName() + " is not a mapped property for class " + entityType.getName());
+			}
+			sortKeys.add(new SortKey(propMapping, "DESC".equals(sortBy.getDirection())));
+			if (propMapping.isIdAnnotation()) {
+				hasId = true;
+				// the id is unique so any sort after it has no effect.
+				break;
+			}
+		}
+		if (!hasId) {
+			sortKeys.add(new SortKey(tableMapping.getIdPropertyMapping(), false));
+		}
+		return sortKeys.toArray(new SortKey[0]);
+	}
+
+	private String findByPropertyValueSql(Class<?> entityType, String sqlColumns, PropertyMapping propMapping,
+			Object propertyValue, SortBy[] sortByArray) {
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		StringBuilder sql = new StringBuilder(256);
+		sql.append("SELECT ").append(sqlColumns).append(" FROM ")
+				.append(tableMapping.fullyQualifiedTableName()).append(" WHERE ");
+		if (propertyValue == null) {
+			sql.append(propMapping.getColumnName()).append(" IS NULL");
+		} else {
+			sql.append(propMapping.getColumnName()).append(" = ?");
+		}
+		sql.append(orderByClause(entityType, sortByArray, tableMapping));
+		return sql.toString();
+	}
+
+	private ProjectionMapping getProjectionMapping(Class<?> entityType, Projection projection) {
+		String cacheKey = entityType.getName() + ":" + projection.getKey();
+		ProjectionMapping projectionMapping = projectionMappingCache.get(cacheKey);
+		// the conversion service could have been changed after the row mapper was
+		// cached.
+		if (projectionMapping == null
+				|| projectionMapping.rowMapper().getConversionService() != sjmSupport.getConversionService()) {
+			TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+			String[] propertyNames = projection.getPropertyNames();
+			PropertyMapping[] propMappings = new PropertyMapping[propertyNames.length];
+			StringJoiner sj = new StringJoiner(", ", " ", " ");
+			for (int i = 0; i < propertyNames.length; i++) {
+				propMappings[i] = getPropertyMapping(entityType, propertyNames[i]);
+				if (!propMappings[i].isLazy()) {
+					sj.add(propMappings[i].getColumnName());
+				}
+			}
+			projectionMapping = new ProjectionMapping(sj.toString(),
+					new EntityRowMapper<>(tableMapping, propMappings, sjmSupport.getConversionService(), 1,
+							sjmSupport.getNamedParameterJdbcTemplate(), null));
+			projectionMappingCache.remove(cacheKey);
+			projectionMappingCache.put(cacheKey, projectionMapping);
+		}
+		return projectionMapping;
+	}
+
+	private PropertyMapping getPropertyMapping(Class<?> entityType, String propertyName) {
+		PropertyMapping propMapping = sjmSupport.getTableMapping(entityType)
+				.getPropertyMappingByPropertyName(propertyName);
+		if (propMapping == null) {
+			throw new MapperException(entityType.getSimpleName() + "." + propertyName + " does not have a mapping.");
+		}
+		return propMapping;
+	}
+
+	// The connection is released when the stream is closed.
+	private <T> Stream<T> queryForStream(QueryOptions options, String sql, RowMapper<T> rowMapper, Object... args) {
+		return sjmSupport.getJdbcTemplate().queryForStream(preparedStatementCreator(options, sql, args), rowMapper);
+	}
+
+	private QueryOptions queryOptions(Class<?> entityType, QueryOptions callOptions, boolean streaming) {
+		return queryOptions(sjmSupport.getTableMapping(entityType), callOptions, streaming);
+	}
+
+	/*
+	 * The per call options take precedence over the ones from the @Table
+	 * annotation. For the streaming/forEach/scan queries the stream fetch size is
+	 * used when neither specifies a fetch size.
+	 */
+	private QueryOptions queryOptions(TableMapping tableMapping, QueryOptions callOptions, boolean streaming) {
+		QueryOptions options = callOptions.orElse(tableMapping.getQueryOptions());
+		int streamFetchSize = sjmSupport.getStreamFetchSize();
+		if (streaming && options.getFetchSize() == QueryOptions.NOT_SET && streamFetchSize != 0) {
+			options = options.withStreamFetchSize(streamFetchSize);
+		}
+		return options;
+	}
+
+	/*
+	 * findPage() limits the rows itself with the LIMIT clause and a parallelScan()
+	 * partition cut short would silently lose rows, so max rows is not applied to
+	 * them.
+	 */
+	private QueryOptions queryOptionsWithoutMaxRows(TableMapping tableMapping, QueryOptions callOptions,
+			boolean streaming) {
+		return queryOptions(tableMapping, callOptions, streaming).withoutMaxRows();
+	}
+
+	/*
+	 * The settings are applied to the statement instead of the shared JdbcTemplate
+	 * so they only affect the query they were specified for.
+	 */
+	private PreparedStatementCreator preparedStatementCreator(QueryOptions options, String sql, Object... args) {
+		return con -> {
+			PreparedStatement ps = con.prepareStatement(sql);
+			if (options.getFetchSize() != QueryOptions.NOT_SET) {
+				ps.setFetchSize(options.getFetchSize());
+			}
+			if (options.getMaxRows() != QueryOptions.NOT_SET) {
+				ps.setMaxRows(options.getMaxRows());
+			}
+			if (options.getQueryTimeout() != QueryOptions.NOT_SET) {
+				ps.setQueryTimeout(options.getQueryTimeout());
+			}
+			if (args.length > 0) {
+				new ArgumentPreparedStatementSetter(args).setValues(ps);
+			}
+			return ps;
+		};
+	}
+
+	private Object[] propertyValueArgs(PropertyMapping propMapping, Object propertyValue) {
+		if (propertyValue == null) {
+			// the sql has 'IS NULL'
+			return new Object[0];
+		}
+		return new Object[] { new SqlParameterValue(propMapping.getColumnSqlType(), getValue(propertyValue)) };
+	}
+
 	private String orderByClause(Class<?> entityType, SortBy[] sortByArray, TableMapping tableMapping) {
 		if (sortByArray.length > 0) {
 			StringBuilder clause = new StringBuilder(64);
@@ -301,4 +801,14 @@ class FindOperation {
 		return set;
 	}
 
+	private record SortKey(PropertyMapping propMapping, boolean descending) {
+	}
+
+	record ProjectionMapping(String sqlColumns, EntityRowMapper<?> rowMapper) {
+		@SuppressWarnings("unchecked")
+		<T> EntityRowMapper<T> rowMapper(Class<T> entityType) {
+			return (EntityRowMapper<T>) rowMapper;
+		}
+	}
+
 }
@@ -15,6 +15,8 @@ package io.github.simplejdbcmapper.core;
 
 import org.springframework.util.StringUtils;
 
+import io.github.simplejdbcmapper.annotation.IdType;
+
 /**
  * Id property info.
  *
@@ -23,14 +25,20 @@ import org.springframework.util.StringUtils;
 class IdPropertyInfo {
 	private String propertyName;
 
-	private boolean isIdAutoGenerated = false;
+	private IdType idType;
+
+	private String sequenceName;
+
+	private int allocationSize;
 
-	public IdPropertyInfo(String propertyName, Boolean isIdAutoGenerated) {
+	public IdPropertyInfo(String propertyName, IdType idType, String sequenceName, int allocationSize) {
 		if (!StringUtils.hasText(propertyName)) {
 			throw new IllegalArgumentException("propertyName cannot be null");
 		}
 		this.propertyName = propertyName;
-		this.isIdAutoGenerated = isIdAutoGenerated;
+		this.idType = idType;
+		this.sequenceName = StringUtils.hasText(sequenceName) ? sequenceName : null;
+		this.allocationSize = allocationSize;
 	}
 
 	public String getPropertyName() {
@@ -38,6 +46,18 @@ class IdPropertyInfo {
 	}
 
 	public boolean isIdAutoGenerated() {
-		return isIdAutoGenerated;
+		return idType == IdType.AUTO_GENERATED;
+	}
+
+	public IdType getIdType() {
+		return idType;
+	}
+
+	public String getSequenceName() {
+		return sequenceName;
+	}
+
+	public int getAllocationSize() {
+		return allocationSize;
 	}
 }
@@ -13,24 +13,46 @@
  */
 package io.github.simplejdbcmapper.core;
 
-import java.util.Arrays;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
 
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.util.Assert;
 
+import io.github.simplejdbcmapper.annotation.IdType;
 import io.github.simplejdbcmapper.exception.MapperException;
+import io.github.simplejdbcmapper.exception.OptimisticLockingException;
 
 /**
- * The insert operation.
+ * The insert and upsert operations.
  *
  * @author Antony Joseph
  */
 class InsertOperation {
 	private final SimpleJdbcMapperSupport sjmSupport;
 
-	private final SimpleCache<Class<?>, SimpleJdbcInsert> insertSqlCache = new SimpleCache<>();
+	private final SimpleCache<Class<?>, InsertStatement> insertSqlCache = new SimpleCache<>();
+
+	// Map key - classname:rows
+	// value - the multi row insert sql
+	private final SimpleCache<String, String> multiRowInsertSqlCache = new SimpleCache<>(3000);
+
+	private final SimpleCache<Class<?>, UpsertStatement> upsertSqlCache = new SimpleCache<>();
+
+	// Map key - sequence name
+	private final SimpleCache<String, SequenceIdAllocator> sequenceIdAllocatorCache = new SimpleCache<>();
 
 	public InsertOperation(SimpleJdbcMapperSupport sjmSupport) {
 		this.sjmSupport = sjmSupport;
@@ -41,55 +63,420 @@ class InsertOperation {
 		TableMapping tableMapping = sjmSupport.getTableMapping(object.getClass());
 		EntityWrapper ew = new EntityWrapper(object);
 		validateId(ew, tableMapping);
-		populateAutoAssignProperties(ew, tableMapping);
-		MapSqlParameterSource mapSqlParameterSource = createMapSqlParameterSource(ew, tableMapping);
-		SimpleJdbcInsert simpleJdbcInsert = insertSqlCache.get(object.getClass());
-		if (simpleJdbcInsert == null) {
-			simpleJdbcInsert = createSimpleJdbcInsert(tableMapping);
-			// Spring's SimpleJdbcInsert is thread safe. cache it
-			insertSqlCache.put(object.getClass(), simpleJdbcInsert);
+		assignIds(new EntityWrapper[] { ew }, tableMapping);
+		insert(ew, tableMapping, auditValues(tableMapping));
+	}
+
+	public void insertAll(Collection<?> objects, int batchSize) {
+		InternalUtils.forEachBatch(objects, batchSize, this::insertBatch);
+	}
+
+	public void upsert(Object object) {
+		Assert.notNull(object, "object must not be null");
+		TableMapping tableMapping = sjmSupport.getTableMapping(object.getClass());
+		EntityWrapper ew = new EntityWrapper(object);
+		validateUpsert(ew, tableMapping);
+		upsertBatch(new EntityWrapper[] { ew }, tableMapping, auditValues(tableMapping));
+	}
+
+	public void upsertAll(Collection<?> objects, int batchSize) {
+		InternalUtils.forEachBatch(objects, batchSize, (entityType, batch) -> {
+			TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+			EntityWrapper[] ews = new EntityWrapper[batch.size()];
+			for (int i = 0; i < ews.length; i++) {
+				ews[i] = new EntityWrapper(batch.get(i));
+				validateUpsert(ews[i], tableMapping);
+			}
+			upsertBatch(ews, tableMapping, auditValues(tableMapping));
+		});
+	}
+
+	SimpleCache<Class<?>, InsertStatement> getInsertSqlCache() {
+		return insertSqlCache;
+	}
+
+	SimpleCache<String, String> getMultiRowInsertSqlCache() {
+		return multiRowInsertSqlCache;
+	}
+
+	SimpleCache<String, SequenceIdAllocator> getSequenceIdAllocatorCache() {
+		return sequenceIdAllocatorCache;
+	}
+
+	SimpleCache<Class<?>, UpsertStatement> getUpsertSqlCache() {
+		return upsertSqlCache;
+	}
+
+	private void insertBatch(Class<?> entityType, List<Object> objects) {
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		EntityWrapper[] ews = new EntityWrapper[objects.size()];
+		for (int i = 0; i < ews.length; i++) {
+			ews[i] = new EntityWrapper(objects.get(i));
+			validateId(ews[i], tableMapping);
+		}
+		// the ids are known before the insert so the batch does not need generated
+		// keys.
+		assignIds(ews, tableMapping);
+		// the audit suppliers are called once for the whole batch.
+		AuditValues auditValues = auditValues(tableMapping);
+		InsertStatement insertStatement = getInsertStatement(tableMapping);
+		if (tableMapping.isIdAutoGenerated() || insertStatement.hasGeneratedColumns()) {
+			if (sjmSupport.getDatabaseDialect().supportsBatchGeneratedKeys()
+					&& (!insertStatement.hasGeneratedColumns() || insertStatement.isGeneratedColumnKeys())) {
+				insertBatchReturningKeys(ews, tableMapping, auditValues);
+			} else {
+				// the driver cannot return the generated values of each row of a batch so
+				// insert them one at a time.
+				for (EntityWrapper ew : ews) {
+					insert(ew, tableMapping, auditValues);
+				}
+			}
+			return;
+		}
+		if (sjmSupport.getBatchInsertStrategy() == BatchInsertStrategy.MULTI_ROW_VALUES
+				&& sjmSupport.getDatabaseDialect().getMaxValuesRows() > 0) {
+			insertMultiRowValues(ews, tableMapping, auditValues);
+			return;
+		}
+		for (EntityWrapper ew : ews) {
+			populateAutoAssignProperties(ew, tableMapping, auditValues);
+		}
+		sjmSupport.getJdbcTemplate().batchUpdate(insertStatement.getSql(),
+				batchPreparedStatementSetter(insertStatement, ews));
+	}
+
+	/*
+	 * The rows are inserted with 'INSERT INTO t (cols) VALUES (...), (...), ...'
+	 * statements. The rows per statement are limited by the bind parameter limit
+	 * of the database. The remaining rows are split into power of 2 chunks so only
+	 * a few distinct statements get created and cached, which keeps the statement
+	 * caches of the driver/database warm.
+	 */
+	private void insertMultiRowValues(EntityWrapper[] ews, TableMapping tableMapping, AuditValues auditValues) {
+		InsertStatement insertStatement = getInsertStatement(tableMapping);
+		int columnCount = insertStatement.getColumnNames().length;
+		DatabaseDialect dialect = sjmSupport.getDatabaseDialect();
+		int maxRows = Math.max(1, Math.min(dialect.getMaxBindParameters() / columnCount, dialect.getMaxValuesRows()));
+		int offset = 0;
+		while (offset < ews.length) {
+			int remaining = ews.length - offset;
+			int rows = remaining >= maxRows ? maxRows : Integer.highestOneBit(remaining);
+			int start = offset;
+			for (int i = start; i < start + rows; i++) {
+				populateAutoAssignProperties(ews[i], tableMapping, auditValues);
+			}
+			sjmSupport.getJdbcTemplate().update(getMultiRowInsertSql(tableMapping, insertStatement, rows), ps -> {
+				for (int i = 0; i < rows; i++) {
+					insertStatement.bind(ps, ews[start + i], i * columnCount);
+				}
+			});
+			offset += rows;
+		}
+	}
+
+	private String getMultiRowInsertSql(TableMapping tableMapping, InsertStatement insertStatement, int rows) {
+		String cacheKey = tableMapping.getMappedObjType().getName() + ":" + rows;
+		String sql = multiRowInsertSqlCache.get(cacheKey);
+		if (sql == null) {
+			sql = insertStatement.multiRowSql(rows);
+			multiRowInsertSqlCache.put(cacheKey, sql);
+		}
+		return sql;
+	}
+
+	private void insertBatchReturningKeys(EntityWrapper[] ews, TableMapping tableMapping, AuditValues auditValues) {
+		InsertStatement insertStatement = getInsertStatement(tableMapping);
+		for (EntityWrapper ew : ews) {
+			populateAutoAssignProperties(ew, tableMapping, auditValues);
+		}
+		KeyHolder kh = new GeneratedKeyHolder();
+		sjmSupport.getJdbcTemplate().batchUpdate(generatedKeyStatementCreator(insertStatement),
+				batchPreparedStatementSetter(insertStatement, ews), kh);
+		List<Map<String, Object>> keyList = kh.getKeyList();
+		if (keyList.size() != ews.length) {
+			throw new MapperException("The JDBC driver returned " + keyList.size() + " generated keys for a batch of "
+					+ ews.length + " " + tableMapping.getMappedObjType().getSimpleName() + " inserts");
+		}
+		// the keys are in the order of the rows of the batch
+		for (int i = 0; i < ews.length; i++) {
+			assignGeneratedValues(ews[i], tableMapping, insertStatement, keyList.get(i));
+		}
+	}
+
+	private void insert(EntityWrapper ew, TableMapping tableMapping, AuditValues auditValues) {
+		populateAutoAssignProperties(ew, tableMapping, auditValues);
+		InsertStatement insertStatement = getInsertStatement(tableMapping);
+		if (insertStatement.getInsertSelectSql() != null) {
+			insertWithSelect(ew, tableMapping, insertStatement);
+			return;
+		}
+		if (insertStatement.getKeyColumnNames().length > 0) {
+			KeyHolder kh = new GeneratedKeyHolder();
+			sjmSupport.getJdbcTemplate().update(con -> {
+				PreparedStatement ps = generatedKeyStatementCreator(insertStatement).createPreparedStatement(con);
+				insertStatement.bind(ps, ew, 0);
+				return ps;
+			}, kh);
+			if (kh.getKeyList().size() != 1) {
+				throw new MapperException("The JDBC driver returned " + kh.getKeyList().size()
+						+ " generated keys for the insert of " + tableMapping.getMappedObjType().getSimpleName());
+			}
+			// set the generated id and columns on the object
+			assignGeneratedValues(ew, tableMapping, insertStatement, kh.getKeyList().get(0));
+		} else {
+			sjmSupport.getJdbcTemplate().update(insertStatement.getSql(), ps -> insertStatement.bind(ps, ew, 0));
+		}
+		if (insertStatement.hasGeneratedColumns() && !insertStatement.isGeneratedColumnKeys()) {
+			// the database can neither return the generated columns as keys nor batch
+			// the insert with the select
+			readGeneratedColumns(ew, tableMapping, insertStatement);
+		}
+	}
+
+	/*
+	 * SQL Server runs the insert and the select of the generated id and columns of
+	 * the row as one batch. The update counts of the insert and of its triggers
+	 * come before the result set of the select.
+	 */
+	private void insertWithSelect(EntityWrapper ew, TableMapping tableMapping, InsertStatement insertStatement) {
+		Map<String, Object> values = sjmSupport.getJdbcTemplate().execute((Connection con) -> {
+			PreparedStatement ps = con.prepareStatement(insertStatement.getInsertSelectSql());
+			insertStatement.bindInsertSelect(ps, ew);
+			return ps;
+		}, ps -> {
+			boolean isResultSet = ps.execute();
+			while (!isResultSet && ps.getUpdateCount() != -1) {
+				isResultSet = ps.getMoreResults();
+			}
+			if (!isResultSet) {
+				return null;
+			}
+			try (ResultSet rs = ps.getResultSet()) {
+				return rs.next() ? new ColumnMapRowMapper().mapRow(rs, 1) : null;
+			}
+		});
+		if (values == null) {
+			throw new MapperException("The select of the inserted " + tableMapping.getMappedObjType().getSimpleName()
+					+ " did not return its row");
 		}
 		if (tableMapping.isIdAutoGenerated()) {
-			KeyHolder kh = simpleJdbcInsert.executeAndReturnKeyHolder(mapSqlParameterSource);
-			// set the generated id on the object
-			ew.setPropertyValue(tableMapping.getIdPropertyMapping(), kh.getKeyAs(Object.class),
+			ew.setPropertyValue(tableMapping.getIdPropertyMapping(), values.get(tableMapping.getIdColumnName()),
 					sjmSupport.getConversionService());
-		} else {
-			simpleJdbcInsert.execute(mapSqlParameterSource);
+		}
+		for (PropertyMapping pm : insertStatement.getGeneratedPropertyMappings()) {
+			ew.setPropertyValue(pm, values.get(pm.getColumnName()), sjmSupport.getConversionService());
 		}
 	}
 
-	SimpleCache<Class<?>, SimpleJdbcInsert> getInsertSqlCache() {
-		return insertSqlCache;
+	private void readGeneratedColumns(EntityWrapper ew, TableMapping tableMapping, InsertStatement insertStatement) {
+		PropertyMapping idPropMapping = tableMapping.getIdPropertyMapping();
+		Map<String, Object> values = sjmSupport.getJdbcTemplate().queryForMap(
+				insertStatement.getGeneratedColumnsSql(),
+				new SqlParameterValue(idPropMapping.getColumnSqlType(), ew.getPropertyValue(idPropMapping)));
+		for (PropertyMapping pm : insertStatement.getGeneratedPropertyMappings()) {
+			ew.setPropertyValue(pm, values.get(pm.getColumnName()), sjmSupport.getConversionService());
+		}
 	}
 
-	private MapSqlParameterSource createMapSqlParameterSource(EntityWrapper ew, TableMapping tableMapping) {
-		MapSqlParameterSource mapSqlParameterSource = new MapSqlParameterSource();
-		for (PropertyMapping propMapping : tableMapping.getPropertyMappings()) {
-			Object val = ew.getPropertyValue(propMapping);
-			Integer columnSqlType = propMapping.getColumnSqlType();
-			String columnName = propMapping.getColumnName();
-			if (propMapping.isBinaryLargeObject()) {
-				InternalUtils.assignBlobMapSqlParameterSource(mapSqlParameterSource, val, columnName, columnSqlType);
-			} else if (propMapping.isCharacterLargeObject()) {
-				InternalUtils.assignClobMapSqlParameterSource(mapSqlParameterSource, val, columnName, columnSqlType);
-			} else if (propMapping.isEnum()) {
-				if (val == null) {
-					mapSqlParameterSource.addValue(columnName, null, columnSqlType);
-				} else {
-					mapSqlParameterSource.addValue(columnName, ((Enum<?>) val).name(), columnSqlType);
-				}
+	/*
+	 * The objects are upserted with a single statement per object, executed as a
+	 * JDBC batch when there is more than one. The version of a versioned object
+	 * is incremented (1 for a new object) and the row is only updated if its
+	 * version matches the version of the object.
+	 */
+	private void upsertBatch(EntityWrapper[] ews, TableMapping tableMapping, AuditValues auditValues) {
+		UpsertStatement upsertStatement = getUpsertStatement(tableMapping);
+		PropertyMapping versionPropMapping = tableMapping.getVersionPropertyMapping();
+		Integer[] matchVersions = new Integer[ews.length];
+		for (int i = 0; i < ews.length; i++) {
+			if (versionPropMapping != null) {
+				matchVersions[i] = (Integer) ews[i].getPropertyValue(versionPropMapping);
+			}
+			populateUpsertAutoAssignProperties(ews[i], tableMapping, auditValues);
+			if (matchVersions[i] != null) {
+				ews[i].setPropertyValue(versionPropMapping, matchVersions[i] + 1);
+			}
+		}
+		// the created values are only written when the row gets inserted, so they are
+		// bound as parameters instead of being set on the objects. null binds the
+		// value of the object.
+		Object createdOn = sjmSupport.getRecordAuditedOnSupplier() == null ? null : auditValues.auditedOn();
+		Object createdBy = sjmSupport.getRecordAuditedBySupplier() == null ? null : auditValues.auditedBy();
+		int[] counts;
+		if (ews.length == 1) {
+			counts = new int[] { sjmSupport.getJdbcTemplate().update(upsertStatement.getSql(),
+					ps -> upsertStatement.bind(ps, ews[0], matchVersions[0], createdOn, createdBy)) };
+		} else {
+			counts = sjmSupport.getJdbcTemplate().batchUpdate(upsertStatement.getSql(),
+					new BatchPreparedStatementSetter() {
+						@Override
+						public void setValues(PreparedStatement ps, int i) throws SQLException {
+							upsertStatement.bind(ps, ews[i], matchVersions[i], createdOn, createdBy);
+						}
+
+						@Override
+						public int getBatchSize() {
+							return ews.length;
+						}
+					});
+		}
+		if (upsertStatement.hasVersion()) {
+			checkStaleUpserts(ews, tableMapping, matchVersions, counts);
+		}
+	}
+
+	// a count of 0 means the row exists with a different version. A driver which
+	// does not return the count of a row (Statement.SUCCESS_NO_INFO) leaves the
+	// stale check undecidable so it fails rather than treat the row as upserted.
+	private void checkStaleUpserts(EntityWrapper[] ews, TableMapping tableMapping, Integer[] matchVersions,
+			int[] counts) {
+		PropertyMapping versionPropMapping = tableMapping.getVersionPropertyMapping();
+		StringJoiner failures = new StringJoiner(", ");
+		StringJoiner unknowns = new StringJoiner(", ");
+		for (int i = 0; i < ews.length; i++) {
+			if (counts[i] > 0) {
+				continue;
+			}
+			String row = tableMapping.getIdColumnName() + " = "
+					+ ews[i].getPropertyValue(tableMapping.getIdPropertyMapping()) + " and "
+					+ versionPropMapping.getColumnName() + " = " + matchVersions[i];
+			// the object keeps its version since the row may not have been updated
+			ews[i].setPropertyValue(versionPropMapping, matchVersions[i]);
+			if (counts[i] == 0) {
+				failures.add(row);
 			} else {
-				mapSqlParameterSource.addValue(columnName, val, columnSqlType);
+				unknowns.add(row);
 			}
 		}
-		return mapSqlParameterSource;
+		if (failures.length() > 0) {
+			throw new OptimisticLockingException(tableMapping.getMappedObjType().getSimpleName()
+					+ " upsert failed due to stale data. Failed for " + failures);
+		}
+		if (unknowns.length() > 0) {
+			throw new MapperException(tableMapping.getMappedObjType().getSimpleName()
+					+ " upsert could not be checked for stale data since the jdbc driver did not return the update counts of the batch. Unchecked for "
+					+ unknowns + ". Use upsert() for each object with this driver.");
+		}
+	}
+
+	private UpsertStatement getUpsertStatement(TableMapping tableMapping) {
+		Class<?> entityType = tableMapping.getMappedObjType();
+		UpsertStatement upsertStatement = upsertSqlCache.get(entityType);
+		if (upsertStatement == null) {
+			upsertStatement = new UpsertStatement(tableMapping, sjmSupport.getDatabaseDialect());
+			// UpsertStatement is immutable. cache it
+			upsertSqlCache.put(entityType, upsertStatement);
+		}
+		return upsertStatement;
+	}
+
+	private InsertStatement getInsertStatement(TableMapping tableMapping) {
+		Class<?> entityType = tableMapping.getMappedObjType();
+		InsertStatement insertStatement = insertSqlCache.get(entityType);
+		if (insertStatement == null) {
+			insertStatement = new InsertStatement(tableMapping, sjmSupport.getDatabaseDialect());
+			// InsertStatement is immutable. cache it
+			insertSqlCache.put(entityType, insertStatement);
+		}
+		return insertStatement;
+	}
+
+	// the statement returns the auto generated id and the generated columns as
+	// the generated keys.
+	private PreparedStatementCreator generatedKeyStatementCreator(InsertStatement insertStatement) {
+		return con -> con.prepareStatement(insertStatement.getSql(), insertStatement.getKeyColumnNames());
+	}
+
+	private BatchPreparedStatementSetter batchPreparedStatementSetter(InsertStatement insertStatement,
+			EntityWrapper[] ews) {
+		return new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				insertStatement.bind(ps, ews[i], 0);
+			}
 
+			@Override
+			public int getBatchSize() {
+				return ews.length;
+			}
+		};
+	}
+
+	private void assignGeneratedValues(EntityWrapper ew, TableMapping tableMapping, InsertStatement insertStatement,
+			Map<String, Object> keys) {
+		if (tableMapping.isIdAutoGenerated()) {
+			// some drivers return all the columns of the row. The key map is case
+			// insensitive.
+			Object id = keys.size() == 1 ? keys.values().iterator().next() : keys.get(tableMapping.getIdColumnName());
+			ew.setPropertyValue(tableMapping.getIdPropertyMapping(), id, sjmSupport.getConversionService());
+		}
+		if (insertStatement.isGeneratedColumnKeys()) {
+			for (PropertyMapping pm : insertStatement.getGeneratedPropertyMappings()) {
+				ew.setPropertyValue(pm, keys.get(pm.getColumnName()), sjmSupport.getConversionService());
+			}
+		}
+	}
+
+	// assigns the ids which are not manually set or generated by the database.
+	private void assignIds(EntityWrapper[] ews, TableMapping tableMapping) {
+		PropertyMapping idPropMapping = tableMapping.getIdPropertyMapping();
+		switch (tableMapping.getIdType()) {
+		case SEQUENCE -> {
+			SequenceIdAllocator allocator = getSequenceIdAllocator(tableMapping);
+			for (EntityWrapper ew : ews) {
+				ew.setPropertyValue(idPropMapping, allocator.nextId(), sjmSupport.getConversionService());
+			}
+		}
+		case UUID_V7 -> {
+			TimeOrderedIdGenerator generator = sjmSupport.getTimeOrderedIdGenerator();
+			boolean stringId = idPropMapping.getPropertyType() == String.class;
+			for (EntityWrapper ew : ews) {
+				UUID id = generator.nextUuid();
+				ew.setPropertyValue(idPropMapping, stringId ? id.toString() : id);
+			}
+		}
+		case SNOWFLAKE -> {
+			TimeOrderedIdGenerator generator = sjmSupport.getTimeOrderedIdGenerator();
+			if (!generator.isNodeIdSet()) {
+				throw new MapperException("The insert of " + tableMapping.getMappedObjType().getName()
+						+ " needs a Snowflake node id for its IdType.SNOWFLAKE id. Set a node id unique to the"
+						+ " application instance with SimpleJdbcMapper.setSnowflakeNodeId()");
+			}
+			for (EntityWrapper ew : ews) {
+				ew.setPropertyValue(idPropMapping, generator.nextSnowflakeId());
+			}
+		}
+		default -> {
+			// id is manually set or auto generated by the database
+		}
+		}
+	}
+
+	// the allocators are shared by the entities which use the same sequence.
+	private SequenceIdAllocator getSequenceIdAllocator(TableMapping tableMapping) {
+		String sequenceName = tableMapping.getIdSequenceName();
+		SequenceIdAllocator allocator = sequenceIdAllocatorCache.get(sequenceName);
+		if (allocator == null) {
+			String sql = sjmSupport.getDatabaseDialect().getSequenceNextValueSql(sequenceName);
+			allocator = new SequenceIdAllocator(
+					() -> sjmSupport.getJdbcTemplate().queryForObject(sql, Long.class),
+					tableMapping.getIdAllocationSize());
+			sequenceIdAllocatorCache.put(sequenceName, allocator);
+		}
+		return allocator;
 	}
 
 	private void validateId(EntityWrapper ew, TableMapping tableMapping) {
 		Object idValue = ew.getPropertyValue(tableMapping.getIdPropertyMapping());
-		if (tableMapping.isIdAutoGenerated()) {
+		IdType idType = tableMapping.getIdType();
+		if (idType == IdType.SEQUENCE || idType == IdType.UUID_V7 || idType == IdType.SNOWFLAKE) {
+			if (idValue != null) {
+				throw new MapperException("For insert() the property " + ew.getWrappedClass().getSimpleName() + "."
+						+ tableMapping.getIdPropertyName()
+						+ " has to be null since this insert is for an object whose id is "
+						+ (idType == IdType.SEQUENCE ? "assigned from a sequence" : "generated by the mapper"));
+			}
+		} else if (tableMapping.isIdAutoGenerated()) {
 			if (idValue != null) {
 				throw new MapperException("For insert() the property " + ew.getWrappedClass().getSimpleName() + "."
 						+ tableMapping.getIdPropertyName()
@@ -103,23 +490,60 @@ class InsertOperation {
 		}
 	}
 
-	private void populateAutoAssignProperties(EntityWrapper ew, TableMapping tableMapping) {
+	private void validateUpsert(EntityWrapper ew, TableMapping tableMapping) {
+		String prefix = "For upsert() the property " + ew.getWrappedClass().getSimpleName() + ".";
+		if (tableMapping.isIdAutoGenerated()) {
+			throw new MapperException(prefix + tableMapping.getIdPropertyName()
+					+ " is an auto generated id. upsert() is only supported for objects with non auto generated ids");
+		}
+		if (ew.getPropertyValue(tableMapping.getIdPropertyMapping()) == null) {
+			throw new MapperException(prefix + tableMapping.getIdPropertyName() + " must not be null");
+		}
+		if (tableMapping.getVersionPropertyMapping() != null
+				&& sjmSupport.getDatabaseDialect() == DatabaseDialect.MYSQL) {
+			throw new MapperException(prefix + tableMapping.getVersionPropertyMapping().getPropertyName()
+					+ " has annotation @Version. MySQL cannot check the version on upsert()");
+		}
+	}
+
+	// gets the supplied audit values for the table. The suppliers are only called
+	// if the table has the corresponding audit properties.
+	private AuditValues auditValues(TableMapping tableMapping) {
+		Object auditedOn = null;
+		Object auditedBy = null;
+		if (tableMapping.hasAutoAssignProperties()) {
+			if ((tableMapping.getCreatedOnPropertyMapping() != null
+					|| tableMapping.getUpdatedOnPropertyMapping() != null)
+					&& sjmSupport.getRecordAuditedOnSupplier() != null) {
+				auditedOn = sjmSupport.getRecordAuditedOnSupplier().get();
+			}
+			if ((tableMapping.getCreatedByPropertyMapping() != null
+					|| tableMapping.getUpdatedByPropertyMapping() != null)
+					&& sjmSupport.getRecordAuditedBySupplier() != null) {
+				auditedBy = sjmSupport.getRecordAuditedBySupplier().get();
+			}
+		}
+		return new AuditValues(auditedOn, auditedBy);
+	}
+
+	private void populateAutoAssignProperties(EntityWrapper ew, TableMapping tableMapping,
+			AuditValues auditValues) {
 		if (tableMapping.hasAutoAssignProperties()) {
 			PropertyMapping createdOnPropMapping = tableMapping.getCreatedOnPropertyMapping();
 			if (createdOnPropMapping != null && sjmSupport.getRecordAuditedOnSupplier() != null) {
-				ew.setPropertyValue(createdOnPropMapping, sjmSupport.getRecordAuditedOnSupplier().get());
+				ew.setPropertyValue(createdOnPropMapping, auditValues.auditedOn());
 			}
 			PropertyMapping updatedOnPropMapping = tableMapping.getUpdatedOnPropertyMapping();
 			if (updatedOnPropMapping != null && sjmSupport.getRecordAuditedOnSupplier() != null) {
-				ew.setPropertyValue(updatedOnPropMapping, sjmSupport.getRecordAuditedOnSupplier().get());
+				ew.setPropertyValue(updatedOnPropMapping, auditValues.auditedOn());
 			}
 			PropertyMapping createdByPropMapping = tableMapping.getCreatedByPropertyMapping();
 			if (createdByPropMapping != null && sjmSupport.getRecordAuditedBySupplier() != null) {
-				ew.setPropertyValue(createdByPropMapping, sjmSupport.getRecordAuditedBySupplier().get());
+				ew.setPropertyValue(createdByPropMapping, auditValues.auditedBy());
 			}
 			PropertyMapping updatedByPropMapping = tableMapping.getUpdatedByPropertyMapping();
 			if (updatedByPropMapping != null && sjmSupport.getRecordAuditedBySupplier() != null) {
-				ew.setPropertyValue(updatedByPropMapping, sjmSupport.getRecordAuditedBySupplier().get());
+				ew.setPropertyValue(updatedByPropMapping, auditValues.auditedBy());
 			}
 			PropertyMapping versionPropMapping = tableMapping.getVersionPropertyMapping();
 			if (versionPropMapping != null) {
@@ -129,26 +553,28 @@ class InsertOperation {
 		}
 	}
 
-	private SimpleJdbcInsert createSimpleJdbcInsert(TableMapping tableMapping) {
-		SimpleJdbcInsert simpleJdbcInsert = new SimpleJdbcInsert(sjmSupport.getJdbcTemplate())
-				.withCatalogName(tableMapping.getCatalogName()).withSchemaName(tableMapping.getSchemaName())
-				.withTableName(tableMapping.getTableName());
-		// make sure SimpleJdbcInsert does not access database table meta data.
-		simpleJdbcInsert.setAccessTableColumnMetaData(false);
-		String[] columns = null;
-		if (tableMapping.isIdAutoGenerated()) {
-			// remove id from list of columns
-			columns = Arrays.stream(tableMapping.getPropertyMappings()).filter(e -> !e.isIdAnnotation())
-					.map(e -> e.getColumnName()).toArray(String[]::new);
-		} else {
-			columns = Arrays.stream(tableMapping.getPropertyMappings()).map(e -> e.getColumnName())
-					.toArray(String[]::new);
-		}
-		simpleJdbcInsert.usingColumns(columns);
-		if (tableMapping.isIdAutoGenerated()) {
-			simpleJdbcInsert.usingGeneratedKeyColumns(tableMapping.getIdColumnName());
+	// the upsert does not assign the created properties since the row may already
+	// exist, in which case the database keeps its created values.
+	private void populateUpsertAutoAssignProperties(EntityWrapper ew, TableMapping tableMapping,
+			AuditValues auditValues) {
+		if (tableMapping.hasAutoAssignProperties()) {
+			PropertyMapping updatedOnPropMapping = tableMapping.getUpdatedOnPropertyMapping();
+			if (updatedOnPropMapping != null && sjmSupport.getRecordAuditedOnSupplier() != null) {
+				ew.setPropertyValue(updatedOnPropMapping, auditValues.auditedOn());
+			}
+			PropertyMapping updatedByPropMapping = tableMapping.getUpdatedByPropertyMapping();
+			if (updatedByPropMapping != null && sjmSupport.getRecordAuditedBySupplier() != null) {
+				ew.setPropertyValue(updatedByPropMapping, auditValues.auditedBy());
+			}
+			PropertyMapping versionPropMapping = tableMapping.getVersionPropertyMapping();
+			if (versionPropMapping != null) {
+				// version property value defaults to 1 on inserts
+				ew.setPropertyValue(versionPropMapping, 1);
+			}
 		}
-		return simpleJdbcInsert;
+	}
+
+	private record AuditValues(Object auditedOn, Object auditedBy) {
 	}
 
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The positional INSERT statement of an entity, compiled once from the table
+ * mapping, and the binders for its parameters.
+ *
+ * @author Antony Joseph
+ */
+class InsertStatement {
+	private final String sql;
+
+	private final String[] columnNames;
+
+	// the property mappings in the order of the columns
+	private final PropertyMapping[] propertyMappings;
+
+	private final ParameterBinder[] binders;
+
+	// the properties with @Column(generated = true)
+	private final PropertyMapping[] generatedPropertyMappings;
+
+	// reads the generated columns of an inserted row by id. Only used by the
+	// dialects which can neither return the columns as generated keys nor batch
+	// the insert with a select of the row.
+	private final String generatedColumnsSql;
+
+	// the insert followed by a select of the generated id and columns of its row,
+	// sent as a single batch
+	private final String insertSelectSql;
+
+	// binds the id for the select of insertSelectSql. null if the select uses the
+	// scope identity
+	private final ParameterBinder insertSelectIdBinder;
+
+	private final PropertyMapping idPropertyMapping;
+
+	// whether the generated columns are returned as generated keys of the insert
+	private final boolean generatedColumnKeys;
+
+	// the columns returned as generated keys. Empty if no keys are needed
+	private final String[] keyColumnNames;
+
+	public InsertStatement(TableMapping tableMapping, DatabaseDialect dialect) {
+		// the id column is left out when the database generates it
+		this.propertyMappings = Arrays.stream(tableMapping.getPropertyMappings())
+				.filter(pm -> !(tableMapping.isIdAutoGenerated() && pm.isIdAnnotation()) && !pm.isGenerated())
+				.toArray(PropertyMapping[]::new);
+		this.generatedPropertyMappings = Arrays.stream(tableMapping.getPropertyMappings())
+				.filter(PropertyMapping::isGenerated).toArray(PropertyMapping[]::new);
+		this.columnNames = new String[propertyMappings.length];
+		this.binders = new ParameterBinder[propertyMappings.length];
+		for (int i = 0; i < propertyMappings.length; i++) {
+			columnNames[i] = propertyMappings[i].getColumnName();
+			binders[i] = ParameterBinder.of(propertyMappings[i]);
+		}
+		String insertInto = "INSERT INTO " + tableMapping.fullyQualifiedTableName() + " ("
+				+ String.join(", ", columnNames) + ")";
+		this.sql = insertInto + " VALUES " + valuesRow();
+		this.generatedColumnKeys = generatedPropertyMappings.length > 0 && dialect.supportsGeneratedColumnKeys();
+		this.idPropertyMapping = tableMapping.getIdPropertyMapping();
+		StringJoiner generatedColumns = new StringJoiner(", ");
+		for (PropertyMapping pm : generatedPropertyMappings) {
+			generatedColumns.add(pm.getColumnName());
+		}
+		String fromWhereId = " FROM " + tableMapping.fullyQualifiedTableName() + " WHERE "
+				+ tableMapping.getIdColumnName() + " = ";
+		boolean insertSelect = generatedPropertyMappings.length > 0 && !generatedColumnKeys
+				&& dialect.getScopeIdentityFunction() != null;
+		if (!insertSelect) {
+			this.insertSelectSql = null;
+			this.insertSelectIdBinder = null;
+		} else if (tableMapping.isIdAutoGenerated()) {
+			// the select runs after the triggers of the insert so it reads the final
+			// values of the row. The scope identity ignores the identities generated by
+			// the inserts of the triggers.
+			this.insertSelectSql = sql + "; SELECT " + tableMapping.getIdColumnName() + ", " + generatedColumns
+					+ fromWhereId + dialect.getScopeIdentityFunction();
+			this.insertSelectIdBinder = null;
+		} else {
+			this.insertSelectSql = sql + "; SELECT " + generatedColumns + fromWhereId + "?";
+			this.insertSelectIdBinder = ParameterBinder.of(idPropertyMapping);
+		}
+		this.generatedColumnsSql = generatedPropertyMappings.length == 0 || generatedColumnKeys || insertSelect
+				? null
+				: "SELECT " + generatedColumns + fromWhereId + "?";
+		List<String> keyColumns = new ArrayList<>();
+		if (tableMapping.isIdAutoGenerated()) {
+			keyColumns.add(tableMapping.getIdColumnName());
+		}
+		if (generatedColumnKeys) {
+			for (PropertyMapping pm : generatedPropertyMappings) {
+				keyColumns.add(pm.getColumnName());
+			}
+		}
+		this.keyColumnNames = keyColumns.toArray(new String[0]);
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	public PropertyMapping[] getGeneratedPropertyMappings() {
+		return generatedPropertyMappings;
+	}
+
+	public boolean hasGeneratedColumns() {
+		return generatedPropertyMappings.length > 0;
+	}
+
+	/**
+	 * The query which reads the generated columns of an inserted row by id. Only
+	 * for the databases which can neither return the generated columns as
+	 * generated keys nor batch the insert with the select (MySQL and unknown
+	 * databases).
+	 * 
+	 * @return the sql. null if not needed
+	 */
+	public String getGeneratedColumnsSql() {
+		return generatedColumnsSql;
+	}
+
+	/**
+	 * The insert followed by the select of the generated id and columns of its
+	 * row, 'INSERT INTO t (cols) VALUES (...); SELECT id, cols FROM t WHERE id =
+	 * SCOPE_IDENTITY()' (SQL Server). Both run in one round trip. Unlike an
+	 * 'OUTPUT INSERTED' clause, which SQL Server rejects on tables with triggers
+	 * and which returns the values from before the triggers ran, the select reads
+	 * the values the triggers assigned.
+	 * 
+	 * @return the sql. null if the dialect does not support it or there are no
+	 *         generated columns
+	 */
+	public String getInsertSelectSql() {
+		return insertSelectSql;
+	}
+
+	/**
+	 * Whether the values of the generated columns are returned as generated keys
+	 * of the insert. If not they have to be read with
+	 * {@link #getGeneratedColumnsSql()}.
+	 * 
+	 * @return true if the generated columns are returned as keys
+	 */
+	public boolean isGeneratedColumnKeys() {
+		return generatedColumnKeys;
+	}
+
+	public String[] getKeyColumnNames() {
+		return keyColumnNames;
+	}
+
+	/**
+	 * Binds the property values of the object to the parameters of a row.
+	 * 
+	 * @param ps     the PreparedStatement
+	 * @param ew     the wrapped object
+	 * @param offset the number of parameters before the row. 0 for a single row
+	 *               insert
+	 * @throws SQLException on failure
+	 */
+	public void bind(PreparedStatement ps, EntityWrapper ew, int offset) throws SQLException {
+		for (int i = 0; i < propertyMappings.length; i++) {
+			Object val = InternalUtils.getPersistableValue(ew.getPropertyValue(propertyMappings[i]));
+			binders[i].bind(ps, offset + i + 1, val);
+		}
+	}
+
+	/**
+	 * Binds the parameters of {@link #getInsertSelectSql()}.
+	 * 
+	 * @param ps the PreparedStatement
+	 * @param ew the wrapped object
+	 * @throws SQLException on failure
+	 */
+	public void bindInsertSelect(PreparedStatement ps, EntityWrapper ew) throws SQLException {
+		bind(ps, ew, 0);
+		if (insertSelectIdBinder != null) {
+			insertSelectIdBinder.bind(ps, propertyMappings.length + 1,
+					InternalUtils.getPersistableValue(ew.getPropertyValue(idPropertyMapping)));
+		}
+	}
+
+	/**
+	 * The sql of an insert with multiple rows, 'INSERT INTO t (cols) VALUES (...),
+	 * (...), ...'
+	 * 
+	 * @param rows the number of rows
+	 * @return the sql
+	 */
+	public String multiRowSql(int rows) {
+		String valuesRow = valuesRow();
+		StringBuilder sb = new StringBuilder(sql.length() + (rows - 1) * (valuesRow.length() + 2));
+		sb.append(sql);
+		for (int i = 1; i < rows; i++) {
+			sb.append(", ").append(valuesRow);
+		}
+		return sb.toString();
+	}
+
+	private String valuesRow() {
+		StringJoiner sj = new StringJoiner(", ", "(", ")");
+		for (int i = 0; i < columnNames.length; i++) {
+			sj.add("?");
+		}
+		return sj.toString();
+	}
+
+}
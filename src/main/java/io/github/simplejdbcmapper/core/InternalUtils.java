@@ -14,16 +14,16 @@
 package io.github.simplejdbcmapper.core;
 
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.BiConsumer;
 
 import org.springframework.jdbc.core.StatementCreatorUtils;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.support.SqlBinaryValue;
-import org.springframework.jdbc.core.support.SqlCharacterValue;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import io.github.simplejdbcmapper.exception.MapperException;
-
 /**
  * Utility methods used by mapper.
  *
@@ -33,34 +33,28 @@ class InternalUtils {
 	public static Integer javaTypeToSqlParameterType(Class<?> type) {
 		if (type.isEnum()) {
 			return Types.VARCHAR;
+		} else if (type == LazyBytes.class) {
+			return StatementCreatorUtils.javaTypeToSqlParameterType(byte[].class);
+		} else if (type == LazyText.class) {
+			return StatementCreatorUtils.javaTypeToSqlParameterType(String.class);
 		} else {
 			// use springs default mappings.
 			return StatementCreatorUtils.javaTypeToSqlParameterType(type);
 		}
 	}
 
-	public static void assignBlobMapSqlParameterSource(MapSqlParameterSource mapSqlParameterSource, Object val,
-			String paramName, Integer columnSqlType) {
-		if (val == null) {
-			mapSqlParameterSource.addValue(paramName, null, columnSqlType);
-		} else if (val instanceof byte[] byteArray) {
-			mapSqlParameterSource.addValue(paramName, new SqlBinaryValue(byteArray), columnSqlType);
-		} else {
-			throw new MapperException(val.getClass().getSimpleName() + " " + paramName
-					+ " : java type has to be byte[] for a BLOB mapping. No other type is supported.");
-		}
-	}
-
-	public static void assignClobMapSqlParameterSource(MapSqlParameterSource mapSqlParameterSource, Object val,
-			String paramName, Integer columnSqlType) {
-		if (val == null) {
-			mapSqlParameterSource.addValue(paramName, null, columnSqlType);
-		} else if (val instanceof String str) {
-			mapSqlParameterSource.addValue(paramName, new SqlCharacterValue(str), columnSqlType);
-		} else {
-			throw new MapperException(val.getClass().getSimpleName() + "." + paramName
-					+ " : java type has to be String for a CLOB mapping. No other type is supported");
+	/**
+	 * Returns the value held by a LazyBytes/LazyText handle, loading it if needed.
+	 * Other values are returned as is.
+	 * 
+	 * @param val the property value
+	 * @return the value to be persisted
+	 */
+	public static Object getPersistableValue(Object val) {
+		if (val instanceof LazyLob<?> lazyLob) {
+			return lazyLob.get();
 		}
+		return val;
 	}
 
 	/**
@@ -111,6 +105,30 @@ class InternalUtils {
 		}
 	}
 
+	// consecutive objects of the same type are batched together so the objects
+	// get processed in the order of the collection.
+	public static void forEachBatch(Collection<?> objects, int batchSize,
+			BiConsumer<Class<?>, List<Object>> batchConsumer) {
+		Assert.notNull(objects, "objects must not be null");
+		Assert.noNullElements(objects, "objects must not contain null elements");
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize must be greater than 0");
+		}
+		List<Object> batch = new ArrayList<>(Math.min(batchSize, objects.size()));
+		Class<?> batchType = null;
+		for (Object object : objects) {
+			if (!batch.isEmpty() && (object.getClass() != batchType || batch.size() == batchSize)) {
+				batchConsumer.accept(batchType, batch);
+				batch.clear();
+			}
+			batchType = object.getClass();
+			batch.add(object);
+		}
+		if (!batch.isEmpty()) {
+			batchConsumer.accept(batchType, batch);
+		}
+	}
+
 	private InternalUtils() {
 	}
 }
@@ -13,34 +13,34 @@
  */
 package io.github.simplejdbcmapper.core;
 
-import java.util.Set;
-
-import org.springframework.util.ObjectUtils;
-import org.springframework.util.StringUtils;
-
 /**
- * This holds the sql and the sql params needed to issue an update.
+ * Lazy loaded binary value of a BLOB/bytea/varbinary column. The property has
+ * to be annotated with {@code @Column(lazy = true)}. See {@link LazyLob}.
+ * 
+ * <pre>
+ * &#64;Column(lazy = true)
+ * private LazyBytes content;
+ * </pre>
  *
  * @author Antony Joseph
  */
-class SqlAndParams {
-	private final String sql; // the sql string
-
-	private final Set<String> params; // the parameters for the sql
+public final class LazyBytes extends LazyLob<byte[]> {
 
-	public SqlAndParams(String sql, Set<String> params) {
-		if (!StringUtils.hasText(sql) || ObjectUtils.isEmpty(params)) {
-			throw new IllegalArgumentException("sql or params cannot be empty");
-		}
-		this.sql = sql;
-		this.params = params;
+	LazyBytes(LobLoader loader, Object id) {
+		super(loader, id);
 	}
 
-	public String getSql() {
-		return sql;
+	private LazyBytes(byte[] value) {
+		super(value);
 	}
 
-	public Set<String> getParams() {
-		return params;
+	/**
+	 * Creates a handle with the value, for example for an insert or update.
+	 * 
+	 * @param value the value
+	 * @return the LazyBytes
+	 */
+	public static LazyBytes of(byte[] value) {
+		return new LazyBytes(value);
 	}
 }
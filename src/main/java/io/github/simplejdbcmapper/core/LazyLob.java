@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A handle to the value of a property annotated with
+ * {@code @Column(lazy = true)}. The value is loaded from the database by id on
+ * the first call to {@link #get()}.
+ * 
+ * <p>
+ * When the values of many handles are needed, for example for a list of
+ * objects returned by a find, use {@link #loadAll(Collection)} which loads them
+ * with a few 'IN' queries instead of a query per handle.
+ * 
+ * <p>
+ * The value is loaded using its own connection unless there is an active
+ * transaction, so the row could have changed since the object was found.
+ *
+ * @param <V> the type of the value
+ * 
+ * @author Antony Joseph
+ */
+public abstract sealed class LazyLob<V> permits LazyBytes, LazyText {
+	// null when the handle was created with a value
+	private final LobLoader loader;
+
+	private final Object id;
+
+	private volatile boolean loaded;
+
+	private V value;
+
+	LazyLob(V value) {
+		this.loader = null;
+		this.id = null;
+		this.value = value;
+		this.loaded = true;
+	}
+
+	LazyLob(LobLoader loader, Object id) {
+		Assert.notNull(loader, "loader must not be null");
+		Assert.notNull(id, "id must not be null");
+		this.loader = loader;
+		this.id = id;
+	}
+
+	/**
+	 * Gets the value, loading it from the database if it has not been loaded yet.
+	 * 
+	 * @return the value. Can be null
+	 */
+	public V get() {
+		if (!loaded) {
+			synchronized (this) {
+				if (!loaded) {
+					assign(loader.load(id));
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Whether the value has been loaded (or was assigned when the handle was
+	 * created).
+	 * 
+	 * @return true if loaded
+	 */
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Loads the values of the handles which have not been loaded yet. The handles
+	 * are grouped by table/column and loaded with 'IN' queries.
+	 * 
+	 * @param handles the handles
+	 */
+	public static void loadAll(Collection<? extends LazyLob<?>> handles) {
+		Assert.notNull(handles, "handles must not be null");
+		Map<LobLoader, Map<Object, List<LazyLob<?>>>> handlesByLoader = new IdentityHashMap<>();
+		for (LazyLob<?> handle : handles) {
+			if (handle != null && !handle.loaded) {
+				handlesByLoader.computeIfAbsent(handle.loader, k -> new HashMap<>())
+						.computeIfAbsent(handle.id, k -> new ArrayList<>()).add(handle);
+			}
+		}
+		for (Map.Entry<LobLoader, Map<Object, List<LazyLob<?>>>> entry : handlesByLoader.entrySet()) {
+			Map<Object, List<LazyLob<?>>> handlesById = entry.getValue();
+			Map<Object, Object> values = entry.getKey().loadAll(handlesById.keySet());
+			for (Map.Entry<Object, List<LazyLob<?>>> idEntry : handlesById.entrySet()) {
+				Object val = values.get(idEntry.getKey());
+				for (LazyLob<?> handle : idEntry.getValue()) {
+					synchronized (handle) {
+						if (!handle.loaded) {
+							handle.assign(val);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assign(Object val) {
+		this.value = (V) val;
+		// volatile write after the value so readers which see loaded also see value.
+		this.loaded = true;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + (loaded ? "[loaded]" : "[id=" + id + "]");
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+/**
+ * Lazy loaded value of a CLOB/text column. The property has to be annotated
+ * with {@code @Column(lazy = true)}. See {@link LazyLob}.
+ * 
+ * <pre>
+ * &#64;Column(lazy = true)
+ * private LazyText notes;
+ * </pre>
+ *
+ * @author Antony Joseph
+ */
+public final class LazyText extends LazyLob<String> {
+
+	LazyText(LobLoader loader, Object id) {
+		super(loader, id);
+	}
+
+	private LazyText(String value) {
+		super(value);
+	}
+
+	/**
+	 * Creates a handle with the value, for example for an insert or update.
+	 * 
+	 * @param value the value
+	 * @return the LazyText
+	 */
+	public static LazyText of(String value) {
+		return new LazyText(value);
+	}
+}
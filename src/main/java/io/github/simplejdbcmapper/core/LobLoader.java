@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Loads the values of a lazy BLOB/CLOB property by id. One instance per lazy
+ * property of an EntityRowMapper and shared by all the handles it creates.
+ *
+ * @author Antony Joseph
+ */
+final class LobLoader {
+	// keeps the 'IN' clause within the limits of all supported databases.
+	private static final int IN_CLAUSE_BATCH_SIZE = 500;
+
+	private final NamedParameterJdbcTemplate npJdbcTemplate;
+
+	private final String sql;
+
+	private final int idSqlType;
+
+	private final ColumnReader idReader;
+
+	private final boolean binary;
+
+	LobLoader(NamedParameterJdbcTemplate npJdbcTemplate, TableMapping tableMapping, PropertyMapping lazyMapping,
+			ConversionService conversionService) {
+		this.npJdbcTemplate = npJdbcTemplate;
+		PropertyMapping idMapping = tableMapping.getIdPropertyMapping();
+		this.sql = "SELECT " + idMapping.getColumnName() + ", " + lazyMapping.getColumnName() + " FROM "
+				+ tableMapping.fullyQualifiedTableName() + " WHERE " + idMapping.getColumnName() + " IN (:ids)";
+		this.idSqlType = idMapping.getColumnSqlType();
+		// the id read from the database has to match the id of the handle
+		this.idReader = ColumnReader.of(idMapping, conversionService);
+		this.binary = lazyMapping.getPropertyType() == LazyBytes.class;
+	}
+
+	LazyLob<?> newHandle(Object id) {
+		return binary ? new LazyBytes(this, id) : new LazyText(this, id);
+	}
+
+	Object load(Object id) {
+		return loadAll(List.of(id)).get(id);
+	}
+
+	Map<Object, Object> loadAll(Collection<Object> ids) {
+		Map<Object, Object> values = new HashMap<>();
+		List<Object> idList = new ArrayList<>(ids);
+		for (int i = 0; i < idList.size(); i += IN_CLAUSE_BATCH_SIZE) {
+			List<Object> batch = idList.subList(i, Math.min(i + IN_CLAUSE_BATCH_SIZE, idList.size()));
+			MapSqlParameterSource params = new MapSqlParameterSource("ids", batch);
+			params.registerSqlType("ids", idSqlType);
+			npJdbcTemplate.query(sql, params, rs -> {
+				values.put(idReader.read(rs, 1), binary ? rs.getBytes(2) : rs.getString(2));
+			});
+		}
+		return values;
+	}
+}
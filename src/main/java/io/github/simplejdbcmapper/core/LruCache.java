@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache which evicts the least recently used entries when it gets
+ * full.
+ *
+ * <p>
+ * A get() does not lock. It only records the access time of the entry. When a
+ * put() takes the cache over its capacity, the least recently used eighth of
+ * the entries is evicted by the putting thread, so the eviction scan is
+ * amortized over many puts and stays off the read path.
+ *
+ * @author Antony Joseph
+ */
+class LruCache<K, V> {
+	private final int capacity;
+
+	private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	public LruCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be greater than 0");
+		}
+		this.capacity = capacity;
+	}
+
+	public V get(K key) {
+		Entry<V> entry = cache.get(key);
+		if (entry == null) {
+			return null;
+		}
+		entry.accessed = System.nanoTime();
+		return entry.value;
+	}
+
+	public void put(K key, V value) {
+		cache.put(key, new Entry<>(value));
+		if (cache.size() > capacity && evictionLock.tryLock()) {
+			try {
+				evict();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	public int size() {
+		return cache.size();
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	private void evict() {
+		// the access times are copied since they keep changing during the sort
+		List<Candidate<K, V>> candidates = new ArrayList<>(cache.size());
+		cache.forEach((key, entry) -> candidates.add(new Candidate<>(key, entry, entry.accessed)));
+		int count = candidates.size() - capacity + capacity / 8;
+		if (count <= 0) {
+			return;
+		}
+		candidates.sort(Comparator.comparingLong(Candidate::accessed));
+		for (int i = 0; i < count; i++) {
+			cache.remove(candidates.get(i).key(), candidates.get(i).entry());
+		}
+	}
+
+	private record Candidate<K, V>(K key, Entry<V> entry, long accessed) {
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+
+		// the access time is only used to order the entries for eviction so a lost
+		// update between threads does not matter
+		private volatile long accessed = System.nanoTime();
+
+		private Entry(V value) {
+			this.value = value;
+		}
+	}
+
+}
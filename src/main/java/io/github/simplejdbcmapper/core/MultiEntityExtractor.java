@@ -13,7 +13,6 @@
  */
 package io.github.simplejdbcmapper.core;
 
-import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -21,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,7 +82,7 @@ class MultiEntityExtractor {
 			// rowMapper will always return an object
 			Object obj = rowMapper.mapRow(rs, rowCnt);
 			try {
-				Object id = entityExtractor.idReadMethod().invoke(obj);
+				Object id = entityExtractor.idReadAccessor().apply(obj);
 				if (id != null && entityExtractor.idSet().add(id)) {
 					// unique by id
 					entityExtractor.result().add(obj);
@@ -100,10 +100,10 @@ class MultiEntityExtractor {
 				Class<?> entityType = entry.getKey();
 				EntityRowMapper<?> rowMapper = newEntityRowMapper(entityType, offset);
 				TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
-				Method idReadMethod = tableMapping.getIdPropertyMapping().getReadMethod();
-				entityExtractors.add(new EntityExtractor(entityType, rowMapper, new ArrayList(), idReadMethod,
+				Function<Object, Object> idReadAccessor = tableMapping.getIdPropertyMapping().getReadAccessor();
+				entityExtractors.add(new EntityExtractor(entityType, rowMapper, new ArrayList(), idReadAccessor,
 						tableMapping.getIdPropertyName(), new HashSet()));
-				offset += tableMapping.getPropertyMappings().length;
+				offset += tableMapping.getSelectPropertyMappings().length;
 			}
 			return entityExtractors;
 		}
@@ -111,7 +111,7 @@ class MultiEntityExtractor {
 		private <T> EntityRowMapper<T> newEntityRowMapper(Class<T> entityType, int offset) {
 			TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
 			EntityRowMapper<T> rowMapper = new EntityRowMapper<>(tableMapping, sjmSupport.getConversionService(),
-					offset);
+					offset, sjmSupport.getNamedParameterJdbcTemplate(), sjmSupport.getEntitySnapshots());
 			if (logger.isDebugEnabled()) {
 				logger.debug("EntityRowMapper: {}", rowMapper);
 			}
@@ -119,8 +119,8 @@ class MultiEntityExtractor {
 		}
 
 		@SuppressWarnings("rawtypes")
-		record EntityExtractor(Class<?> entityType, EntityRowMapper<?> rowMapper, List result, Method idReadMethod,
-				String idPropertyName, Set idSet) {
+		record EntityExtractor(Class<?> entityType, EntityRowMapper<?> rowMapper, List result,
+				Function<Object, Object> idReadAccessor, String idPropertyName, Set idSet) {
 		}
 	}
 
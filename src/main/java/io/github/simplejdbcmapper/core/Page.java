@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.List;
+
+/**
+ * A page of objects returned by
+ * {@link io.github.simplejdbcmapper.core.SimpleJdbcMapper#findPage}.
+ * 
+ * @param <T> the type
+ * 
+ * @author Antony Joseph
+ */
+public class Page<T> {
+	private final List<T> content;
+	private final PageRequest pageRequest;
+	private final String continuationToken;
+
+	Page(List<T> content, PageRequest pageRequest, String continuationToken) {
+		this.content = content;
+		this.pageRequest = pageRequest;
+		this.continuationToken = continuationToken;
+	}
+
+	/**
+	 * The objects in the page.
+	 * 
+	 * @return the list of objects
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * The token for the next page. Null if this is the last page.
+	 * 
+	 * @return the continuation token
+	 */
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public boolean hasNext() {
+		return continuationToken != null;
+	}
+
+	/**
+	 * The request for the next page with the same page size and sort.
+	 * 
+	 * @return the PageRequest for the next page or null if this is the last page
+	 */
+	public PageRequest nextPageRequest() {
+		if (continuationToken == null) {
+			return null;
+		}
+		return new PageRequest(pageRequest.getPageSize(), continuationToken, pageRequest.getSortByArray());
+	}
+}
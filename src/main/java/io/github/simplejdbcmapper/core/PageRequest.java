@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Request for a page of objects used by
+ * {@link io.github.simplejdbcmapper.core.SimpleJdbcMapper#findPage}.
+ * 
+ * <p>
+ * Paging is keyset based. Instead of skipping rows with an offset, the next
+ * page starts after the sort key values of the last row of the previous page,
+ * which are carried in the continuation token. The id property is always added
+ * as the last sort key so the ordering is unique.
+ * 
+ * <pre>
+ * PageRequest pageRequest = new PageRequest(100, new SortBy("lastName"));
+ * {@code Page<Customer>} page = sjm.findPage(Customer.class, pageRequest);
+ * while (page.hasNext()) {
+ *     page = sjm.findPage(Customer.class, page.nextPageRequest());
+ * }
+ * </pre>
+ * 
+ * @author Antony Joseph
+ */
+public class PageRequest {
+	private final int pageSize;
+	private final String continuationToken;
+	private final SortBy[] sortByArray;
+
+	/**
+	 * Request for the first page.
+	 * 
+	 * @param pageSize    the maximum number of objects in the page
+	 * @param sortByArray optional argument. The properties to sort by. The
+	 *                    properties should not have null values.
+	 */
+	public PageRequest(int pageSize, SortBy... sortByArray) {
+		this(pageSize, null, sortByArray);
+	}
+
+	/**
+	 * Request for the page following the one the continuation token was issued
+	 * for.
+	 * 
+	 * @param pageSize          the maximum number of objects in the page
+	 * @param continuationToken the token from
+	 *                          {@link io.github.simplejdbcmapper.core.Page#getContinuationToken()}.
+	 *                          Null for the first page.
+	 * @param sortByArray       optional argument. Has to be the same as the one
+	 *                          used for the previous page.
+	 */
+	public PageRequest(int pageSize, String continuationToken, SortBy... sortByArray) {
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("pageSize must be greater than 0");
+		}
+		Assert.notNull(sortByArray, "sortByArray must not be null");
+		this.pageSize = pageSize;
+		this.continuationToken = continuationToken;
+		this.sortByArray = sortByArray;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public SortBy[] getSortByArray() {
+		return sortByArray;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+import org.springframework.core.convert.ConversionService;
+
+/**
+ * Encodes/decodes the continuation token used for keyset pagination. The token
+ * holds the sort key values of the last row of a page as strings, along with a
+ * hash of the entity/sort the token was created for. The values are parsed back
+ * using the property types so no java serialization is involved.
+ *
+ * @author Antony Joseph
+ */
+final class PageToken {
+	private static final String INVALID_TOKEN = "Invalid continuation token";
+
+	static String encode(String fingerprint, Object[] values, ConversionService conversionService) {
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(64);
+			DataOutputStream out = new DataOutputStream(bos);
+			out.writeInt(fingerprint.hashCode());
+			out.writeInt(values.length);
+			for (Object value : values) {
+				out.writeUTF(toString(value, conversionService));
+			}
+			out.flush();
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(bos.toByteArray());
+		} catch (IOException e) {
+			// ByteArrayOutputStream does not throw IOException
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static Object[] decode(String token, String fingerprint, PropertyMapping[] keyMappings,
+			ConversionService conversionService) {
+		DataInputStream in;
+		boolean matches;
+		try {
+			in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)));
+			matches = in.readInt() == fingerprint.hashCode() && in.readInt() == keyMappings.length;
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException(INVALID_TOKEN, e);
+		}
+		if (!matches) {
+			throw new IllegalArgumentException(
+					"The continuation token was not issued for this entity type and sort order");
+		}
+		try {
+			Object[] values = new Object[keyMappings.length];
+			for (int i = 0; i < keyMappings.length; i++) {
+				values[i] = parse(in.readUTF(), keyMappings[i].getPropertyType(), conversionService);
+			}
+			return values;
+		} catch (IOException | RuntimeException e) {
+			throw new IllegalArgumentException(INVALID_TOKEN, e);
+		}
+	}
+
+	private static String toString(Object value, ConversionService conversionService) {
+		if (value instanceof Timestamp ts) {
+			return ts.toInstant().toString();
+		} else if (value instanceof java.sql.Date || value instanceof Time) {
+			return value.toString();
+		} else if (value instanceof java.util.Date date) {
+			return String.valueOf(date.getTime());
+		} else if (value instanceof Enum<?> e) {
+			return e.name();
+		} else if (value instanceof String || value instanceof Number || value instanceof Boolean
+				|| value instanceof java.util.UUID || value instanceof java.time.temporal.Temporal) {
+			return value.toString();
+		}
+		return conversionService.convert(value, String.class);
+	}
+
+	private static Object parse(String str, Class<?> type, ConversionService conversionService) {
+		return switch (type.getName()) {
+		case "java.lang.String" -> str;
+		case "java.time.LocalDate" -> LocalDate.parse(str);
+		case "java.time.LocalDateTime" -> LocalDateTime.parse(str);
+		case "java.time.LocalTime" -> LocalTime.parse(str);
+		case "java.time.OffsetDateTime" -> OffsetDateTime.parse(str);
+		case "java.time.ZonedDateTime" -> ZonedDateTime.parse(str);
+		case "java.time.Instant" -> Instant.parse(str);
+		case "java.sql.Timestamp" -> Timestamp.from(Instant.parse(str));
+		case "java.sql.Date" -> java.sql.Date.valueOf(str);
+		case "java.sql.Time" -> Time.valueOf(str);
+		case "java.util.Date" -> new java.util.Date(Long.parseLong(str));
+		// numbers, Boolean, UUID, enums etc
+		default -> conversionService.convert(str, type);
+		};
+	}
+
+	private PageToken() {
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.support.SqlBinaryValue;
+import org.springframework.jdbc.core.support.SqlCharacterValue;
+
+import io.github.simplejdbcmapper.exception.MapperException;
+
+/**
+ * Binds a property value to a parameter of a PreparedStatement.
+ *
+ * <p>
+ * A binder is chosen once for each property mapping when the statement is
+ * compiled, so binding the values of an object does not have to figure out how
+ * to set each parameter or go through a parameter source which maps the names
+ * to parameters again.
+ *
+ * @author Antony Joseph
+ */
+@FunctionalInterface
+interface ParameterBinder {
+
+	void bind(PreparedStatement ps, int index, Object value) throws SQLException;
+
+	static ParameterBinder of(PropertyMapping propMapping) {
+		int sqlType = propMapping.getColumnSqlType();
+		String columnName = propMapping.getColumnName();
+		if (propMapping.isBinaryLargeObject()) {
+			return (ps, index, value) -> {
+				if (value == null || value instanceof byte[]) {
+					StatementCreatorUtils.setParameterValue(ps, index, sqlType,
+							value == null ? null : new SqlBinaryValue((byte[]) value));
+				} else {
+					throw new MapperException(value.getClass().getSimpleName() + " " + columnName
+							+ " : java type has to be byte[] for a BLOB mapping. No other type is supported.");
+				}
+			};
+		} else if (propMapping.isCharacterLargeObject()) {
+			return (ps, index, value) -> {
+				if (value == null || value instanceof String) {
+					StatementCreatorUtils.setParameterValue(ps, index, sqlType,
+							value == null ? null : new SqlCharacterValue((String) value));
+				} else {
+					throw new MapperException(value.getClass().getSimpleName() + "." + columnName
+							+ " : java type has to be String for a CLOB mapping. No other type is supported");
+				}
+			};
+		} else if (propMapping.isEnum()) {
+			// enums are persisted by name
+			return (ps, index, value) -> StatementCreatorUtils.setParameterValue(ps, index, sqlType,
+					value == null ? null : ((Enum<?>) value).name());
+		}
+		return (ps, index, value) -> StatementCreatorUtils.setParameterValue(ps, index, sqlType, value);
+	}
+
+}
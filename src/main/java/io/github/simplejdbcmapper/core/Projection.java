@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The properties to be selected by the find methods which accept a Projection.
+ * Only the columns of these properties are part of the query. The other
+ * properties of the returned objects will have their default values.
+ * 
+ * <pre>
+ * {@code List<Product>} products = sjm.findAll(Product.class, Projection.of("id", "name"), new SortBy("name"));
+ * </pre>
+ * 
+ * @author Antony Joseph
+ */
+public final class Projection {
+	private final String[] propertyNames;
+
+	private final String key;
+
+	private Projection(String[] propertyNames) {
+		this.propertyNames = propertyNames;
+		this.key = String.join(",", propertyNames);
+	}
+
+	/**
+	 * Creates a projection.
+	 * 
+	 * @param propertyNames the property names to select (NOT the column names)
+	 * @return the Projection
+	 */
+	public static Projection of(String... propertyNames) {
+		if (ObjectUtils.isEmpty(propertyNames)) {
+			throw new IllegalArgumentException("propertyNames must not be empty");
+		}
+		Set<String> names = new LinkedHashSet<>();
+		for (String propertyName : propertyNames) {
+			Assert.notNull(propertyName, "propertyName must not be null");
+			names.add(propertyName);
+		}
+		return new Projection(names.toArray(new String[0]));
+	}
+
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	// used as part of cache keys
+	String getKey() {
+		return key;
+	}
+}
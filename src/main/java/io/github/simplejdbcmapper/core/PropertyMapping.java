@@ -15,6 +15,8 @@ package io.github.simplejdbcmapper.core;
 
 import java.lang.reflect.Method;
 import java.sql.Types;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Object property to database column mapping.
@@ -30,6 +32,10 @@ class PropertyMapping {
 
 	private Method readMethod;
 
+	private Function<Object, Object> readAccessor;
+
+	private BiConsumer<Object, Object> writeAccessor;
+
 	private ResultSetType resultSetType;
 
 	private String columnName;
@@ -54,6 +60,11 @@ class PropertyMapping {
 
 	private boolean characterLargeObject = false;
 
+	private boolean lazy = false;
+
+	// value is assigned by the database. Not inserted or updated
+	private boolean generated = false;
+
 	public PropertyMapping(String propertyName, Class<?> propertyType, String columnName, Integer columnSqlType) {
 		if (propertyName == null || propertyType == null || columnName == null) {
 			throw new IllegalArgumentException("propertyName, propertyType, columnName must not be null");
@@ -140,6 +151,22 @@ class PropertyMapping {
 		return characterLargeObject;
 	}
 
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	public boolean isGenerated() {
+		return generated;
+	}
+
+	public void setGenerated(boolean generated) {
+		this.generated = generated;
+	}
+
 	public boolean isEnum() {
 		return isEnum;
 	}
@@ -160,6 +187,22 @@ class PropertyMapping {
 		this.writeMethod = writeMethod;
 	}
 
+	public Function<Object, Object> getReadAccessor() {
+		return readAccessor;
+	}
+
+	public void setReadAccessor(Function<Object, Object> readAccessor) {
+		this.readAccessor = readAccessor;
+	}
+
+	public BiConsumer<Object, Object> getWriteAccessor() {
+		return writeAccessor;
+	}
+
+	public void setWriteAccessor(BiConsumer<Object, Object> writeAccessor) {
+		this.writeAccessor = writeAccessor;
+	}
+
 	public ResultSetType getResultSetType() {
 		return resultSetType;
 	}
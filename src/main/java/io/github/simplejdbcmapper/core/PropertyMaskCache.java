@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A least recently used cache keyed by a set of property indexes of an entity.
+ * 
+ * <p>
+ * A set within the first 64 property indexes is keyed by its long bitmask in an
+ * open addressing table of primitive longs, so a lookup neither locks nor
+ * allocates. A put() copies the table and publishes the copy, which is fine
+ * since the puts only happen on a cache miss. When a put() takes the table over
+ * its capacity the least recently used eighth of the entries is evicted. A
+ * wider set is keyed by a copy of the BitSet in an {@link LruCache}.
+ *
+ * @author Antony Joseph
+ */
+class PropertyMaskCache<V> {
+	static final int DEFAULT_CAPACITY = 256;
+
+	private static final int INITIAL_TABLE_LENGTH = 8;
+
+	private final int capacity;
+
+	// replaced on every put so get() reads it without locking
+	private volatile MaskTable maskTable = new MaskTable(INITIAL_TABLE_LENGTH);
+
+	private final LruCache<BitSet, V> wideCache;
+
+	public PropertyMaskCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public PropertyMaskCache(int capacity) {
+		this.wideCache = new LruCache<>(capacity);
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Gets the value of a set within the first 64 property indexes.
+	 * 
+	 * @param mask the bitmask of the property indexes
+	 * @return the value. null if not cached
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long mask) {
+		return (V) maskTable.get(mask);
+	}
+
+	/**
+	 * Puts the value of a set within the first 64 property indexes.
+	 * 
+	 * @param mask  the bitmask of the property indexes
+	 * @param value the value
+	 */
+	public synchronized void put(long mask, V value) {
+		maskTable = maskTable.with(mask, value, capacity);
+	}
+
+	public V get(BitSet mask) {
+		return mask.length() <= Long.SIZE ? get(toMask(mask)) : wideCache.get(mask);
+	}
+
+	public void put(BitSet mask, V value) {
+		if (mask.length() <= Long.SIZE) {
+			put(toMask(mask), value);
+		} else {
+			// copied since the caller may change the BitSet
+			wideCache.put((BitSet) mask.clone(), value);
+		}
+	}
+
+	public int size() {
+		return maskTable.size + wideCache.size();
+	}
+
+	public synchronized void clear() {
+		maskTable = new MaskTable(INITIAL_TABLE_LENGTH);
+		wideCache.clear();
+	}
+
+	// the bitmask of a set within the first 64 indexes. Unlike toLongArray() it
+	// does not allocate.
+	static long toMask(BitSet bitSet) {
+		long mask = 0L;
+		for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+			mask |= 1L << i;
+		}
+		return mask;
+	}
+
+	/*
+	 * An immutable open addressing table with linear probing, except for the
+	 * access times. The table length is a power of 2 and at least twice the
+	 * number of entries so a probe always reaches an empty slot.
+	 */
+	private static final class MaskTable {
+		private final long[] keys;
+
+		// null for an empty slot
+		private final Object[] values;
+
+		// only used to order the entries for eviction so the racy writes of get()
+		// do not matter
+		private final long[] accessed;
+
+		private final int size;
+
+		private MaskTable(int length) {
+			this.keys = new long[length];
+			this.values = new Object[length];
+			this.accessed = new long[length];
+			this.size = 0;
+		}
+
+		private MaskTable(int length, long[] keys, Object[] values, long[] accessed, int count) {
+			this.keys = new long[length];
+			this.values = new Object[length];
+			this.accessed = new long[length];
+			int n = 0;
+			for (int i = 0; i < count; i++) {
+				if (values[i] != null) {
+					int slot = slot(keys[i]);
+					while (this.values[slot] != null) {
+						slot = (slot + 1) & (length - 1);
+					}
+					this.keys[slot] = keys[i];
+					this.values[slot] = values[i];
+					this.accessed[slot] = accessed[i];
+					n++;
+				}
+			}
+			this.size = n;
+		}
+
+		private Object get(long mask) {
+			int slot = slot(mask);
+			Object value;
+			while ((value = values[slot]) != null) {
+				if (keys[slot] == mask) {
+					accessed[slot] = System.nanoTime();
+					return value;
+				}
+				slot = (slot + 1) & (keys.length - 1);
+			}
+			return null;
+		}
+
+		// a copy of the table with the entry, evicting the least recently used
+		// entries when it goes over the capacity
+		private MaskTable with(long mask, Object value, int capacity) {
+			int count = 0;
+			long[] entryKeys = new long[size + 1];
+			Object[] entryValues = new Object[size + 1];
+			long[] entryAccessed = new long[size + 1];
+			for (int i = 0; i < keys.length; i++) {
+				if (values[i] != null && keys[i] != mask) {
+					entryKeys[count] = keys[i];
+					entryValues[count] = values[i];
+					entryAccessed[count] = accessed[i];
+					count++;
+				}
+			}
+			int evictCount = count + 1 > capacity ? count + 1 - capacity + capacity / 8 : 0;
+			if (evictCount > 0) {
+				evict(entryValues, entryAccessed, count, evictCount);
+			}
+			entryKeys[count] = mask;
+			entryValues[count] = value;
+			entryAccessed[count] = System.nanoTime();
+			int entries = count + 1 - evictCount;
+			int length = keys.length;
+			while (entries * 2 > length) {
+				length <<= 1;
+			}
+			return new MaskTable(length, entryKeys, entryValues, entryAccessed, count + 1);
+		}
+
+		// clears the values of the least recently used entries
+		private static void evict(Object[] entryValues, long[] entryAccessed, int count, int evictCount) {
+			long[] sorted = Arrays.copyOf(entryAccessed, count);
+			Arrays.sort(sorted);
+			long threshold = sorted[evictCount - 1];
+			// the entries accessed at the threshold time are evicted until the count
+			// is reached
+			int evictAtThreshold = evictCount;
+			for (int i = 0; i < evictCount; i++) {
+				if (sorted[i] < threshold) {
+					evictAtThreshold--;
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				if (entryAccessed[i] < threshold) {
+					entryValues[i] = null;
+				} else if (entryAccessed[i] == threshold && evictAtThreshold > 0) {
+					entryValues[i] = null;
+					evictAtThreshold--;
+				}
+			}
+		}
+
+		private int slot(long mask) {
+			long hash = mask * 0x9E3779B97F4A7C15L;
+			return (int) (hash >>> 32) & (keys.length - 1);
+		}
+	}
+
+}
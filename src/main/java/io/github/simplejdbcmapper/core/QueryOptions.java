@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+/**
+ * Statement settings for the queries of the find methods.
+ * 
+ * <p>
+ * Settings which are not specified fall back to the ones on the
+ * {@link io.github.simplejdbcmapper.annotation.Table} annotation of the entity
+ * and then to the defaults of the JdbcTemplate/driver. Settings configured
+ * explicitly on the JdbcTemplate take precedence since the JdbcTemplate applies
+ * them to every statement.
+ * 
+ * <pre>
+ * QueryOptions options = QueryOptions.create().fetchSize(500).queryTimeout(30);
+ * {@code List<Order>} orders = sjm.findAll(Order.class, options, new SortBy("id"));
+ * </pre>
+ * 
+ * QueryOptions is immutable. Each of the setting methods returns a new
+ * instance.
+ * 
+ * @author Antony Joseph
+ */
+public final class QueryOptions {
+	// same as the JdbcTemplate defaults, which means not specified.
+	static final int NOT_SET = -1;
+
+	static final QueryOptions NONE = new QueryOptions(NOT_SET, NOT_SET, NOT_SET);
+
+	private final int fetchSize;
+	private final int maxRows;
+	private final int queryTimeout;
+
+	QueryOptions(int fetchSize, int maxRows, int queryTimeout) {
+		this.fetchSize = fetchSize;
+		this.maxRows = maxRows;
+		this.queryTimeout = queryTimeout;
+	}
+
+	/**
+	 * Creates options with none of the settings specified.
+	 * 
+	 * @return the options
+	 */
+	public static QueryOptions create() {
+		return NONE;
+	}
+
+	/**
+	 * The number of rows the driver fetches per round trip.
+	 * 
+	 * @param fetchSize the fetch size. 0 for the driver default.
+	 * @return new options with the fetch size
+	 */
+	public QueryOptions fetchSize(int fetchSize) {
+		return new QueryOptions(validate(fetchSize, "fetchSize"), maxRows, queryTimeout);
+	}
+
+	/**
+	 * The maximum number of rows returned by the query. The additional rows are
+	 * silently dropped by the driver.
+	 * 
+	 * @param maxRows the maximum number of rows. 0 for no limit.
+	 * @return new options with the max rows
+	 */
+	public QueryOptions maxRows(int maxRows) {
+		return new QueryOptions(fetchSize, validate(maxRows, "maxRows"), queryTimeout);
+	}
+
+	/**
+	 * The number of seconds the driver waits for the query to execute. When there
+	 * is a Spring managed transaction with a timeout, the remaining time of the
+	 * transaction is used instead.
+	 * 
+	 * @param queryTimeout the timeout in seconds. 0 for no limit.
+	 * @return new options with the query timeout
+	 */
+	public QueryOptions queryTimeout(int queryTimeout) {
+		return new QueryOptions(fetchSize, maxRows, validate(queryTimeout, "queryTimeout"));
+	}
+
+	/**
+	 * Gets the fetch size.
+	 * 
+	 * @return the fetch size. -1 if not specified.
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Gets the max rows.
+	 * 
+	 * @return the max rows. -1 if not specified.
+	 */
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	/**
+	 * Gets the query timeout.
+	 * 
+	 * @return the query timeout in seconds. -1 if not specified.
+	 */
+	public int getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	// the settings of this which are not specified are taken from the other.
+	QueryOptions orElse(QueryOptions other) {
+		if (this == NONE) {
+			return other;
+		}
+		return new QueryOptions(fetchSize != NOT_SET ? fetchSize : other.fetchSize,
+				maxRows != NOT_SET ? maxRows : other.maxRows,
+				queryTimeout != NOT_SET ? queryTimeout : other.queryTimeout);
+	}
+
+	// not validated since the stream fetch size can be Integer.MIN_VALUE for MySQL
+	QueryOptions withStreamFetchSize(int streamFetchSize) {
+		return new QueryOptions(streamFetchSize, maxRows, queryTimeout);
+	}
+
+	QueryOptions withoutMaxRows() {
+		if (maxRows == NOT_SET) {
+			return this;
+		}
+		return new QueryOptions(fetchSize, NOT_SET, queryTimeout);
+	}
+
+	private static int validate(int value, String name) {
+		if (value < 0) {
+			throw new IllegalArgumentException(name + " must not be negative");
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return "fetchSize: " + fetchSize + " maxRows: " + maxRows + " queryTimeout: " + queryTimeout;
+	}
+}
@@ -16,6 +16,10 @@ package io.github.simplejdbcmapper.core;
 import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Clob;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 
 /**
  * enum for switch statements in the EntityRowMapper so it can be compiled into
@@ -25,8 +29,8 @@ import java.sql.Clob;
  */
 enum ResultSetType {
 
-	UNKNOWN, BIGDECIMAL, BLOB, BOOLEAN, BYTEARRAY, BYTE, CLOB, DATE, DOUBLE, ENUM, FLOAT, INTEGER, LONG, NUMBER, SHORT,
-	STRING, TIMESTAMP, TIME, UTILDATE;
+	UNKNOWN, BIGDECIMAL, BLOB, BOOLEAN, BYTEARRAY, BYTE, CLOB, DATE, DOUBLE, ENUM, FLOAT, INSTANT, INTEGER, LOCALDATE,
+	LOCALDATETIME, LONG, NUMBER, OFFSETDATETIME, SHORT, STRING, TIMESTAMP, TIME, UTILDATE, UUID;
 
 	public static ResultSetType getResultSetType(Class<?> type) {
 		if (BigDecimal.class == type) {
@@ -49,12 +53,20 @@ enum ResultSetType {
 			return ENUM;
 		} else if (Float.class == type) {
 			return FLOAT;
+		} else if (Instant.class == type) {
+			return INSTANT;
 		} else if (Integer.class == type) {
 			return INTEGER;
+		} else if (LocalDate.class == type) {
+			return LOCALDATE;
+		} else if (LocalDateTime.class == type) {
+			return LOCALDATETIME;
 		} else if (Long.class == type) {
 			return LONG;
 		} else if (Number.class == type) {
 			return NUMBER;
+		} else if (OffsetDateTime.class == type) {
+			return OFFSETDATETIME;
 		} else if (Short.class == type) {
 			return SHORT;
 		} else if (String.class == type) {
@@ -65,6 +77,8 @@ enum ResultSetType {
 			return TIME;
 		} else if (java.util.Date.class == type) {
 			return UTILDATE;
+		} else if (java.util.UUID.class == type) {
+			return UUID;
 		}
 		return UNKNOWN;
 	}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Assigns the column values of the current row to the properties of a mapped
+ * object. Implemented by the classes generated by
+ * {@link RowPopulatorGenerator}.
+ *
+ * @author Antony Joseph
+ */
+interface RowPopulator {
+
+	void populate(ResultSet rs, Object obj, int startIndex) throws SQLException;
+
+}
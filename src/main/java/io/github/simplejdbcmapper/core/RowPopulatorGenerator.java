@@ -0,0 +1,312 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+
+/**
+ * Generates a hidden class per mapped class which populates an object from the
+ * current row of a ResultSet with straight-line code, for example:
+ *
+ * <pre>
+ * Order order = (Order) obj;
+ * long id = rs.getLong(startIndex);
+ * order.setId(rs.wasNull() ? null : Long.valueOf(id));
+ * order.setStatus(rs.getString(startIndex + 1));
+ * ...
+ * </pre>
+ *
+ * <p>
+ * The column values are extracted with the same ResultSet calls the
+ * ColumnReaders make. Property types which need the ConversionService or
+ * getObject(int, Class) still go through their ColumnReader. A property whose
+ * setter cannot be called directly (for example a setter of a non public super
+ * class) is assigned with its write accessor.
+ *
+ * <p>
+ * The class is defined in this package with the class loader of
+ * SimpleJdbcMapper, so the mapped class has to be public and visible to that
+ * class loader. Otherwise null is returned and the EntityRowMapper maps the
+ * row with its ColumnReaders.
+ *
+ * @author Antony Joseph
+ */
+final class RowPopulatorGenerator implements Opcodes {
+	private static final Logger logger = LoggerFactory.getLogger(RowPopulatorGenerator.class);
+
+	private static final String CLASS_NAME = Type.getInternalName(RowPopulatorGenerator.class) + "$Generated";
+
+	private static final String RESULT_SET = Type.getInternalName(ResultSet.class);
+
+	private static final String COLUMN_READER = Type.getInternalName(ColumnReader.class);
+
+	private static final String BI_CONSUMER = Type.getInternalName(BiConsumer.class);
+
+	private static final String READERS_DESC = "[L" + COLUMN_READER + ";";
+
+	private static final String WRITERS_DESC = "[L" + BI_CONSUMER + ";";
+
+	private static final String OBJECT = "java/lang/Object";
+
+	// locals of the populate() method
+	private static final int RS = 1;
+	private static final int OBJ = 2;
+	private static final int START_INDEX = 3;
+	private static final int ENTITY = 4;
+
+	/**
+	 * Generates the RowPopulator for the property mappings.
+	 *
+	 * @param mappedObjType    the mapped class
+	 * @param propertyMappings the properties in the order of the sql columns
+	 * @param columnReaders    the readers of the properties
+	 * @return the RowPopulator or null if it could not be generated
+	 */
+	static RowPopulator generate(Class<?> mappedObjType, PropertyMapping[] propertyMappings,
+			ColumnReader[] columnReaders) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if (!isAccessible(lookup, mappedObjType)) {
+				logFallback(mappedObjType, "the class is not public or not visible to the SimpleJdbcMapper class loader",
+						null);
+				return null;
+			}
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			BiConsumer<Object, Object>[] writers = new BiConsumer[propertyMappings.length];
+			for (int i = 0; i < propertyMappings.length; i++) {
+				writers[i] = propertyMappings[i].getWriteAccessor();
+			}
+			byte[] bytes = generateClass(lookup, mappedObjType, propertyMappings);
+			MethodHandles.Lookup hiddenLookup = lookup.defineHiddenClass(bytes, true);
+			return (RowPopulator) hiddenLookup
+					.findConstructor(hiddenLookup.lookupClass(),
+							MethodType.methodType(void.class, ColumnReader[].class, BiConsumer[].class))
+					.invoke(columnReaders, writers);
+		} catch (Throwable e) {
+			logFallback(mappedObjType, e.getMessage(), e);
+			return null;
+		}
+	}
+
+	private static byte[] generateClass(MethodHandles.Lookup lookup, Class<?> mappedObjType,
+			PropertyMapping[] propertyMappings) {
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+			// the only merges are of a boxed value with null which do not need it. Avoids
+			// loading classes through the ClassWriter's class loader.
+			@Override
+			protected String getCommonSuperClass(String type1, String type2) {
+				return OBJECT;
+			}
+		};
+		cw.visit(V17, ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, CLASS_NAME, null, OBJECT,
+				new String[] { Type.getInternalName(RowPopulator.class) });
+		cw.visitField(ACC_PRIVATE | ACC_FINAL, "readers", READERS_DESC, null, null).visitEnd();
+		cw.visitField(ACC_PRIVATE | ACC_FINAL, "writers", WRITERS_DESC, null, null).visitEnd();
+
+		MethodVisitor mv = cw.visitMethod(0, "<init>", "(" + READERS_DESC + WRITERS_DESC + ")V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitFieldInsn(PUTFIELD, CLASS_NAME, "readers", READERS_DESC);
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitFieldInsn(PUTFIELD, CLASS_NAME, "writers", WRITERS_DESC);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		String entity = Type.getInternalName(mappedObjType);
+		mv = cw.visitMethod(ACC_PUBLIC, "populate", "(L" + RESULT_SET + ";L" + OBJECT + ";I)V", null,
+				new String[] { "java/sql/SQLException" });
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, OBJ);
+		mv.visitTypeInsn(CHECKCAST, entity);
+		mv.visitVarInsn(ASTORE, ENTITY);
+		for (int i = 0; i < propertyMappings.length; i++) {
+			PropertyMapping propMapping = propertyMappings[i];
+			Method writeMethod = propMapping.getWriteMethod();
+			if (isDirectlyCallable(lookup, mappedObjType, propMapping)) {
+				// entity.setXxx(value)
+				mv.visitVarInsn(ALOAD, ENTITY);
+				visitValue(mv, propMapping, i, true);
+				mv.visitMethodInsn(INVOKEVIRTUAL, entity, writeMethod.getName(),
+						Type.getMethodDescriptor(writeMethod), false);
+				// the return value of the setter (if any) is discarded.
+				int returnSize = Type.getReturnType(writeMethod).getSize();
+				if (returnSize == 1) {
+					mv.visitInsn(POP);
+				} else if (returnSize == 2) {
+					mv.visitInsn(POP2);
+				}
+			} else {
+				// writers[i].accept(obj, value)
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitFieldInsn(GETFIELD, CLASS_NAME, "writers", WRITERS_DESC);
+				pushInt(mv, i);
+				mv.visitInsn(AALOAD);
+				mv.visitVarInsn(ALOAD, OBJ);
+				visitValue(mv, propMapping, i, false);
+				mv.visitMethodInsn(INVOKEINTERFACE, BI_CONSUMER, "accept", "(L" + OBJECT + ";L" + OBJECT + ";)V", true);
+			}
+		}
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	/*
+	 * Pushes the value of the column onto the stack. Same extraction as
+	 * ColumnReader.of().
+	 */
+	private static void visitValue(MethodVisitor mv, PropertyMapping propMapping, int i, boolean typed) {
+		switch (propMapping.getResultSetType()) {
+		case STRING -> visitGet(mv, i, "getString", "Ljava/lang/String;");
+		case BIGDECIMAL -> visitGet(mv, i, "getBigDecimal", "Ljava/math/BigDecimal;");
+		case DATE -> visitGet(mv, i, "getDate", "Ljava/sql/Date;");
+		case TIME -> visitGet(mv, i, "getTime", "Ljava/sql/Time;");
+		// java.util.Date same as timestamp
+		case TIMESTAMP, UTILDATE -> visitGet(mv, i, "getTimestamp", "Ljava/sql/Timestamp;");
+		case BYTEARRAY -> visitGet(mv, i, "getBytes", "[B");
+		case BLOB -> visitGet(mv, i, "getBlob", "Ljava/sql/Blob;");
+		case CLOB -> visitGet(mv, i, "getClob", "Ljava/sql/Clob;");
+		case BOOLEAN -> visitGetPrimitive(mv, i, "getBoolean", "Z", "java/lang/Boolean");
+		case BYTE -> visitGetPrimitive(mv, i, "getByte", "B", "java/lang/Byte");
+		case SHORT -> visitGetPrimitive(mv, i, "getShort", "S", "java/lang/Short");
+		case INTEGER -> visitGetPrimitive(mv, i, "getInt", "I", "java/lang/Integer");
+		case LONG -> visitGetPrimitive(mv, i, "getLong", "J", "java/lang/Long");
+		case FLOAT -> visitGetPrimitive(mv, i, "getFloat", "F", "java/lang/Float");
+		// NUMBER same as double
+		case DOUBLE, NUMBER -> visitGetPrimitive(mv, i, "getDouble", "D", "java/lang/Double");
+		default -> {
+			// readers[i].read(rs, index)
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, CLASS_NAME, "readers", READERS_DESC);
+			pushInt(mv, i);
+			mv.visitInsn(AALOAD);
+			mv.visitVarInsn(ALOAD, RS);
+			visitIndex(mv, i);
+			mv.visitMethodInsn(INVOKEINTERFACE, COLUMN_READER, "read", "(L" + RESULT_SET + ";I)L" + OBJECT + ";",
+					true);
+			if (typed) {
+				mv.visitTypeInsn(CHECKCAST, Type.getInternalName(propMapping.getPropertyType()));
+			}
+		}
+		}
+	}
+
+	// rs.getXxx(index)
+	private static void visitGet(MethodVisitor mv, int i, String getter, String returnDesc) {
+		mv.visitVarInsn(ALOAD, RS);
+		visitIndex(mv, i);
+		mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET, getter, "(I)" + returnDesc, true);
+	}
+
+	// rs.wasNull() ? null : Wrapper.valueOf(rs.getXxx(index))
+	private static void visitGetPrimitive(MethodVisitor mv, int i, String getter, String primitiveDesc,
+			String wrapper) {
+		visitGet(mv, i, getter, primitiveDesc);
+		Label notNull = new Label();
+		Label end = new Label();
+		mv.visitVarInsn(ALOAD, RS);
+		mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET, "wasNull", "()Z", true);
+		mv.visitJumpInsn(IFEQ, notNull);
+		mv.visitInsn(Type.getType(primitiveDesc).getSize() == 2 ? POP2 : POP);
+		mv.visitInsn(ACONST_NULL);
+		mv.visitJumpInsn(GOTO, end);
+		mv.visitLabel(notNull);
+		mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf", "(" + primitiveDesc + ")L" + wrapper + ";", false);
+		mv.visitLabel(end);
+	}
+
+	// startIndex + i
+	private static void visitIndex(MethodVisitor mv, int i) {
+		mv.visitVarInsn(ILOAD, START_INDEX);
+		if (i > 0) {
+			pushInt(mv, i);
+			mv.visitInsn(IADD);
+		}
+	}
+
+	private static void pushInt(MethodVisitor mv, int value) {
+		if (value <= 5) {
+			mv.visitInsn(ICONST_0 + value);
+		} else if (value <= Byte.MAX_VALUE) {
+			mv.visitIntInsn(BIPUSH, value);
+		} else if (value <= Short.MAX_VALUE) {
+			mv.visitIntInsn(SIPUSH, value);
+		} else {
+			mv.visitLdcInsn(value);
+		}
+	}
+
+	/*
+	 * The setter is called directly when the generated class (in this package with
+	 * the SimpleJdbcMapper class loader) can link to it and the column value
+	 * matches the parameter type.
+	 */
+	private static boolean isDirectlyCallable(MethodHandles.Lookup lookup, Class<?> mappedObjType,
+			PropertyMapping propMapping) {
+		Method writeMethod = propMapping.getWriteMethod();
+		if (writeMethod == null || writeMethod.getParameterCount() != 1
+				|| writeMethod.getParameterTypes()[0] != propMapping.getPropertyType()
+				|| !isAccessible(lookup, propMapping.getPropertyType())) {
+			return false;
+		}
+		try {
+			// same access checks as the invokevirtual of the generated class.
+			lookup.findVirtual(mappedObjType, writeMethod.getName(),
+					MethodType.methodType(writeMethod.getReturnType(), writeMethod.getParameterTypes()));
+			return true;
+		} catch (ReflectiveOperationException | SecurityException e) {
+			return false;
+		}
+	}
+
+	private static boolean isAccessible(MethodHandles.Lookup lookup, Class<?> type) {
+		Class<?> elementType = type.isArray() ? type.componentType() : type;
+		if (elementType.isPrimitive()) {
+			return true;
+		}
+		try {
+			// the name has to resolve to the same class from the generated class.
+			return lookup.findClass(elementType.getName()) == elementType && lookup.accessClass(elementType) != null;
+		} catch (ReflectiveOperationException | SecurityException e) {
+			return false;
+		}
+	}
+
+	private static void logFallback(Class<?> mappedObjType, String reason, Throwable e) {
+		logger.warn("Could not generate the row mapping class for {}. Falling back to the standard row mapping. {}",
+				mappedObjType.getName(), reason, e);
+	}
+
+	private RowPopulatorGenerator() {
+	}
+}
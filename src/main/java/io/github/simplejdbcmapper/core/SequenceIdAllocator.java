@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out ids from blocks reserved from a database sequence (hi-lo). Each
+ * call to the sequence reserves allocationSize ids starting at the value
+ * returned, so the sequence has to be incremented by allocationSize.
+ *
+ * <p>
+ * Thread safe. The ids of the current block are handed out with an atomic
+ * increment. When a block runs out a single thread fetches the next block,
+ * announced by installing a refill future, and the other threads which need
+ * an id wait for that future instead of calling the sequence themselves. So
+ * the sequence is called once per block and no block is dropped. Like any
+ * sequence the ids are unique but can have gaps, for example the rest of a
+ * block when the application stops.
+ *
+ * @author Antony Joseph
+ */
+class SequenceIdAllocator {
+	private final LongSupplier sequenceNextValue;
+
+	private final int allocationSize;
+
+	private final AtomicReference<Block> currentBlock = new AtomicReference<>();
+
+	// non null while a thread fetches the next block
+	private final AtomicReference<CompletableFuture<Block>> refill = new AtomicReference<>();
+
+	public SequenceIdAllocator(LongSupplier sequenceNextValue, int allocationSize) {
+		if (allocationSize < 1) {
+			throw new IllegalArgumentException("allocationSize must be greater than 0");
+		}
+		this.sequenceNextValue = sequenceNextValue;
+		this.allocationSize = allocationSize;
+	}
+
+	public long nextId() {
+		while (true) {
+			Block block = currentBlock.get();
+			if (block != null) {
+				long id = block.next.getAndIncrement();
+				if (id < block.end) {
+					return id;
+				}
+			}
+			CompletableFuture<Block> pending = refill.get();
+			if (pending != null) {
+				await(pending);
+			} else {
+				CompletableFuture<Block> future = new CompletableFuture<>();
+				if (refill.compareAndSet(null, future)) {
+					refill(block, future);
+				}
+			}
+		}
+	}
+
+	// fetches the next block unless another thread replaced the exhausted block
+	// before the refill future was installed.
+	private void refill(Block exhausted, CompletableFuture<Block> future) {
+		try {
+			Block block = currentBlock.get();
+			if (block == exhausted) {
+				block = new Block(sequenceNextValue.getAsLong(), allocationSize);
+				currentBlock.set(block);
+			}
+			refill.set(null);
+			future.complete(block);
+		} catch (RuntimeException e) {
+			refill.set(null);
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	// the waiting threads get the exception of a failed refill
+	private static void await(CompletableFuture<Block> future) {
+		try {
+			future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw e;
+		}
+	}
+
+	private static final class Block {
+		private final AtomicLong next;
+
+		private final long end;
+
+		Block(long start, int size) {
+			this.next = new AtomicLong(start);
+			this.end = start + size;
+		}
+	}
+
+}
@@ -16,7 +16,9 @@ package io.github.simplejdbcmapper.core;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -121,6 +123,144 @@ public final class SimpleJdbcMapper {
 		return findOperation.findAll(entityType, sortByArray);
 	}
 
+	/**
+	 * Find all objects using the statement settings of the options. The settings
+	 * not specified in the options are taken from the
+	 * {@link io.github.simplejdbcmapper.annotation.Table} annotation.
+	 * 
+	 * <pre>
+	 * {@code List<Order>} orders = sjm.findAll(Order.class, QueryOptions.create().fetchSize(500).maxRows(10000));
+	 * </pre>
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param options     the fetch size, max rows and query timeout for the query
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 * @return List of objects of type T
+	 */
+	public <T> List<T> findAll(Class<T> entityType, QueryOptions options, SortBy... sortByArray) {
+		return findOperation.findAll(entityType, options, sortByArray);
+	}
+
+	/**
+	 * Reads all the objects of the entity type by splitting the id range into
+	 * partitions which are queried in parallel. Same as
+	 * {@code parallelScan(entityType, partitions, partitions, false, action)}.
+	 * See {@link #parallelScan(Class, int, int, boolean, Consumer)}.
+	 *
+	 * @param <T>        the type
+	 * @param entityType type of object. Its id has to be of type Integer, Long,
+	 *                   Short or BigInteger
+	 * @param partitions the number of partitions the id range is split into
+	 * @param action     invoked with the objects of each partition
+	 */
+	public <T> void parallelScan(Class<T> entityType, int partitions, Consumer<? super List<T>> action) {
+		findOperation.parallelScan(entityType, partitions, partitions, false, QueryOptions.NONE, action);
+	}
+
+	/**
+	 * Reads all the objects of the entity type by splitting the id range into
+	 * partitions which are queried in parallel. Meant for large extracts where a
+	 * single query on a single connection is the bottleneck.
+	 * 
+	 * <p>
+	 * MIN(id) and MAX(id) of the table are split into contiguous ranges and each
+	 * range is queried on a virtual thread using its own connection from the
+	 * DataSource pool. At most maxConcurrency queries (and connections) are active
+	 * at the same time so the pool should be sized accordingly. Works best when the
+	 * ids are evenly distributed.
+	 * 
+	 * <p>
+	 * The partitions being queried plus the ones waiting to be handed to the action
+	 * never exceed maxConcurrency, so at most maxConcurrency partitions are held in
+	 * memory even when the action is slower than the queries.
+	 * 
+	 * <p>
+	 * The action is invoked on the calling thread once for each partition, so it
+	 * does not need to be thread safe. With ordered true the partitions are
+	 * delivered in ascending id order (and the objects in a partition are sorted
+	 * by id), otherwise they are delivered as soon as they are ready.
+	 * 
+	 * <p>
+	 * The partition queries do not participate in any transaction of the calling
+	 * thread and the partitions are not a consistent snapshot of the table.
+	 * 
+	 * <p>
+	 * The max rows of the {@link io.github.simplejdbcmapper.annotation.Table}
+	 * annotation is not applied to the partition queries since it would silently
+	 * drop rows of the partitions.
+	 *
+	 * @param <T>            the type
+	 * @param entityType     type of object. Its id has to be of type Integer, Long,
+	 *                       Short or BigInteger
+	 * @param partitions     the number of partitions the id range is split into
+	 * @param maxConcurrency maximum number of partitions queried at the same time
+	 * @param ordered        whether to deliver the partitions in id order
+	 * @param action         invoked with the objects of each partition
+	 */
+	public <T> void parallelScan(Class<T> entityType, int partitions, int maxConcurrency, boolean ordered,
+			Consumer<? super List<T>> action) {
+		findOperation.parallelScan(entityType, partitions, maxConcurrency, ordered, QueryOptions.NONE, action);
+	}
+
+	/**
+	 * Same as {@link #parallelScan(Class, int, int, boolean, Consumer)} using the
+	 * fetch size and query timeout of the options for the partition queries. The
+	 * settings not specified in the options are taken from the
+	 * {@link io.github.simplejdbcmapper.annotation.Table} annotation. The max rows
+	 * is ignored.
+	 *
+	 * @param <T>            the type
+	 * @param entityType     type of object. Its id has to be of type Integer, Long,
+	 *                       Short or BigInteger
+	 * @param partitions     the number of partitions the id range is split into
+	 * @param maxConcurrency maximum number of partitions queried at the same time
+	 * @param ordered        whether to deliver the partitions in id order
+	 * @param options        the fetch size and query timeout for the partition
+	 *                       queries
+	 * @param action         invoked with the objects of each partition
+	 */
+	public <T> void parallelScan(Class<T> entityType, int partitions, int maxConcurrency, boolean ordered,
+			QueryOptions options, Consumer<? super List<T>> action) {
+		findOperation.parallelScan(entityType, partitions, maxConcurrency, ordered, options, action);
+	}
+
+	/**
+	 * Finds a page of objects using keyset (seek) pagination. Instead of an
+	 * offset, the query for the next page filters on the sort key values of the
+	 * last row of the previous page, so fetching a page deep into a large table is
+	 * as fast as fetching the first page (given an index on the sort columns).
+	 * 
+	 * <p>
+	 * The id property is always used as the last sort key to make the ordering
+	 * unique. The sort properties should not have null values.
+	 * 
+	 * <pre>
+	 * {@code Page<Customer>} page = sjm.findPage(Customer.class, new PageRequest(100, new SortBy("lastName")));
+	 * // process page.getContent()
+	 * while (page.hasNext()) {
+	 *     page = sjm.findPage(Customer.class, page.nextPageRequest());
+	 *     // process page.getContent()
+	 * }
+	 * </pre>
+	 * 
+	 * The continuation token of the page can be handed to a client and used later
+	 * with {@link PageRequest#PageRequest(int, String, SortBy...)}.
+	 * 
+	 * <p>
+	 * The max rows of the {@link io.github.simplejdbcmapper.annotation.Table}
+	 * annotation is not applied since the page size already limits the rows.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param pageRequest the page request
+	 * @return the Page
+	 */
+	public <T> Page<T> findPage(Class<T> entityType, PageRequest pageRequest) {
+		return findOperation.findPage(entityType, pageRequest);
+	}
+
 	/**
 	 * Returns list of objects which match the property value. 'IS NULL' clause will
 	 * be used in the sql for a null value.
@@ -138,6 +278,70 @@ public final class SimpleJdbcMapper {
 		return findOperation.findByPropertyValue(entityType, propertyName, propertyValue, sortByArray);
 	}
 
+	/**
+	 * Returns list of objects which match the property value using the statement
+	 * settings of the options. The settings not specified in the options are taken
+	 * from the {@link io.github.simplejdbcmapper.annotation.Table} annotation.
+	 * 'IS NULL' clause will be used in the sql for a null value.
+	 *
+	 * @param <T>           the type
+	 * @param entityType    type of objects to be returned
+	 * @param propertyName  the property name
+	 * @param propertyValue the property value
+	 * @param options       the fetch size, max rows and query timeout for the
+	 *                      query
+	 * @param sortByArray   optional argument. An array of SortBy objects that are
+	 *                      used to generate the "ORDER BY" clause
+	 * @return a List of objects of type T
+	 */
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			QueryOptions options, SortBy... sortByArray) {
+		return findOperation.findByPropertyValue(entityType, propertyName, propertyValue, options, sortByArray);
+	}
+
+	/**
+	 * Returns list of objects which match the property value, selecting only the
+	 * columns of the projected properties. The properties not in the projection
+	 * will have their default values. 'IS NULL' clause will be used in the sql for
+	 * a null value.
+	 *
+	 * @param <T>           the type
+	 * @param entityType    type of objects to be returned
+	 * @param propertyName  the property name
+	 * @param propertyValue the property value
+	 * @param projection    the properties to select
+	 * @param sortByArray   optional argument. An array of SortBy objects that are
+	 *                      used to generate the "ORDER BY" clause
+	 * @return a List of objects of type T
+	 */
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			Projection projection, SortBy... sortByArray) {
+		return findOperation.findByPropertyValue(entityType, propertyName, propertyValue, projection, sortByArray);
+	}
+
+	/**
+	 * Same as {@link #findByPropertyValue(Class, String, Object, Projection, SortBy...)}
+	 * using the statement settings of the options. The settings not specified in
+	 * the options are taken from the
+	 * {@link io.github.simplejdbcmapper.annotation.Table} annotation.
+	 *
+	 * @param <T>           the type
+	 * @param entityType    type of objects to be returned
+	 * @param propertyName  the property name
+	 * @param propertyValue the property value
+	 * @param projection    the properties to select
+	 * @param options       the fetch size, max rows and query timeout for the
+	 *                      query
+	 * @param sortByArray   optional argument. An array of SortBy objects that are
+	 *                      used to generate the "ORDER BY" clause
+	 * @return a List of objects of type T
+	 */
+	public <T> List<T> findByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			Projection projection, QueryOptions options, SortBy... sortByArray) {
+		return findOperation.findByPropertyValue(entityType, propertyName, propertyValue, projection, options,
+				sortByArray);
+	}
+
 	/**
 	 * Returns list of objects which match the collection of property values. Uses
 	 * an sql 'IN' clause. Large number of values could cause query performance
@@ -163,10 +367,241 @@ public final class SimpleJdbcMapper {
 		return findOperation.findByPropertyValues(entityType, propertyName, propertyValues, sortByArray);
 	}
 
+	/**
+	 * Returns list of objects which match the collection of property values using
+	 * the statement settings of the options. The settings not specified in the
+	 * options are taken from the {@link io.github.simplejdbcmapper.annotation.Table}
+	 * annotation. See {@link #findByPropertyValues(Class, String, Collection, SortBy...)}.
+	 *
+	 * @param <T>            the type
+	 * @param <U>            the type of the property values
+	 * @param entityType     the type of objects to be returned
+	 * @param propertyName   the property name
+	 * @param propertyValues the collection of property values
+	 * @param options        the fetch size, max rows and query timeout for the
+	 *                       query
+	 * @param sortByArray    optional argument. An array of SortBy objects that are
+	 *                       used to generate the "ORDER BY" clause
+	 * @return a List of objects of type T
+	 */
+	public <T, U> List<T> findByPropertyValues(Class<T> entityType, String propertyName, Collection<U> propertyValues,
+			QueryOptions options, SortBy... sortByArray) {
+		return findOperation.findByPropertyValues(entityType, propertyName, propertyValues, options, sortByArray);
+	}
+
+	/**
+	 * Find all objects, selecting only the columns of the projected properties.
+	 * Use it to avoid fetching columns which are not needed, for example large
+	 * BLOB/CLOB columns for listings. The properties not in the projection will
+	 * have their default values.
+	 * 
+	 * <pre>
+	 * {@code List<Product>} products = sjm.findAll(Product.class, Projection.of("id", "name"), new SortBy("name"));
+	 * </pre>
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param projection  the properties to select
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 * @return List of objects of type T
+	 */
+	public <T> List<T> findAll(Class<T> entityType, Projection projection, SortBy... sortByArray) {
+		return findOperation.findAll(entityType, projection, sortByArray);
+	}
+
+	/**
+	 * Same as {@link #findAll(Class, Projection, SortBy...)} using the statement
+	 * settings of the options. The settings not specified in the options are taken
+	 * from the {@link io.github.simplejdbcmapper.annotation.Table} annotation.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param projection  the properties to select
+	 * @param options     the fetch size, max rows and query timeout for the query
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 * @return List of objects of type T
+	 */
+	public <T> List<T> findAll(Class<T> entityType, Projection projection, QueryOptions options,
+			SortBy... sortByArray) {
+		return findOperation.findAll(entityType, projection, options, sortByArray);
+	}
+
+	/**
+	 * Streams all objects. Unlike {@link #findAll} the rows are mapped lazily as
+	 * the stream is consumed, so large tables can be processed without holding all
+	 * the objects in memory.
+	 * 
+	 * <p>
+	 * The stream holds on to a database connection and <b>must be closed</b> after
+	 * use, typically with a try-with-resources block:
+	 * 
+	 * <pre>
+	 * try ({@code Stream<Order>} orders = sjm.streamAll(Order.class)) {
+	 * 	orders.forEach(order -&gt; ...);
+	 * }
+	 * </pre>
+	 * 
+	 * The rows are fetched from the database in batches of
+	 * {@link #setStreamFetchSize(int) streamFetchSize}. Some drivers only honor the
+	 * fetch size with a server side cursor. For example PostgreSQL needs the stream
+	 * to be consumed within a transaction (autocommit off), otherwise the driver
+	 * reads the whole ResultSet into memory. MySQL needs 'useCursorFetch=true' on
+	 * the connection url, or a fetch size of Integer.MIN_VALUE to stream the rows
+	 * one at a time.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 * @return Stream of objects of type T which has to be closed after use
+	 */
+	public <T> Stream<T> streamAll(Class<T> entityType, SortBy... sortByArray) {
+		return findOperation.streamAll(entityType, sortByArray);
+	}
+
+	/**
+	 * Streams all objects using the statement settings of the options. The stream
+	 * <b>must be closed</b> after use. When the options and the
+	 * {@link io.github.simplejdbcmapper.annotation.Table} annotation do not specify
+	 * a fetch size, {@link #setStreamFetchSize(int) streamFetchSize} is used. See
+	 * {@link #streamAll(Class, SortBy...)}.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param options     the fetch size, max rows and query timeout for the query
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 * @return Stream of objects of type T which has to be closed after use
+	 */
+	public <T> Stream<T> streamAll(Class<T> entityType, QueryOptions options, SortBy... sortByArray) {
+		return findOperation.streamAll(entityType, options, sortByArray);
+	}
+
+	/**
+	 * Streams the objects which match the property value. 'IS NULL' clause will be
+	 * used in the sql for a null value. The stream <b>must be closed</b> after use.
+	 * See {@link #streamAll} for the transaction requirements of cursor based
+	 * fetching.
+	 *
+	 * @param <T>           the type
+	 * @param entityType    type of objects to be returned
+	 * @param propertyName  the property name
+	 * @param propertyValue the property value
+	 * @param sortByArray   optional argument. An array of SortBy objects that are
+	 *                      used to generate the "ORDER BY" clause
+	 * @return Stream of objects of type T which has to be closed after use
+	 */
+	public <T> Stream<T> streamByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			SortBy... sortByArray) {
+		return findOperation.streamByPropertyValue(entityType, propertyName, propertyValue, sortByArray);
+	}
+
+	/**
+	 * Streams the objects which match the property value using the statement
+	 * settings of the options. The stream <b>must be closed</b> after use. See
+	 * {@link #streamAll(Class, QueryOptions, SortBy...)}.
+	 *
+	 * @param <T>           the type
+	 * @param entityType    type of objects to be returned
+	 * @param propertyName  the property name
+	 * @param propertyValue the property value
+	 * @param options       the fetch size, max rows and query timeout for the
+	 *                      query
+	 * @param sortByArray   optional argument. An array of SortBy objects that are
+	 *                      used to generate the "ORDER BY" clause
+	 * @return Stream of objects of type T which has to be closed after use
+	 */
+	public <T> Stream<T> streamByPropertyValue(Class<T> entityType, String propertyName, Object propertyValue,
+			QueryOptions options, SortBy... sortByArray) {
+		return findOperation.streamByPropertyValue(entityType, propertyName, propertyValue, options, sortByArray);
+	}
+
+	/**
+	 * Invokes the action for every object of the entity type. The rows are
+	 * processed one at a time as they are read from the ResultSet, so nothing is
+	 * accumulated in memory. Unlike {@link #streamAll} there is no resource to
+	 * close, the connection is released when the method returns.
+	 * 
+	 * <p>
+	 * The rows are fetched in batches of {@link #setStreamFetchSize(int)
+	 * streamFetchSize}. See {@link #streamAll} for the transaction requirements of
+	 * cursor based fetching.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param action      the action invoked for each object
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 */
+	public <T> void forEach(Class<T> entityType, Consumer<? super T> action, SortBy... sortByArray) {
+		findOperation.forEach(entityType, action, false, QueryOptions.NONE, sortByArray);
+	}
+
+	/**
+	 * Same as {@link #forEach(Class, Consumer, SortBy...)} using the statement
+	 * settings of the options. When the options and the
+	 * {@link io.github.simplejdbcmapper.annotation.Table} annotation do not specify
+	 * a fetch size, {@link #setStreamFetchSize(int) streamFetchSize} is used.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param action      the action invoked for each object
+	 * @param options     the fetch size, max rows and query timeout for the query
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 */
+	public <T> void forEach(Class<T> entityType, Consumer<? super T> action, QueryOptions options,
+			SortBy... sortByArray) {
+		findOperation.forEach(entityType, action, false, options, sortByArray);
+	}
+
+	/**
+	 * Same as {@link #forEach} except that a single object is created for the
+	 * query and it gets repopulated for every row, avoiding an allocation per row.
+	 * Use it when the rows are only being aggregated, for example summing up
+	 * values.
+	 * 
+	 * <p>
+	 * <b>The object passed to the action is only valid for the duration of the
+	 * action call.</b> It will be overwritten by the next row so the action must
+	 * not hold on to it, or add it to a collection etc. Copy the values needed
+	 * instead.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param action      the action invoked for each row with the reused object
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 */
+	public <T> void forEachReusingInstance(Class<T> entityType, Consumer<? super T> action,
+			SortBy... sortByArray) {
+		findOperation.forEach(entityType, action, true, QueryOptions.NONE, sortByArray);
+	}
+
+	/**
+	 * Same as {@link #forEachReusingInstance(Class, Consumer, SortBy...)} using
+	 * the statement settings of the options. See
+	 * {@link #forEach(Class, Consumer, QueryOptions, SortBy...)}.
+	 *
+	 * @param <T>         the type
+	 * @param entityType  type of object
+	 * @param action      the action invoked for each row with the reused object
+	 * @param options     the fetch size, max rows and query timeout for the query
+	 * @param sortByArray optional argument. An array of SortBy objects that are
+	 *                    used to generate the "ORDER BY" clause
+	 */
+	public <T> void forEachReusingInstance(Class<T> entityType, Consumer<? super T> action, QueryOptions options,
+			SortBy... sortByArray) {
+		findOperation.forEach(entityType, action, true, options, sortByArray);
+	}
+
 	/**
 	 * Inserts an object. Objects with auto generated id will have the id set to the
-	 * new id from database. For non auto generated id the id has to be manually set
-	 * before invoking insert().
+	 * new id from database. Objects with IdType.SEQUENCE, IdType.UUID_V7 or
+	 * IdType.SNOWFLAKE get the id assigned before the insert. Otherwise the id has
+	 * to be manually set before invoking insert().
 	 *
 	 * <pre>
 	 * Will handle the following annotations:
@@ -188,6 +623,119 @@ public final class SimpleJdbcMapper {
 		insertOperation.insert(object);
 	}
 
+	/**
+	 * Inserts the objects using JDBC batching, in batches of
+	 * {@link #setBatchSize(int) batchSize}. Same as
+	 * {@code insertAll(objects, getBatchSize())}.
+	 * 
+	 * @param objects the objects to be saved
+	 */
+	public void insertAll(Collection<?> objects) {
+		insertOperation.insertAll(objects, simpleJdbcMapperSupport.getBatchSize());
+	}
+
+	/**
+	 * Inserts the objects using JDBC batching. Each batch is sent to the database
+	 * in a single round trip instead of a round trip per object. The annotations
+	 * are handled the same way as {@link #insert(Object)} except that the audit
+	 * Suppliers are called once per batch, so all the objects of a batch get the
+	 * same audit values.
+	 * 
+	 * <p>
+	 * Objects with non auto generated ids are inserted according to the
+	 * {@link #setBatchInsertStrategy(BatchInsertStrategy) batchInsertStrategy},
+	 * either as a JDBC batch (the default) or with multi row 'INSERT ... VALUES'
+	 * statements.
+	 * 
+	 * <p>
+	 * Consecutive objects of the same type are batched together and the batches
+	 * are executed in the order of the collection. The batches are not atomic
+	 * unless the call is made within a transaction.
+	 * 
+	 * <p>
+	 * Objects with auto generated ids will have the id set to the new id from the
+	 * database. For PostgreSQL and MySQL the generated ids are read back from the
+	 * batch. The Oracle and SQL Server drivers do not return the generated ids of
+	 * a batch, so for them (and other databases) these objects are inserted one at
+	 * a time.
+	 * 
+	 * @param objects   the objects to be saved
+	 * @param batchSize the maximum number of objects in a batch
+	 */
+	public void insertAll(Collection<?> objects, int batchSize) {
+		insertOperation.insertAll(objects, batchSize);
+	}
+
+	/**
+	 * Inserts the object or, if a row with its id already exists, updates it. This
+	 * is done with a single statement, so there is no race between checking if
+	 * the row exists and writing it. The statement is 'INSERT ... ON CONFLICT' for
+	 * PostgreSQL, 'INSERT ... ON DUPLICATE KEY UPDATE' for MySQL and 'MERGE' for
+	 * other databases.
+	 *
+	 * <p>
+	 * Only supported for objects with non auto generated ids. The id must not be
+	 * null.
+	 *
+	 * <pre>
+	 * Will handle the following annotations:
+	 * &#64;CreatedOn if Supplier is configured with SimpleJdbcMapper the supplied
+	 *                value is written when the row is inserted. The property of
+	 *                the object is not assigned since an existing row keeps its
+	 *                value.
+	 * &#64;CreatedBy if Supplier is configured with SimpleJdbcMapper the supplied
+	 *                value is written when the row is inserted. The property of
+	 *                the object is not assigned since an existing row keeps its
+	 *                value.
+	 * &#64;UpdatedOn if Supplier is configured with SimpleJdbcMapper the property
+	 *                will be assigned the supplied value
+	 * &#64;UpdatedBy if Supplier is configured with SimpleJdbcMapper the property
+	 *                will be assigned the supplied value
+	 * &#64;Version   the existing row only gets updated if its version matches
+	 *                the version of the object, otherwise an
+	 *                OptimisticLockingException is thrown. The version of the
+	 *                object is incremented (set to 1 if null). Not supported for
+	 *                MySQL.
+	 * </pre>
+	 *
+	 * @param object The object to be saved
+	 */
+	public void upsert(Object object) {
+		insertOperation.upsert(object);
+	}
+
+	/**
+	 * Upserts the objects using JDBC batching, in batches of
+	 * {@link #setBatchSize(int) batchSize}. Same as
+	 * {@code upsertAll(objects, getBatchSize())}.
+	 *
+	 * @param objects the objects to be saved
+	 */
+	public void upsertAll(Collection<?> objects) {
+		insertOperation.upsertAll(objects, simpleJdbcMapperSupport.getBatchSize());
+	}
+
+	/**
+	 * Upserts the objects using JDBC batching. The annotations are handled the
+	 * same way as {@link #upsert(Object)} except that the audit Suppliers are
+	 * called once per batch. Consecutive objects of the same type are batched
+	 * together and the batches are executed in the order of the collection.
+	 *
+	 * <p>
+	 * If the versions of some of the objects do not match, an
+	 * OptimisticLockingException listing them is thrown after the batch is
+	 * executed. The other objects of the batch are saved unless the call is made
+	 * within a transaction. If the jdbc driver does not return the update count of
+	 * each row for versioned objects, a MapperException is thrown since staleness
+	 * cannot be checked.
+	 *
+	 * @param objects   the objects to be saved
+	 * @param batchSize the maximum number of objects in a batch
+	 */
+	public void upsertAll(Collection<?> objects, int batchSize) {
+		insertOperation.upsertAll(objects, batchSize);
+	}
+
 	/**
 	 * Update the object.
 	 *
@@ -200,6 +748,10 @@ public final class SimpleJdbcMapper {
 	 * &#64;Version property will be incremented on a successful update. An OptimisticLockingException
 	 *                will be thrown if object is stale.
 	 * </pre>
+	 * 
+	 * <p>
+	 * With {@link #setSnapshotUpdates(boolean) snapshot updates} enabled only the
+	 * changed properties of a loaded object are updated.
 	 *
 	 * @param object object to be updated
 	 * @return number of records updated
@@ -208,6 +760,38 @@ public final class SimpleJdbcMapper {
 		return updateOperation.update(object);
 	}
 
+	/**
+	 * Updates the objects using JDBC batching, in batches of
+	 * {@link #setBatchSize(int) batchSize}. Same as
+	 * {@code updateAll(objects, getBatchSize())}.
+	 *
+	 * @param objects the objects to be updated
+	 */
+	public void updateAll(Collection<?> objects) {
+		updateOperation.updateAll(objects, simpleJdbcMapperSupport.getBatchSize());
+	}
+
+	/**
+	 * Updates the objects using JDBC batching. The annotations are handled the
+	 * same way as {@link #update(Object)} except that the audit Suppliers are
+	 * called once per batch. Consecutive objects of the same type are batched
+	 * together and the batches are executed in the order of the collection.
+	 *
+	 * <p>
+	 * If some of the objects are stale, an OptimisticLockingException listing all
+	 * of them is thrown after the batch is executed. The other objects of the
+	 * batch get their incremented versions and are saved unless the call is made
+	 * within a transaction. If the jdbc driver does not return the update count of
+	 * each row for versioned objects, a MapperException is thrown since staleness
+	 * cannot be checked.
+	 *
+	 * @param objects   the objects to be updated
+	 * @param batchSize the maximum number of objects in a batch
+	 */
+	public void updateAll(Collection<?> objects, int batchSize) {
+		updateOperation.updateAll(objects, batchSize);
+	}
+
 	/**
 	 * Updates only the specified properties passed in as arguments. Use it to
 	 * update a property or a few properties of the object and not the whole object.
@@ -232,6 +816,36 @@ public final class SimpleJdbcMapper {
 		return updateOperation.updateSpecificProperties(object, propertyNames);
 	}
 
+	/**
+	 * Updates the rows which match the criteria with the new values without loading
+	 * any objects. Issues a single SQL update statement, unless an IN list of the
+	 * criteria exceeds the bind parameter limit of the database. Then a statement
+	 * is issued for each chunk of the list, which is not allowed if an updated
+	 * property is also in the criteria. Use a transaction to make the chunks
+	 * atomic.
+	 *
+	 * <pre>
+	 * Will handle the following annotations:
+	 * &#64;UpdatedOn if Supplier is configured with SimpleJdbcMapper the column 
+	 *                will be assigned the supplied value
+	 * &#64;UpdatedBy if Supplier is configured with SimpleJdbcMapper the column 
+	 *                will be assigned the supplied value
+	 * &#64;Version the column will be incremented by 1 in the SQL.
+	 * </pre>
+	 * 
+	 * <pre>
+	 * int cnt = sjm.updateWhere(Order.class, Criteria.where("status", "NEW"), Map.of("status", "CANCELLED"));
+	 * </pre>
+	 *
+	 * @param entityType the type of the objects to be updated
+	 * @param criteria   the criteria the rows have to match
+	 * @param newValues  the new values by property name (NOT the column name)
+	 * @return number of records updated
+	 */
+	public Integer updateWhere(Class<?> entityType, Criteria criteria, Map<String, Object> newValues) {
+		return updateOperation.updateWhere(entityType, criteria, newValues);
+	}
+
 	/**
 	 * Deletes the object from the database.
 	 *
@@ -254,7 +868,21 @@ public final class SimpleJdbcMapper {
 	}
 
 	/**
-	 * Returns a new EntityRowMapper.
+	 * Deletes the rows which match the criteria without loading any objects. If an
+	 * IN list of the criteria exceeds the bind parameter limit of the database, a
+	 * statement is issued for each chunk of the list.
+	 *
+	 * @param entityType the type of the objects to be deleted
+	 * @param criteria   the criteria the rows have to match
+	 * @return number of records deleted
+	 */
+	public Integer deleteWhere(Class<?> entityType, Criteria criteria) {
+		return deleteOperation.deleteWhere(entityType, criteria);
+	}
+
+	/**
+	 * Returns an EntityRowMapper. EntityRowMapper is thread safe so an instance is
+	 * created once per entity type and returned on subsequent calls.
 	 * 
 	 * <p>
 	 * EntityRowMapper <b>always</b> has to be used with sql columns generated by
@@ -635,6 +1263,158 @@ public final class SimpleJdbcMapper {
 		simpleJdbcMapperSupport.setConversionService(conversionService);
 	}
 
+	/**
+	 * Gets the fetch size used by the streaming and forEach queries.
+	 *
+	 * @return the fetch size
+	 */
+	public int getStreamFetchSize() {
+		return simpleJdbcMapperSupport.getStreamFetchSize();
+	}
+
+	/**
+	 * Set the fetch size used by {@link #streamAll}, {@link #streamByPropertyValue}
+	 * and the forEach methods. Defaults to 1000. A value of 0 leaves it up to the
+	 * JDBC driver default. Integer.MIN_VALUE is allowed for MySQL, which then
+	 * streams the rows one at a time. A fetch size specified by QueryOptions or the
+	 * {@link io.github.simplejdbcmapper.annotation.Table} annotation takes
+	 * precedence.
+	 * 
+	 * @param fetchSize the fetch size
+	 * @throws IllegalArgumentException if the fetch size is negative and not
+	 *                                  Integer.MIN_VALUE
+	 */
+	public void setStreamFetchSize(int fetchSize) {
+		simpleJdbcMapperSupport.setStreamFetchSize(fetchSize);
+	}
+
+	/**
+	 * Gets the batch size used by {@link #insertAll(Collection)},
+	 * {@link #upsertAll(Collection)} and {@link #updateAll(Collection)}.
+	 *
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return simpleJdbcMapperSupport.getBatchSize();
+	}
+
+	/**
+	 * Set the batch size used by {@link #insertAll(Collection)},
+	 * {@link #upsertAll(Collection)} and {@link #updateAll(Collection)}. Defaults
+	 * to 1000.
+	 * 
+	 * @param batchSize the batch size. Has to be greater than 0
+	 */
+	public void setBatchSize(int batchSize) {
+		simpleJdbcMapperSupport.setBatchSize(batchSize);
+	}
+
+	/**
+	 * Gets the strategy used by insertAll() for objects with non auto generated
+	 * ids.
+	 *
+	 * @return the batch insert strategy
+	 */
+	public BatchInsertStrategy getBatchInsertStrategy() {
+		return simpleJdbcMapperSupport.getBatchInsertStrategy();
+	}
+
+	/**
+	 * Set the strategy used by insertAll() for objects with non auto generated ids.
+	 * Defaults to {@link BatchInsertStrategy#JDBC_BATCH}.
+	 * 
+	 * <p>
+	 * With {@link BatchInsertStrategy#MULTI_ROW_VALUES} the rows per statement are
+	 * limited by the bind parameter limit of the database (65535 for PostgreSQL
+	 * and MySQL, 2100 for SQL Server which also limits a VALUES list to 1000 rows).
+	 * Oracle does not support multi row VALUES and uses JDBC batching.
+	 * 
+	 * @param batchInsertStrategy the batch insert strategy
+	 */
+	public void setBatchInsertStrategy(BatchInsertStrategy batchInsertStrategy) {
+		simpleJdbcMapperSupport.setBatchInsertStrategy(batchInsertStrategy);
+	}
+
+	/**
+	 * Gets the node id included in the ids of IdType.SNOWFLAKE.
+	 *
+	 * @return the node id. -1 if it has not been set
+	 */
+	public int getSnowflakeNodeId() {
+		return simpleJdbcMapperSupport.getSnowflakeNodeId();
+	}
+
+	/**
+	 * Set the node id included in the ids of IdType.SNOWFLAKE. Each instance of
+	 * the application (JVM) inserting into the same tables needs a different node
+	 * id, otherwise the ids can collide. The SimpleJdbcMapper instances within a
+	 * JVM share the time and counter part of the ids, so they can use the same
+	 * node id. There is no default. The insert of an object with an
+	 * IdType.SNOWFLAKE id fails with a MapperException until it is set.
+	 * 
+	 * @param nodeId the node id. Has to be between 0 and 1023
+	 */
+	public void setSnowflakeNodeId(int nodeId) {
+		simpleJdbcMapperSupport.setSnowflakeNodeId(nodeId);
+	}
+
+	/**
+	 * Whether snapshot updates are enabled.
+	 *
+	 * @return true if snapshot updates are enabled
+	 */
+	public boolean isSnapshotUpdates() {
+		return simpleJdbcMapperSupport.isSnapshotUpdates();
+	}
+
+	/**
+	 * Enables or disables snapshot updates. Defaults to false.
+	 * 
+	 * <p>
+	 * When enabled, the objects loaded by the find methods and EntityRowMapper get
+	 * a snapshot of their property values. {@link #update(Object)} of such an
+	 * object only updates the properties which changed since the object was
+	 * loaded (or last updated), along with the auto assign properties. If no
+	 * property has changed the database is not accessed and 0 is returned. Values
+	 * changed in place, for example a mutated java.util.Date, are not detected so
+	 * assign a new value instead. Projections do not get snapshots.
+	 * 
+	 * @param snapshotUpdates true to enable snapshot updates
+	 */
+	public void setSnapshotUpdates(boolean snapshotUpdates) {
+		simpleJdbcMapperSupport.setSnapshotUpdates(snapshotUpdates);
+	}
+
+	/**
+	 * Whether generated row mappers are enabled.
+	 *
+	 * @return true if generated row mappers are enabled
+	 */
+	public boolean isGeneratedRowMappers() {
+		return simpleJdbcMapperSupport.isGeneratedRowMappers();
+	}
+
+	/**
+	 * Enables or disables generated row mappers. Defaults to false.
+	 * 
+	 * <p>
+	 * When enabled, the EntityRowMapper used by the find methods and returned by
+	 * {@link #newEntityRowMapper(Class)} maps the columns with a hidden class
+	 * generated at runtime for each mapped class. It makes the exact ResultSet
+	 * getter call for each column and calls the setters directly, instead of
+	 * looping over the property mappings. This mostly benefits wide tables.
+	 * 
+	 * <p>
+	 * The mapped class has to be public and visible to the class loader of
+	 * SimpleJdbcMapper. If the class cannot be generated a warning is logged and
+	 * the standard row mapping is used.
+	 * 
+	 * @param generatedRowMappers true to enable generated row mappers
+	 */
+	public void setGeneratedRowMappers(boolean generatedRowMappers) {
+		simpleJdbcMapperSupport.setGeneratedRowMappers(generatedRowMappers);
+	}
+
 	/**
 	 * Get the schema name.
 	 *
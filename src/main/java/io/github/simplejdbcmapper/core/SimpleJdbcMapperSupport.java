@@ -13,6 +13,7 @@
  */
 package io.github.simplejdbcmapper.core;
 
+import java.sql.DatabaseMetaData;
 import java.util.function.Supplier;
 
 import javax.sql.DataSource;
@@ -22,14 +23,22 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.util.Assert;
 
+import io.github.simplejdbcmapper.exception.MapperException;
+
 /**
  * Support class for SimpleJdbcMapper
  *
  * @author Antony Joseph
  */
 class SimpleJdbcMapperSupport {
+	static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+
+	static final int DEFAULT_BATCH_SIZE = 1000;
+
 	private final DataSource dataSource;
 
 	private final String schemaName;
@@ -54,6 +63,24 @@ class SimpleJdbcMapperSupport {
 
 	private boolean conversionServiceManuallySet = false;
 
+	private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private BatchInsertStrategy batchInsertStrategy = BatchInsertStrategy.JDBC_BATCH;
+
+	// the (millisecond, counter) state of the ids is shared by all the mappers of
+	// the JVM
+	private final TimeOrderedIdGenerator timeOrderedIdGenerator = new TimeOrderedIdGenerator();
+
+	// null when snapshot updates are not enabled
+	private volatile EntitySnapshots entitySnapshots;
+
+	private volatile boolean generatedRowMappers = false;
+
+	// resolved lazily from the database metadata on first use.
+	private volatile DatabaseDialect databaseDialect;
+
 	/**
 	 * Constructor.
 	 *
@@ -119,6 +146,87 @@ class SimpleJdbcMapperSupport {
 		}
 	}
 
+	public int getStreamFetchSize() {
+		return streamFetchSize;
+	}
+
+	public void setStreamFetchSize(int streamFetchSize) {
+		// Integer.MIN_VALUE is what MySQL uses to stream the rows one at a time
+		if (streamFetchSize < 0 && streamFetchSize != Integer.MIN_VALUE) {
+			throw new IllegalArgumentException("streamFetchSize must not be negative other than Integer.MIN_VALUE");
+		}
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize must be greater than 0");
+		}
+		this.batchSize = batchSize;
+	}
+
+	public int getSnowflakeNodeId() {
+		return timeOrderedIdGenerator.getNodeId();
+	}
+
+	public void setSnowflakeNodeId(int nodeId) {
+		timeOrderedIdGenerator.setNodeId(nodeId);
+	}
+
+	TimeOrderedIdGenerator getTimeOrderedIdGenerator() {
+		return timeOrderedIdGenerator;
+	}
+
+	public boolean isSnapshotUpdates() {
+		return entitySnapshots != null;
+	}
+
+	public void setSnapshotUpdates(boolean snapshotUpdates) {
+		if (snapshotUpdates != isSnapshotUpdates()) {
+			this.entitySnapshots = snapshotUpdates ? new EntitySnapshots() : null;
+		}
+	}
+
+	EntitySnapshots getEntitySnapshots() {
+		return entitySnapshots;
+	}
+
+	public boolean isGeneratedRowMappers() {
+		return generatedRowMappers;
+	}
+
+	public void setGeneratedRowMappers(boolean generatedRowMappers) {
+		this.generatedRowMappers = generatedRowMappers;
+	}
+
+	public BatchInsertStrategy getBatchInsertStrategy() {
+		return batchInsertStrategy;
+	}
+
+	public void setBatchInsertStrategy(BatchInsertStrategy batchInsertStrategy) {
+		Assert.notNull(batchInsertStrategy, "batchInsertStrategy must not be null");
+		this.batchInsertStrategy = batchInsertStrategy;
+	}
+
+	DatabaseDialect getDatabaseDialect() {
+		DatabaseDialect dialect = databaseDialect;
+		if (dialect == null) {
+			try {
+				String productName = JdbcUtils.extractDatabaseMetaData(dataSource,
+						DatabaseMetaData::getDatabaseProductName);
+				dialect = DatabaseDialect.fromProductName(productName);
+			} catch (MetaDataAccessException e) {
+				throw new MapperException(e.getMessage(), e);
+			}
+			databaseDialect = dialect;
+		}
+		return dialect;
+	}
+
 	public String getSchemaName() {
 		return schemaName;
 	}
@@ -17,11 +17,13 @@ import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
+import io.github.simplejdbcmapper.annotation.IdType;
 import io.github.simplejdbcmapper.exception.MapperException;
 
 /**
@@ -42,6 +44,13 @@ class TableMapping {
 
 	private boolean idAutoGenerated = false;
 
+	private IdType idType;
+
+	// qualified by the schema of the table if the name is not qualified
+	private String idSequenceName;
+
+	private int idAllocationSize;
+
 	private String versionPropertyName = null;
 
 	private String createdOnPropertyName = null;
@@ -56,15 +65,27 @@ class TableMapping {
 
 	private PropertyMapping[] propertyMappings;
 
+	private PropertyMapping[] selectPropertyMappings;
+
+	private PropertyMapping[] lazyPropertyMappings;
+
+	// statement settings from the @Table annotation
+	private QueryOptions queryOptions = QueryOptions.NONE;
+
 	// key: column name, value: property mapping
 	private Map<String, PropertyMapping> columnNameMap;
 
 	// key: property name, value: property mapping
 	private Map<String, PropertyMapping> propertyNameMap;
 
+	// key: property name, value: index of the property mapping in propertyMappings
+	private Map<String, Integer> propertyIndexMap;
+
 	@SuppressWarnings("rawtypes")
 	private Constructor mappedObjConstructor;
 
+	private Supplier<Object> mappedObjInstantiator;
+
 	public TableMapping(Class<?> mappedObjType, String tableName, String schemaName, String catalogName,
 			IdPropertyInfo idPropertyInfo, List<PropertyMapping> propertyMappings) {
 		Assert.notNull(mappedObjType, "mappedObjType must not be null");
@@ -79,6 +100,13 @@ class TableMapping {
 		this.catalogName = StringUtils.hasText(catalogName) ? catalogName : null;
 		this.idPropertyName = idPropertyInfo.getPropertyName();
 		this.idAutoGenerated = idPropertyInfo.isIdAutoGenerated();
+		this.idType = idPropertyInfo.getIdType();
+		String sequenceName = idPropertyInfo.getSequenceName();
+		if (sequenceName != null && !sequenceName.contains(".") && this.schemaName != null) {
+			sequenceName = this.schemaName + "." + sequenceName;
+		}
+		this.idSequenceName = sequenceName;
+		this.idAllocationSize = idPropertyInfo.getAllocationSize();
 
 		columnNameMap = new HashMap<>();
 		propertyNameMap = new HashMap<>();
@@ -108,11 +136,20 @@ class TableMapping {
 		}
 
 		this.propertyMappings = propertyMappings.toArray(new PropertyMapping[0]);
+		propertyIndexMap = new HashMap<>();
+		for (int i = 0; i < this.propertyMappings.length; i++) {
+			propertyIndexMap.put(this.propertyMappings[i].getPropertyName(), i);
+		}
+		this.selectPropertyMappings = propertyMappings.stream().filter(pm -> !pm.isLazy())
+				.toArray(PropertyMapping[]::new);
+		this.lazyPropertyMappings = propertyMappings.stream().filter(PropertyMapping::isLazy)
+				.toArray(PropertyMapping[]::new);
 
 		try {
 			Constructor<?> cnst = mappedObjType.getDeclaredConstructor();
 			cnst.trySetAccessible();
 			this.mappedObjConstructor = cnst;
+			this.mappedObjInstantiator = AccessorFactory.instantiator(cnst);
 		} catch (Exception e) {
 			throw new MapperException(e.getMessage(), e);
 		}
@@ -150,6 +187,18 @@ class TableMapping {
 		return idAutoGenerated;
 	}
 
+	public IdType getIdType() {
+		return idType;
+	}
+
+	public String getIdSequenceName() {
+		return idSequenceName;
+	}
+
+	public int getIdAllocationSize() {
+		return idAllocationSize;
+	}
+
 	public PropertyMapping getIdPropertyMapping() {
 		return propertyNameMap.get(idPropertyName);
 	}
@@ -158,6 +207,28 @@ class TableMapping {
 		return propertyMappings;
 	}
 
+	/**
+	 * The property mappings whose columns are part of the find queries. Excludes
+	 * the lazy loaded properties.
+	 * 
+	 * @return the property mappings
+	 */
+	public PropertyMapping[] getSelectPropertyMappings() {
+		return selectPropertyMappings;
+	}
+
+	public PropertyMapping[] getLazyPropertyMappings() {
+		return lazyPropertyMappings;
+	}
+
+	public QueryOptions getQueryOptions() {
+		return queryOptions;
+	}
+
+	public void setQueryOptions(QueryOptions queryOptions) {
+		this.queryOptions = queryOptions;
+	}
+
 	public PropertyMapping getPropertyMappingByColumnName(String columnName) {
 		return columnNameMap.get(columnName);
 	}
@@ -166,6 +237,16 @@ class TableMapping {
 		return propertyNameMap.get(propertyName);
 	}
 
+	/**
+	 * Gets the index of the property in {@link #getPropertyMappings()}.
+	 * 
+	 * @param propertyName the property name
+	 * @return the index or null if the property is not mapped
+	 */
+	public Integer getPropertyIndex(String propertyName) {
+		return propertyIndexMap.get(propertyName);
+	}
+
 	public String fullyQualifiedTableName() {
 		String prefix = "";
 		if (StringUtils.hasText(catalogName)) {
@@ -206,4 +287,8 @@ class TableMapping {
 		return mappedObjConstructor;
 	}
 
+	public Supplier<Object> getMappedObjInstantiator() {
+		return mappedObjInstantiator;
+	}
+
 }
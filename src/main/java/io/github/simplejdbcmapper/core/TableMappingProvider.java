@@ -30,7 +30,6 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import io.github.simplejdbcmapper.annotation.Id;
-import io.github.simplejdbcmapper.annotation.IdType;
 import io.github.simplejdbcmapper.annotation.Table;
 import io.github.simplejdbcmapper.exception.AnnotationException;
 import io.github.simplejdbcmapper.exception.MapperException;
@@ -67,6 +66,8 @@ class TableMappingProvider {
 			IdPropertyInfo idPropertyInfo = getIdPropertyInfo(entityType, fields);
 			List<PropertyMapping> propertyMappings = getPropertyMappings(entityType, fields);
 			tableMapping = new TableMapping(entityType, tableName, schema, catalog, idPropertyInfo, propertyMappings);
+			tableMapping.setQueryOptions(new QueryOptions(tableAnnotation.fetchSize(), tableAnnotation.maxRows(),
+					tableAnnotation.queryTimeout()));
 			tableMappingCache.put(entityType, tableMapping);
 		}
 		return tableMapping;
@@ -123,6 +124,7 @@ class TableMappingProvider {
 				// turn off jvm access verification for invoke()
 				writeMethod.trySetAccessible();
 				propMapping.setWriteMethod(writeMethod);
+				propMapping.setWriteAccessor(AccessorFactory.setter(writeMethod));
 
 				Method readMethod = pd.getReadMethod();
 				if (readMethod == null) {
@@ -132,6 +134,7 @@ class TableMappingProvider {
 				// turn off jvm access verification for invoke()
 				readMethod.trySetAccessible();
 				propMapping.setReadMethod(readMethod);
+				propMapping.setReadAccessor(AccessorFactory.getter(readMethod));
 			}
 		} catch (Exception e) {
 			throw new MapperException(e.getMessage(), e);
@@ -147,15 +150,11 @@ class TableMappingProvider {
 
 	private IdPropertyInfo getIdPropertyInfo(Class<?> entityType, List<Field> fields) {
 		Id idAnnotation = null;
-		String idPropertyName = null;
-		boolean isIdAutoGenerated = false;
+		Field idField = null;
 		for (Field field : fields) {
 			idAnnotation = AnnotationUtils.findAnnotation(field, Id.class);
 			if (idAnnotation != null) {
-				idPropertyName = field.getName();
-				if (idAnnotation.type() == IdType.AUTO_GENERATED) {
-					isIdAutoGenerated = true;
-				}
+				idField = field;
 				break;
 			}
 		}
@@ -163,7 +162,9 @@ class TableMappingProvider {
 			throw new AnnotationException(
 					"@Id annotation not found in class " + entityType.getSimpleName() + " . It is required");
 		}
-		return new IdPropertyInfo(idPropertyName, isIdAutoGenerated);
+		ap.validateIdAnnotation(idAnnotation, idField, entityType);
+		return new IdPropertyInfo(idField.getName(), idAnnotation.type(), idAnnotation.sequence(),
+				idAnnotation.allocationSize());
 	}
 
 	private String getCatalogForTable(Table tableAnnotation) {
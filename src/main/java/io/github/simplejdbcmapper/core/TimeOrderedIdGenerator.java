@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time ordered ids in the JVM, UUIDs (version 7, RFC 9562) and
+ * Snowflake style longs.
+ *
+ * <p>
+ * Thread safe and lock free. Each kind of id keeps the last (millisecond,
+ * counter) pair in a static AtomicLong. The next id takes the current time with
+ * the counter reset, or the last pair plus 1 if the clock has not moved forward
+ * (or went back), so the ids generated in the JVM are strictly increasing. The
+ * state is shared by all the generators of the JVM, so mappers with the same
+ * Snowflake node id in one JVM do not generate the same ids. When the counter
+ * of a millisecond runs out the ids continue in the next millisecond. The node
+ * id of the Snowflake ids can be set later without resetting that state, and
+ * has to be set before the first Snowflake id is generated.
+ *
+ * <pre>
+ * UUID v7:   48 bits unix epoch millis | version 7 | 12 bits counter | variant | 62 bits random
+ * Snowflake: sign bit 0 | 41 bits millis since 2025-01-01 | 10 bits node id | 12 bits counter
+ * </pre>
+ *
+ * @author Antony Joseph
+ */
+class TimeOrderedIdGenerator {
+	// 2025-01-01T00:00:00Z
+	static final long SNOWFLAKE_EPOCH_MILLIS = 1735689600000L;
+
+	static final int MAX_NODE_ID = 1023;
+
+	static final int NODE_ID_NOT_SET = -1;
+
+	private static final int COUNTER_BITS = 12;
+
+	private static final int NODE_ID_BITS = 10;
+
+	private volatile int nodeId = NODE_ID_NOT_SET;
+
+	// (millis << COUNTER_BITS) | counter of the last generated id in the JVM
+	private static final AtomicLong LAST_UUID_STATE = new AtomicLong();
+
+	private static final AtomicLong LAST_SNOWFLAKE_STATE = new AtomicLong();
+
+	public int getNodeId() {
+		return nodeId;
+	}
+
+	public void setNodeId(int nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId has to be between 0 and " + MAX_NODE_ID);
+		}
+		this.nodeId = nodeId;
+	}
+
+	public boolean isNodeIdSet() {
+		return nodeId != NODE_ID_NOT_SET;
+	}
+
+	public UUID nextUuid() {
+		long state = nextState(LAST_UUID_STATE, System.currentTimeMillis());
+		long millis = state >>> COUNTER_BITS;
+		long counter = state & ((1L << COUNTER_BITS) - 1);
+		long msb = (millis << 16) | 0x7000L | counter;
+		long lsb = (ThreadLocalRandom.current().nextLong() >>> 2) | 0x8000000000000000L;
+		return new UUID(msb, lsb);
+	}
+
+	public long nextSnowflakeId() {
+		long node = nodeId;
+		if (node == NODE_ID_NOT_SET) {
+			throw new IllegalStateException("The Snowflake node id has not been set");
+		}
+		long state = nextState(LAST_SNOWFLAKE_STATE, System.currentTimeMillis() - SNOWFLAKE_EPOCH_MILLIS);
+		long millis = state >>> COUNTER_BITS;
+		long counter = state & ((1L << COUNTER_BITS) - 1);
+		return (millis << (NODE_ID_BITS + COUNTER_BITS)) | (node << COUNTER_BITS) | counter;
+	}
+
+	private static long nextState(AtomicLong lastState, long millis) {
+		long candidate = millis << COUNTER_BITS;
+		while (true) {
+			long last = lastState.get();
+			long next = candidate > last ? candidate : last + 1;
+			if (lastState.compareAndSet(last, next)) {
+				return next;
+			}
+		}
+	}
+
+}
@@ -13,15 +13,21 @@
  */
 package io.github.simplejdbcmapper.core;
 
-import java.sql.Types;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
 import org.springframework.util.Assert;
 
 import io.github.simplejdbcmapper.exception.MapperException;
@@ -35,75 +41,375 @@ import io.github.simplejdbcmapper.exception.OptimisticLockingException;
 class UpdateOperation {
 	private static final String TABLE_MAPPING_MUST_NOT_BE_NULL = "tableMapping must not be null";
 
-	private static final int CACHEABLE_UPDATE_SPECIFIC_PROPERTIES_COUNT = 5;
+	private final SimpleJdbcMapperSupport sjmSupport;
 
-	private static final String INCREMENTED_VERSION = "[incrementedVersion]";
+	// Map key - class, sorted property names, audit columns and criteria key
+	// value - the update sql
+	private final LruCache<UpdateWhereSqlKey, String> updateWhereSqlCache = new LruCache<>(3000);
 
-	private final SimpleJdbcMapperSupport sjmSupport;
+	private final SimpleCache<Class<?>, UpdateStatement> updateSqlCache = new SimpleCache<>();
 
-	private final SimpleCache<Class<?>, SqlAndParams> updateSqlCache = new SimpleCache<>();
+	// Map key - class. value - the update statement by the indexes of the
+	// properties in the table mapping
+	private final SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> updateSpecificPropertiesSqlCache;
 
-	// Map key - class name and properties concatenated by hyphens
-	// value - the update sql and params
-	private final SimpleCache<String, SqlAndParams> updateSpecificPropertiesSqlCache = new SimpleCache<>(3000);
+	// Map key - class. value - the update statement by the indexes of the
+	// properties in the table mapping which get updated. Used for the changed
+	// properties of snapshot updates and for updates which leave out the lazy
+	// properties that were not loaded.
+	private final SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> changedSqlCache = new SimpleCache<>();
 
 	public UpdateOperation(SimpleJdbcMapperSupport sjmSupport) {
 		this.sjmSupport = sjmSupport;
+		this.updateSpecificPropertiesSqlCache = new SimpleCache<>();
 	}
 
 	public Integer update(Object object) {
 		Assert.notNull(object, "object must not be null");
 		TableMapping tableMapping = sjmSupport.getTableMapping(object.getClass());
-		SqlAndParams sqlAndParams = updateSqlCache.get(object.getClass());
-		if (sqlAndParams == null) {
-			sqlAndParams = buildSqlAndParamsForUpdate(tableMapping);
-			updateSqlCache.put(object.getClass(), sqlAndParams);
-		}
 		EntityWrapper ew = new EntityWrapper(object);
-		return updateInternal(ew, sqlAndParams, tableMapping);
+		EntitySnapshots entitySnapshots = sjmSupport.getEntitySnapshots();
+		Object[] snapshot = entitySnapshots == null ? null : entitySnapshots.get(object);
+		if (snapshot != null) {
+			return updateChangedProperties(object, ew, snapshot, tableMapping, entitySnapshots);
+		}
+		UpdateStatement updateStatement = getUpdateStatement(tableMapping, unloadedLazyProperties(ew, tableMapping));
+		if (updateStatement == null) {
+			return 0;
+		}
+		return updateInternal(ew, updateStatement, tableMapping);
+	}
+
+	public void updateAll(Collection<?> objects, int batchSize) {
+		InternalUtils.forEachBatch(objects, batchSize, this::updateBatch);
 	}
 
 	public Integer updateSpecificProperties(Object object, String... propertyNames) {
 		Assert.notNull(object, "object must not be null");
 		Assert.notNull(propertyNames, "propertyNames must not be null");
 		TableMapping tableMapping = sjmSupport.getTableMapping(object.getClass());
-		SqlAndParams sqlAndParams = null;
-		String cacheKey = getUpdateSpecificPropertiesCacheKey(object, propertyNames);
-		if (cacheKey != null) {
-			sqlAndParams = updateSpecificPropertiesSqlCache.get(cacheKey);
-		}
-		if (sqlAndParams == null) {
-			sqlAndParams = buildSqlAndParamsForUpdateSpecificProperties(tableMapping, propertyNames);
-			if (cacheKey != null) {
-				updateSpecificPropertiesSqlCache.put(cacheKey, sqlAndParams);
+		// the cache key does not depend on the order of the property names. The
+		// names are validated when the statement is not cached yet, which also
+		// reports unmapped properties.
+		UpdateStatement updateStatement = tableMapping.getPropertyMappings().length <= Long.SIZE
+				? getUpdateSpecificPropertiesStatement(tableMapping, propertyNames)
+				: getWideUpdateSpecificPropertiesStatement(tableMapping, propertyNames);
+		EntityWrapper ew = new EntityWrapper(object);
+		return updateInternal(ew, updateStatement, tableMapping);
+	}
+
+	public Integer updateWhere(Class<?> entityType, Criteria criteria, Map<String, Object> newValues) {
+		Assert.notNull(entityType, "entityType must not be null");
+		Assert.notNull(criteria, "criteria must not be null");
+		Assert.notEmpty(newValues, "newValues must not be empty");
+		Assert.noNullElements(newValues.keySet(), "newValues must not contain null property names");
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		// sorted so the sql does not depend on the iteration order of the map
+		String[] propertyNames = newValues.keySet().toArray(new String[0]);
+		Arrays.sort(propertyNames);
+		PropertyMapping updatedOnPropMapping = sjmSupport.getRecordAuditedOnSupplier() == null ? null
+				: tableMapping.getUpdatedOnPropertyMapping();
+		PropertyMapping updatedByPropMapping = sjmSupport.getRecordAuditedBySupplier() == null ? null
+				: tableMapping.getUpdatedByPropertyMapping();
+		List<Object> values = new ArrayList<>();
+		List<PropertyMapping> propMappings = new ArrayList<>();
+		for (String propertyName : propertyNames) {
+			values.add(newValues.get(propertyName));
+			propMappings.add(tableMapping.getPropertyMappingByPropertyName(propertyName));
+		}
+		if (updatedOnPropMapping != null) {
+			values.add(sjmSupport.getRecordAuditedOnSupplier().get());
+			propMappings.add(updatedOnPropMapping);
+		}
+		if (updatedByPropMapping != null) {
+			values.add(sjmSupport.getRecordAuditedBySupplier().get());
+			propMappings.add(updatedByPropMapping);
+		}
+		DatabaseDialect dialect = sjmSupport.getDatabaseDialect();
+		List<Criteria> chunks = criteria.split(dialect.getMaxBindParameters() - values.size());
+		if (chunks.size() > 1) {
+			// a row updated by one chunk must not match a later chunk
+			List<String> updatedProperties = new ArrayList<>(Arrays.asList(propertyNames));
+			updatedProperties.addAll(getAutoAssignProperties(tableMapping));
+			for (String propertyName : updatedProperties) {
+				if (criteria.hasProperty(propertyName)) {
+					throw new IllegalArgumentException("The criteria exceeds the bind parameter limit of the database"
+							+ " and cannot be split since property " + propertyName
+							+ " is both updated and in the criteria");
+				}
 			}
 		}
-		EntityWrapper ew = new EntityWrapper(object);
-		return updateInternal(ew, sqlAndParams, tableMapping);
+		List<String> propertyNameList = List.of(propertyNames);
+		int cnt = 0;
+		// criteria over the bind parameter limit are run in chunks of its IN list
+		for (Criteria chunk : chunks) {
+			UpdateWhereSqlKey cacheKey = new UpdateWhereSqlKey(entityType, propertyNameList,
+					updatedOnPropMapping != null, updatedByPropMapping != null, chunk.getKey());
+			String sql = updateWhereSqlCache.get(cacheKey);
+			if (sql == null) {
+				validateUpdatableProperties(tableMapping, "updateWhere", propertyNames);
+				sql = buildUpdateWhereSql(tableMapping, propertyNames, updatedOnPropMapping, updatedByPropMapping,
+						chunk, dialect);
+				updateWhereSqlCache.put(cacheKey, sql);
+			}
+			cnt += updateWhere(sql, values, propMappings, chunk.getArgs(tableMapping));
+		}
+		return cnt;
+	}
+
+	private int updateWhere(String sql, List<Object> values, List<PropertyMapping> propMappings,
+			List<SqlParameterValue> whereArgs) {
+		return sjmSupport.getJdbcTemplate().update(sql, ps -> {
+			int index = 1;
+			for (int i = 0; i < values.size(); i++) {
+				Object val = values.get(i);
+				if (propMappings.get(i).isEnum() && !(val instanceof Enum<?>)) {
+					// the enum name given as a String
+					StatementCreatorUtils.setParameterValue(ps, index++, propMappings.get(i).getColumnSqlType(), val);
+				} else {
+					ParameterBinder.of(propMappings.get(i)).bind(ps, index++, val);
+				}
+			}
+			for (SqlParameterValue whereArg : whereArgs) {
+				StatementCreatorUtils.setParameterValue(ps, index++, whereArg, whereArg.getValue());
+			}
+		});
 	}
 
-	SimpleCache<Class<?>, SqlAndParams> getUpdateSqlCache() {
+	SimpleCache<Class<?>, UpdateStatement> getUpdateSqlCache() {
 		return updateSqlCache;
 	}
 
-	SimpleCache<String, SqlAndParams> getUpdateSpecificPropertiesSqlCache() {
+	SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> getUpdateSpecificPropertiesSqlCache() {
 		return updateSpecificPropertiesSqlCache;
 	}
 
-	private Integer updateInternal(EntityWrapper ew, SqlAndParams sqlAndParams, TableMapping tableMapping) {
-		Assert.notNull(sqlAndParams, "sqlAndParams must not be null");
-		if (ew.getPropertyValue(tableMapping.getIdPropertyMapping()) == null) {
-			throw new IllegalArgumentException("Property " + tableMapping.getMappedObjType().getName() + "."
-					+ tableMapping.getIdPropertyName() + " is the id and must not be null.");
+	SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> getChangedSqlCache() {
+		return changedSqlCache;
+	}
+
+	LruCache<UpdateWhereSqlKey, String> getUpdateWhereSqlCache() {
+		return updateWhereSqlCache;
+	}
+
+	record UpdateWhereSqlKey(Class<?> entityType, List<String> propertyNames, boolean updatedOn, boolean updatedBy,
+			String criteriaKey) {
+	}
+
+	// the version is incremented in the sql since the rows are not loaded
+	private String buildUpdateWhereSql(TableMapping tableMapping, String[] propertyNames,
+			PropertyMapping updatedOnPropMapping, PropertyMapping updatedByPropMapping, Criteria criteria,
+			DatabaseDialect dialect) {
+		StringJoiner sj = new StringJoiner(", ");
+		for (String propertyName : propertyNames) {
+			sj.add(tableMapping.getPropertyMappingByPropertyName(propertyName).getColumnName() + " = ?");
+		}
+		if (updatedOnPropMapping != null) {
+			sj.add(updatedOnPropMapping.getColumnName() + " = ?");
 		}
-		Set<String> parameters = sqlAndParams.getParams();
-		populateAuditProperties(ew, tableMapping);
-		MapSqlParameterSource mapSqlParameterSource = createMapSqlParameterSource(ew, tableMapping, parameters);
-		int cnt = -1;
+		if (updatedByPropMapping != null) {
+			sj.add(updatedByPropMapping.getColumnName() + " = ?");
+		}
+		PropertyMapping versionPropMapping = tableMapping.getVersionPropertyMapping();
+		if (versionPropMapping != null) {
+			sj.add(versionPropMapping.getColumnName() + " = " + versionPropMapping.getColumnName() + " + 1");
+		}
+		return "UPDATE " + tableMapping.fullyQualifiedTableName() + " SET " + sj + criteria.whereClause(tableMapping, dialect);
+	}
+
+	/*
+	 * Updates only the properties which have changed since the snapshot was taken,
+	 * along with the auto assign properties. Nothing is sent to the database if no
+	 * property has changed.
+	 */
+	private Integer updateChangedProperties(Object object, EntityWrapper ew, Object[] snapshot,
+			TableMapping tableMapping, EntitySnapshots entitySnapshots) {
+		PropertyMapping[] propertyMappings = tableMapping.getPropertyMappings();
+		UpdateStatement updateStatement;
+		if (propertyMappings.length <= Long.SIZE) {
+			// the bitmask of the changed properties is looked up without allocating
+			long changed = 0L;
+			for (int i = 0; i < propertyMappings.length; i++) {
+				if (isUpdatableProperty(propertyMappings[i])
+						&& !EntitySnapshots.isUnchanged(snapshot[i], ew.getPropertyValue(propertyMappings[i]))) {
+					changed |= 1L << i;
+				}
+			}
+			if (changed == 0L) {
+				return 0;
+			}
+			updateStatement = getUpdateStatementForProperties(changedSqlCache, tableMapping, changed);
+		} else {
+			BitSet changed = new BitSet(propertyMappings.length);
+			for (int i = 0; i < propertyMappings.length; i++) {
+				if (isUpdatableProperty(propertyMappings[i])
+						&& !EntitySnapshots.isUnchanged(snapshot[i], ew.getPropertyValue(propertyMappings[i]))) {
+					changed.set(i);
+				}
+			}
+			if (changed.isEmpty()) {
+				return 0;
+			}
+			updateStatement = getUpdateStatementForProperties(changedSqlCache, tableMapping, changed);
+		}
+		Integer cnt = updateInternal(ew, updateStatement, tableMapping);
+		entitySnapshots.take(object, tableMapping);
+		return cnt;
+	}
+
+	// the lookup of an entity with at most 64 properties uses the bitmask of the
+	// property indexes so it does not allocate.
+	private UpdateStatement getUpdateSpecificPropertiesStatement(TableMapping tableMapping, String[] propertyNames) {
+		PropertyMaskCache<UpdateStatement> sqlCache = getPropertyMaskCache(updateSpecificPropertiesSqlCache,
+				tableMapping);
+		long mask = 0L;
+		boolean mapped = true;
+		for (String propertyName : propertyNames) {
+			Integer index = tableMapping.getPropertyIndex(propertyName);
+			if (index == null) {
+				mapped = false;
+				break;
+			}
+			mask |= 1L << index;
+		}
+		UpdateStatement updateStatement = mapped ? sqlCache.get(mask) : null;
+		if (updateStatement == null) {
+			validateUpdatableProperties(tableMapping, "updateSpecificProperties", propertyNames);
+			updateStatement = getUpdateStatementForProperties(updateSpecificPropertiesSqlCache, tableMapping, mask);
+		}
+		return updateStatement;
+	}
+
+	private UpdateStatement getWideUpdateSpecificPropertiesStatement(TableMapping tableMapping,
+			String[] propertyNames) {
+		BitSet propertyIndexes = new BitSet(tableMapping.getPropertyMappings().length);
+		for (String propertyName : propertyNames) {
+			Integer index = tableMapping.getPropertyIndex(propertyName);
+			if (index == null) {
+				propertyIndexes = null;
+				break;
+			}
+			propertyIndexes.set(index);
+		}
+		UpdateStatement updateStatement = propertyIndexes == null ? null
+				: getPropertyMaskCache(updateSpecificPropertiesSqlCache, tableMapping).get(propertyIndexes);
+		if (updateStatement == null) {
+			validateUpdatableProperties(tableMapping, "updateSpecificProperties", propertyNames);
+			updateStatement = getUpdateStatementForProperties(updateSpecificPropertiesSqlCache, tableMapping,
+					propertyIndexes);
+		}
+		return updateStatement;
+	}
+
+	// the statement which updates the properties of the indexes, cached by the
+	// indexes
+	private UpdateStatement getUpdateStatementForProperties(
+			SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> cache, TableMapping tableMapping,
+			BitSet propertyIndexes) {
+		PropertyMaskCache<UpdateStatement> sqlCache = getPropertyMaskCache(cache, tableMapping);
+		UpdateStatement updateStatement = sqlCache.get(propertyIndexes);
+		if (updateStatement == null) {
+			updateStatement = buildUpdateStatementForProperties(tableMapping, propertyIndexes);
+			sqlCache.put(propertyIndexes, updateStatement);
+		}
+		return updateStatement;
+	}
+
+	// same as above for an entity with at most 64 properties. The lookup by the
+	// bitmask of the indexes does not allocate.
+	private UpdateStatement getUpdateStatementForProperties(
+			SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> cache, TableMapping tableMapping, long mask) {
+		PropertyMaskCache<UpdateStatement> sqlCache = getPropertyMaskCache(cache, tableMapping);
+		UpdateStatement updateStatement = sqlCache.get(mask);
+		if (updateStatement == null) {
+			updateStatement = buildUpdateStatementForProperties(tableMapping, BitSet.valueOf(new long[] { mask }));
+			sqlCache.put(mask, updateStatement);
+		}
+		return updateStatement;
+	}
+
+	/*
+	 * The indexes of the lazy properties whose handles have not been loaded. They
+	 * are left out of the update so the LOB is neither read nor written back. null
+	 * if there are none.
+	 */
+	private BitSet unloadedLazyProperties(EntityWrapper ew, TableMapping tableMapping) {
+		if (tableMapping.getLazyPropertyMappings().length == 0) {
+			return null;
+		}
+		PropertyMapping[] propertyMappings = tableMapping.getPropertyMappings();
+		BitSet unloaded = null;
+		for (int i = 0; i < propertyMappings.length; i++) {
+			if (propertyMappings[i].isLazy() && ew.getPropertyValue(propertyMappings[i]) instanceof LazyLob<?> lazyLob
+					&& !lazyLob.isLoaded()) {
+				if (unloaded == null) {
+					unloaded = new BitSet(propertyMappings.length);
+				}
+				unloaded.set(i);
+			}
+		}
+		return unloaded;
+	}
+
+	private PropertyMaskCache<UpdateStatement> getPropertyMaskCache(
+			SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> cache, TableMapping tableMapping) {
+		PropertyMaskCache<UpdateStatement> sqlCache = cache.get(tableMapping.getMappedObjType());
+		if (sqlCache == null) {
+			// put does not replace an existing value so get it again
+			cache.put(tableMapping.getMappedObjType(), new PropertyMaskCache<>());
+			sqlCache = cache.get(tableMapping.getMappedObjType());
+		}
+		return sqlCache;
+	}
+
+	// the properties which get updated with the values of the object
+	private boolean isUpdatableProperty(PropertyMapping propMapping) {
+		return !(propMapping.isIdAnnotation() || propMapping.isCreatedByAnnotation()
+				|| propMapping.isCreatedOnAnnotation() || propMapping.isUpdatedByAnnotation()
+				|| propMapping.isUpdatedOnAnnotation() || propMapping.isVersionAnnotation()
+				|| propMapping.isGenerated());
+	}
+
+	/*
+	 * The statement which updates all the updatable properties except the
+	 * excluded ones. null if there is nothing left to update.
+	 */
+	private UpdateStatement getUpdateStatement(TableMapping tableMapping, BitSet excludedProperties) {
+		if (excludedProperties == null) {
+			return getUpdateStatement(tableMapping);
+		}
+		PropertyMapping[] propertyMappings = tableMapping.getPropertyMappings();
+		BitSet propertyIndexes = new BitSet(propertyMappings.length);
+		for (int i = 0; i < propertyMappings.length; i++) {
+			if (isUpdatableProperty(propertyMappings[i]) && !excludedProperties.get(i)) {
+				propertyIndexes.set(i);
+			}
+		}
+		if (propertyIndexes.isEmpty() && getAutoAssignProperties(tableMapping).isEmpty()) {
+			return null;
+		}
+		return getUpdateStatementForProperties(changedSqlCache, tableMapping, propertyIndexes);
+	}
+
+	private UpdateStatement getUpdateStatement(TableMapping tableMapping) {
+		UpdateStatement updateStatement = updateSqlCache.get(tableMapping.getMappedObjType());
+		if (updateStatement == null) {
+			updateStatement = buildUpdateStatement(tableMapping);
+			updateSqlCache.put(tableMapping.getMappedObjType(), updateStatement);
+		}
+		return updateStatement;
+	}
+
+	private Integer updateInternal(EntityWrapper ew, UpdateStatement updateStatement, TableMapping tableMapping) {
+		Assert.notNull(updateStatement, "updateStatement must not be null");
+		validateId(ew, tableMapping);
+		populateAuditProperties(new EntityWrapper[] { ew }, tableMapping);
 		// if object has property version the version gets incremented on update.
 		// throws OptimisticLockingException when update fails.
-		if (sqlAndParams.getParams().contains(INCREMENTED_VERSION)) {
-			cnt = sjmSupport.getNamedParameterJdbcTemplate().update(sqlAndParams.getSql(), mapSqlParameterSource);
+		if (updateStatement.hasVersion()) {
+			Integer incrementedVersion = getIncrementedVersionValue(ew, tableMapping);
+			int cnt = sjmSupport.getJdbcTemplate().update(updateStatement.getSql(),
+					ps -> updateStatement.bind(ps, ew, incrementedVersion));
 			if (cnt == 0) {
 				throw new OptimisticLockingException(ew.getWrappedClass().getSimpleName()
 						+ " update failed due to stale data. Failed for " + tableMapping.getIdColumnName() + " = "
@@ -112,56 +418,127 @@ class UpdateOperation {
 						+ ew.getPropertyValue(tableMapping.getVersionPropertyMapping()));
 			}
 			// update the version in object with new version
-			ew.setPropertyValue(tableMapping.getVersionPropertyMapping(),
-					mapSqlParameterSource.getValue(INCREMENTED_VERSION));
+			ew.setPropertyValue(tableMapping.getVersionPropertyMapping(), incrementedVersion);
+			return cnt;
+		}
+		return sjmSupport.getJdbcTemplate().update(updateStatement.getSql(),
+				ps -> updateStatement.bind(ps, ew, null));
+	}
+
+	/*
+	 * The objects of a batch are updated as one JDBC batch. Every row is checked
+	 * for stale data so all the failures are reported together. The successfully
+	 * updated objects get their incremented versions.
+	 */
+	private void updateBatch(Class<?> entityType, List<Object> objects) {
+		TableMapping tableMapping = sjmSupport.getTableMapping(entityType);
+		if (tableMapping.getLazyPropertyMappings().length > 0) {
+			// the objects which have the same unloaded lazy properties are batched
+			// together since they are left out of the update.
+			Map<BitSet, List<Object>> groups = new LinkedHashMap<>();
+			for (Object object : objects) {
+				BitSet unloaded = unloadedLazyProperties(new EntityWrapper(object), tableMapping);
+				groups.computeIfAbsent(unloaded == null ? new BitSet() : unloaded, k -> new ArrayList<>()).add(object);
+			}
+			for (Map.Entry<BitSet, List<Object>> entry : groups.entrySet()) {
+				UpdateStatement updateStatement = getUpdateStatement(tableMapping,
+						entry.getKey().isEmpty() ? null : entry.getKey());
+				if (updateStatement != null) {
+					updateBatch(tableMapping, updateStatement, entry.getValue());
+				}
+			}
 		} else {
-			cnt = sjmSupport.getNamedParameterJdbcTemplate().update(sqlAndParams.getSql(), mapSqlParameterSource);
+			updateBatch(tableMapping, getUpdateStatement(tableMapping), objects);
 		}
-		return cnt;
 	}
 
-	private void populateAuditProperties(EntityWrapper ew, TableMapping tableMapping) {
+	private void updateBatch(TableMapping tableMapping, UpdateStatement updateStatement, List<Object> objects) {
+		EntityWrapper[] ews = new EntityWrapper[objects.size()];
+		for (int i = 0; i < ews.length; i++) {
+			ews[i] = new EntityWrapper(objects.get(i));
+			validateId(ews[i], tableMapping);
+		}
+		populateAuditProperties(ews, tableMapping);
+		Integer[] incrementedVersions = new Integer[ews.length];
+		if (updateStatement.hasVersion()) {
+			for (int i = 0; i < ews.length; i++) {
+				incrementedVersions[i] = getIncrementedVersionValue(ews[i], tableMapping);
+			}
+		}
+		int[] counts = sjmSupport.getJdbcTemplate().batchUpdate(updateStatement.getSql(),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						updateStatement.bind(ps, ews[i], incrementedVersions[i]);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return ews.length;
+					}
+				});
+		if (updateStatement.hasVersion()) {
+			checkStaleUpdates(ews, tableMapping, incrementedVersions, counts);
+		}
+	}
+
+	// a count of 0 means the row has a different version. A driver which does not
+	// return the count of a row (Statement.SUCCESS_NO_INFO) leaves the stale check
+	// undecidable so it fails rather than treat the row as updated.
+	private void checkStaleUpdates(EntityWrapper[] ews, TableMapping tableMapping, Integer[] incrementedVersions,
+			int[] counts) {
+		PropertyMapping versionPropMapping = tableMapping.getVersionPropertyMapping();
+		StringJoiner failures = new StringJoiner(", ");
+		StringJoiner unknowns = new StringJoiner(", ");
+		for (int i = 0; i < ews.length; i++) {
+			String row = tableMapping.getIdColumnName() + " = "
+					+ ews[i].getPropertyValue(tableMapping.getIdPropertyMapping()) + " and "
+					+ versionPropMapping.getColumnName() + " = " + ews[i].getPropertyValue(versionPropMapping);
+			if (counts[i] == 0) {
+				failures.add(row);
+			} else if (counts[i] > 0) {
+				// update the version in object with new version
+				ews[i].setPropertyValue(versionPropMapping, incrementedVersions[i]);
+			} else {
+				unknowns.add(row);
+			}
+		}
+		if (failures.length() > 0) {
+			throw new OptimisticLockingException(tableMapping.getMappedObjType().getSimpleName()
+					+ " update failed due to stale data. Failed for " + failures);
+		}
+		if (unknowns.length() > 0) {
+			throw new MapperException(tableMapping.getMappedObjType().getSimpleName()
+					+ " update could not be checked for stale data since the jdbc driver did not return the update counts of the batch. Unchecked for "
+					+ unknowns + ". Use update() for each object with this driver.");
+		}
+	}
+
+	private void validateId(EntityWrapper ew, TableMapping tableMapping) {
+		if (ew.getPropertyValue(tableMapping.getIdPropertyMapping()) == null) {
+			throw new IllegalArgumentException("Property " + tableMapping.getMappedObjType().getName() + "."
+					+ tableMapping.getIdPropertyName() + " is the id and must not be null.");
+		}
+	}
+
+	// the suppliers are called once and their values assigned to all the objects
+	private void populateAuditProperties(EntityWrapper[] ews, TableMapping tableMapping) {
 		if (tableMapping.hasAutoAssignProperties()) {
 			PropertyMapping updatedByPropMapping = tableMapping.getUpdatedByPropertyMapping();
 			if (updatedByPropMapping != null && sjmSupport.getRecordAuditedBySupplier() != null) {
-				ew.setPropertyValue(updatedByPropMapping, sjmSupport.getRecordAuditedBySupplier().get());
+				Object updatedBy = sjmSupport.getRecordAuditedBySupplier().get();
+				for (EntityWrapper ew : ews) {
+					ew.setPropertyValue(updatedByPropMapping, updatedBy);
+				}
 			}
 			PropertyMapping updatedOnPropMapping = tableMapping.getUpdatedOnPropertyMapping();
 			if (updatedOnPropMapping != null && sjmSupport.getRecordAuditedOnSupplier() != null) {
-				ew.setPropertyValue(updatedOnPropMapping, sjmSupport.getRecordAuditedOnSupplier().get());
-			}
-		}
-	}
-
-	private MapSqlParameterSource createMapSqlParameterSource(EntityWrapper ew, TableMapping tableMapping,
-			Set<String> parameters) {
-		MapSqlParameterSource mapSqlParameterSource = new MapSqlParameterSource();
-		for (String propertyName : parameters) {
-			if (propertyName.equals(INCREMENTED_VERSION)) {
-				Integer incrementedVersionVal = getIncrementedVersionValue(ew, tableMapping);
-				mapSqlParameterSource.addValue(INCREMENTED_VERSION, incrementedVersionVal, Types.INTEGER);
-			} else {
-				PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(propertyName);
-				Object val = ew.getPropertyValue(propMapping);
-				Integer columnSqlType = propMapping.getColumnSqlType();
-				if (propMapping.isBinaryLargeObject()) {
-					InternalUtils.assignBlobMapSqlParameterSource(mapSqlParameterSource, val, propertyName,
-							columnSqlType);
-				} else if (propMapping.isCharacterLargeObject()) {
-					InternalUtils.assignClobMapSqlParameterSource(mapSqlParameterSource, val, propertyName,
-							columnSqlType);
-				} else if (propMapping.isEnum()) {
-					if (val == null) {
-						mapSqlParameterSource.addValue(propertyName, null, columnSqlType);
-					} else {
-						mapSqlParameterSource.addValue(propertyName, ((Enum<?>) val).name(), columnSqlType);
-					}
-				} else {
-					mapSqlParameterSource.addValue(propertyName, val, columnSqlType);
+				Object updatedOn = sjmSupport.getRecordAuditedOnSupplier().get();
+				for (EntityWrapper ew : ews) {
+					ew.setPropertyValue(updatedOnPropMapping, updatedOn);
 				}
 			}
 		}
-		return mapSqlParameterSource;
 	}
 
 	private Integer getIncrementedVersionValue(EntityWrapper ew, TableMapping tableMapping) {
@@ -186,6 +563,11 @@ class UpdateOperation {
 		if (createdByPropMapping != null) {
 			ignoreProps.add(createdByPropMapping.getPropertyName());
 		}
+		for (PropertyMapping propMapping : tableMapping.getPropertyMappings()) {
+			if (propMapping.isGenerated()) {
+				ignoreProps.add(propMapping.getPropertyName());
+			}
+		}
 		return ignoreProps;
 	}
 
@@ -206,64 +588,28 @@ class UpdateOperation {
 		return list;
 	}
 
-	private SqlAndParams buildSqlAndParamsForUpdate(TableMapping tableMapping) {
+	private UpdateStatement buildUpdateStatement(TableMapping tableMapping) {
 		Assert.notNull(tableMapping, TABLE_MAPPING_MUST_NOT_BE_NULL);
 		List<String> propertyList = Arrays.stream(tableMapping.getPropertyMappings()).map(pm -> pm.getPropertyName())
 				.collect(Collectors.toList());
 		List<String> ignoreProps = getIgnoreProperties(tableMapping);
 		propertyList.removeAll(ignoreProps);
-		return buildSqlAndParams(tableMapping, propertyList);
+		return new UpdateStatement(tableMapping, propertyList);
 	}
 
-	private SqlAndParams buildSqlAndParamsForUpdateSpecificProperties(TableMapping tableMapping,
-			String... propertyNames) {
+	// the properties are in the order of the table mapping followed by the auto
+	// assign properties.
+	private UpdateStatement buildUpdateStatementForProperties(TableMapping tableMapping, BitSet propertyIndexes) {
 		Assert.notNull(tableMapping, TABLE_MAPPING_MUST_NOT_BE_NULL);
-		Assert.notNull(propertyNames, "propertyNames must not be null");
-		validateUpdateSpecificProperties(tableMapping, propertyNames);
-		List<String> propertyList = new ArrayList<>(Arrays.asList(propertyNames));
+		Assert.notNull(propertyIndexes, "propertyIndexes must not be null");
+		PropertyMapping[] propertyMappings = tableMapping.getPropertyMappings();
+		List<String> propertyList = new ArrayList<>();
+		propertyIndexes.stream().forEach(i -> propertyList.add(propertyMappings[i].getPropertyName()));
 		propertyList.addAll(getAutoAssignProperties(tableMapping));
-		return buildSqlAndParams(tableMapping, propertyList);
+		return new UpdateStatement(tableMapping, propertyList);
 	}
 
-	private SqlAndParams buildSqlAndParams(TableMapping tableMapping, List<String> propertyList) {
-		Assert.notNull(tableMapping, TABLE_MAPPING_MUST_NOT_BE_NULL);
-		Assert.notNull(propertyList, "propertyList must not be null");
-		Set<String> params = new HashSet<>();
-		StringBuilder sql = new StringBuilder(256);
-		sql.append("UPDATE ").append(tableMapping.fullyQualifiedTableName()).append(" SET ");
-		boolean first = true;
-		PropertyMapping versionPropMapping = null;
-		for (String propertyName : propertyList) {
-			PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(propertyName);
-			if (!first) {
-				sql.append(", ");
-			} else {
-				first = false;
-			}
-			sql.append(propMapping.getColumnName());
-			sql.append(" = :");
-
-			if (propMapping.isVersionAnnotation()) {
-				sql.append(INCREMENTED_VERSION);
-				params.add(INCREMENTED_VERSION);
-				versionPropMapping = propMapping;
-			} else {
-				sql.append(propMapping.getPropertyName());
-				params.add(propMapping.getPropertyName());
-			}
-		}
-		sql.append(" WHERE ").append(tableMapping.getIdColumnName()).append(" = :")
-				.append(tableMapping.getIdPropertyName());
-		params.add(tableMapping.getIdPropertyName());
-		if (versionPropMapping != null) {
-			sql.append(" AND ").append(versionPropMapping.getColumnName()).append(" = :")
-					.append(versionPropMapping.getPropertyName());
-			params.add(versionPropMapping.getPropertyName());
-		}
-		return new SqlAndParams(sql.toString(), params);
-	}
-
-	private void validateUpdateSpecificProperties(TableMapping tableMapping, String... propertyNames) {
+	private void validateUpdatableProperties(TableMapping tableMapping, String methodName, String... propertyNames) {
 		for (String propertyName : propertyNames) {
 			PropertyMapping propertyMapping = tableMapping.getPropertyMappingByPropertyName(propertyName);
 			if (propertyMapping == null) {
@@ -272,22 +618,18 @@ class UpdateOperation {
 			}
 			if (propertyMapping.isIdAnnotation()) {
 				throw new MapperException("Id property " + tableMapping.getMappedObjType().getName() + "."
-						+ propertyName + " cannot be updated using updateSpecificProperties() method.");
+						+ propertyName + " cannot be updated using " + methodName + "() method.");
 			}
 			if (propertyMapping.isCreatedByAnnotation() || propertyMapping.isCreatedOnAnnotation()
 					|| propertyMapping.isUpdatedByAnnotation() || propertyMapping.isUpdatedOnAnnotation()
 					|| propertyMapping.isVersionAnnotation()) {
 				throw new MapperException("Auto assign property " + tableMapping.getMappedObjType().getName() + "."
-						+ propertyName + " cannot be updated using updateSpecificProperties() method.");
+						+ propertyName + " cannot be updated using " + methodName + "() method.");
+			}
+			if (propertyMapping.isGenerated()) {
+				throw new MapperException("Generated property " + tableMapping.getMappedObjType().getName() + "."
+						+ propertyName + " cannot be updated using " + methodName + "() method.");
 			}
-		}
-	}
-
-	private String getUpdateSpecificPropertiesCacheKey(Object object, String[] propertyNames) {
-		if (propertyNames.length > CACHEABLE_UPDATE_SPECIFIC_PROPERTIES_COUNT) {
-			return null;
-		} else {
-			return object.getClass().getName() + "-" + String.join("-", propertyNames);
 		}
 	}
 
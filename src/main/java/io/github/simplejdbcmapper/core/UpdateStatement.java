@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The positional UPDATE statement of an entity, compiled once for a list of
+ * properties, and the binders for its parameters.
+ * 
+ * <p>
+ * 'UPDATE t SET col1 = ?, ..., version = ? WHERE id = ? AND version = ?'. The
+ * version is only part of the statement if the entity has a version property.
+ *
+ * @author Antony Joseph
+ */
+class UpdateStatement {
+	private final String sql;
+
+	// the property mappings of the parameters in the order of the sql. The SET
+	// columns followed by the id and the version.
+	private final PropertyMapping[] propertyMappings;
+
+	private final ParameterBinder[] binders;
+
+	// the index of the incremented version parameter. -1 if there is none
+	private final int incrementedVersionIndex;
+
+	public UpdateStatement(TableMapping tableMapping, List<String> propertyList) {
+		Assert.notNull(tableMapping, "tableMapping must not be null");
+		Assert.notNull(propertyList, "propertyList must not be null");
+		PropertyMapping versionPropMapping = null;
+		int versionIndex = -1;
+		StringBuilder sql = new StringBuilder(256);
+		sql.append("UPDATE ").append(tableMapping.fullyQualifiedTableName()).append(" SET ");
+		for (int i = 0; i < propertyList.size(); i++) {
+			PropertyMapping propMapping = tableMapping.getPropertyMappingByPropertyName(propertyList.get(i));
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(propMapping.getColumnName()).append(" = ?");
+			if (propMapping.isVersionAnnotation()) {
+				versionPropMapping = propMapping;
+				versionIndex = i;
+			}
+		}
+		sql.append(" WHERE ").append(tableMapping.getIdColumnName()).append(" = ?");
+		if (versionPropMapping != null) {
+			sql.append(" AND ").append(versionPropMapping.getColumnName()).append(" = ?");
+		}
+		this.sql = sql.toString();
+		this.incrementedVersionIndex = versionIndex;
+		this.propertyMappings = new PropertyMapping[propertyList.size() + (versionPropMapping != null ? 2 : 1)];
+		for (int i = 0; i < propertyList.size(); i++) {
+			propertyMappings[i] = tableMapping.getPropertyMappingByPropertyName(propertyList.get(i));
+		}
+		propertyMappings[propertyList.size()] = tableMapping.getIdPropertyMapping();
+		if (versionPropMapping != null) {
+			propertyMappings[propertyList.size() + 1] = versionPropMapping;
+		}
+		this.binders = new ParameterBinder[propertyMappings.length];
+		for (int i = 0; i < propertyMappings.length; i++) {
+			binders[i] = ParameterBinder.of(propertyMappings[i]);
+		}
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Whether the statement increments the version and only updates the row if
+	 * the version matches.
+	 * 
+	 * @return true if the statement has a version
+	 */
+	public boolean hasVersion() {
+		return incrementedVersionIndex >= 0;
+	}
+
+	/**
+	 * Binds the property values of the object to the parameters.
+	 * 
+	 * @param ps                 the PreparedStatement
+	 * @param ew                 the wrapped object
+	 * @param incrementedVersion the new version. Ignored if the statement has no
+	 *                           version
+	 * @throws SQLException on failure
+	 */
+	public void bind(PreparedStatement ps, EntityWrapper ew, Integer incrementedVersion) throws SQLException {
+		for (int i = 0; i < propertyMappings.length; i++) {
+			if (i == incrementedVersionIndex) {
+				StatementCreatorUtils.setParameterValue(ps, i + 1, Types.INTEGER, incrementedVersion);
+			} else {
+				Object val = InternalUtils.getPersistableValue(ew.getPropertyValue(propertyMappings[i]));
+				binders[i].bind(ps, i + 1, val);
+			}
+		}
+	}
+
+}
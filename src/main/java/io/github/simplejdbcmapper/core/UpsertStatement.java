@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.github.simplejdbcmapper.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+/**
+ * The single statement insert or update (upsert) of an entity, compiled once
+ * from the table mapping in the syntax of the database.
+ *
+ * <pre>
+ * PostgreSQL: INSERT ... ON CONFLICT (id) DO UPDATE SET ...
+ * MySQL: INSERT ... ON DUPLICATE KEY UPDATE ...
+ * Oracle, SQL Server and others: MERGE INTO ... USING ...
+ * </pre>
+ *
+ * The @CreatedOn and @CreatedBy columns are only written when the row is
+ * inserted. When the entity has a @Version property the row only gets updated
+ * if its version matches the version of the entity. The parameters are the
+ * columns of the row followed by the version to match.
+ *
+ * @author Antony Joseph
+ */
+class UpsertStatement {
+	private final String sql;
+
+	// the property mappings in the order of the columns
+	private final PropertyMapping[] propertyMappings;
+
+	private final ParameterBinder[] binders;
+
+	private final PropertyMapping versionPropertyMapping;
+
+	// the indexes of the @CreatedOn and @CreatedBy properties. -1 if none
+	private final int createdOnIndex;
+
+	private final int createdByIndex;
+
+	public UpsertStatement(TableMapping tableMapping, DatabaseDialect dialect) {
+		// the generated columns are assigned by the database
+		this.propertyMappings = Arrays.stream(tableMapping.getPropertyMappings()).filter(pm -> !pm.isGenerated())
+				.toArray(PropertyMapping[]::new);
+		this.binders = new ParameterBinder[propertyMappings.length];
+		for (int i = 0; i < propertyMappings.length; i++) {
+			binders[i] = ParameterBinder.of(propertyMappings[i]);
+		}
+		this.versionPropertyMapping = tableMapping.getVersionPropertyMapping();
+		int onIndex = -1;
+		int byIndex = -1;
+		for (int i = 0; i < propertyMappings.length; i++) {
+			if (propertyMappings[i].isCreatedOnAnnotation()) {
+				onIndex = i;
+			} else if (propertyMappings[i].isCreatedByAnnotation()) {
+				byIndex = i;
+			}
+		}
+		this.createdOnIndex = onIndex;
+		this.createdByIndex = byIndex;
+		String[] columnNames = Arrays.stream(propertyMappings).map(PropertyMapping::getColumnName)
+				.toArray(String[]::new);
+		String[] updateColumnNames = Arrays.stream(propertyMappings)
+				.filter(pm -> !pm.isIdAnnotation() && !pm.isCreatedOnAnnotation() && !pm.isCreatedByAnnotation())
+				.map(PropertyMapping::getColumnName).toArray(String[]::new);
+		this.sql = switch (dialect) {
+		case POSTGRES -> onConflictSql(tableMapping, columnNames, updateColumnNames);
+		case MYSQL -> onDuplicateKeySql(tableMapping, columnNames, updateColumnNames);
+		default -> mergeSql(tableMapping, dialect, columnNames, updateColumnNames);
+		};
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public boolean hasVersion() {
+		return versionPropertyMapping != null;
+	}
+
+	/**
+	 * Binds the property values of the object to the parameters of the statement.
+	 * 
+	 * @param ps           the PreparedStatement
+	 * @param ew           the wrapped object. Its version property holds the new
+	 *                     version
+	 * @param matchVersion the version the row needs to have to be updated. Only
+	 *                     used if the entity has a @Version property
+	 * @param createdOn    the value of the @CreatedOn column, which is only
+	 *                     written if the row gets inserted. null for the value of
+	 *                     the object
+	 * @param createdBy    the value of the @CreatedBy column, which is only
+	 *                     written if the row gets inserted. null for the value of
+	 *                     the object
+	 * @throws SQLException on failure
+	 */
+	public void bind(PreparedStatement ps, EntityWrapper ew, Integer matchVersion, Object createdOn,
+			Object createdBy) throws SQLException {
+		for (int i = 0; i < propertyMappings.length; i++) {
+			Object val;
+			if (i == createdOnIndex && createdOn != null) {
+				val = createdOn;
+			} else if (i == createdByIndex && createdBy != null) {
+				val = createdBy;
+			} else {
+				val = ew.getPropertyValue(propertyMappings[i]);
+			}
+			binders[i].bind(ps, i + 1, InternalUtils.getPersistableValue(val));
+		}
+		if (versionPropertyMapping != null) {
+			StatementCreatorUtils.setParameterValue(ps, propertyMappings.length + 1, Types.INTEGER, matchVersion);
+		}
+	}
+
+	private String onConflictSql(TableMapping tableMapping, String[] columnNames, String[] updateColumnNames) {
+		StringBuilder sb = new StringBuilder(256);
+		sb.append("INSERT INTO ").append(tableMapping.fullyQualifiedTableName()).append(" AS t (")
+				.append(String.join(", ", columnNames)).append(") VALUES ").append(valuesRow(columnNames.length))
+				.append(" ON CONFLICT (").append(tableMapping.getIdColumnName()).append(")");
+		if (updateColumnNames.length == 0) {
+			return sb.append(" DO NOTHING").toString();
+		}
+		StringJoiner sj = new StringJoiner(", ", " DO UPDATE SET ", "");
+		for (String columnName : updateColumnNames) {
+			sj.add(columnName + " = EXCLUDED." + columnName);
+		}
+		sb.append(sj);
+		if (versionPropertyMapping != null) {
+			sb.append(" WHERE t.").append(versionPropertyMapping.getColumnName()).append(" = ?");
+		}
+		return sb.toString();
+	}
+
+	// MySQL has no condition on the update of 'ON DUPLICATE KEY UPDATE' so
+	// entities with a @Version property are not supported.
+	private String onDuplicateKeySql(TableMapping tableMapping, String[] columnNames, String[] updateColumnNames) {
+		StringBuilder sb = new StringBuilder(256);
+		sb.append("INSERT INTO ").append(tableMapping.fullyQualifiedTableName()).append(" (")
+				.append(String.join(", ", columnNames)).append(") VALUES ").append(valuesRow(columnNames.length))
+				.append(" ON DUPLICATE KEY UPDATE ");
+		if (updateColumnNames.length == 0) {
+			String idColumnName = tableMapping.getIdColumnName();
+			return sb.append(idColumnName).append(" = ").append(idColumnName).toString();
+		}
+		StringJoiner sj = new StringJoiner(", ");
+		for (String columnName : updateColumnNames) {
+			sj.add(columnName + " = VALUES(" + columnName + ")");
+		}
+		return sb.append(sj).toString();
+	}
+
+	private String mergeSql(TableMapping tableMapping, DatabaseDialect dialect, String[] columnNames,
+			String[] updateColumnNames) {
+		StringBuilder sb = new StringBuilder(512);
+		sb.append("MERGE INTO ").append(tableMapping.fullyQualifiedTableName());
+		if (dialect == DatabaseDialect.ORACLE) {
+			// Oracle does not support 'AS' for table aliases or VALUES as a table
+			StringJoiner sj = new StringJoiner(", ", " t USING (SELECT ", " FROM DUAL) s");
+			for (String columnName : columnNames) {
+				sj.add("? " + columnName);
+			}
+			sb.append(sj);
+		} else {
+			sb.append(" AS t USING (VALUES ").append(valuesRow(columnNames.length)).append(") AS s (")
+					.append(String.join(", ", columnNames)).append(")");
+		}
+		String idColumnName = tableMapping.getIdColumnName();
+		sb.append(" ON (t.").append(idColumnName).append(" = s.").append(idColumnName).append(")");
+		if (updateColumnNames.length > 0) {
+			String versionCondition = versionPropertyMapping == null ? ""
+					: "t." + versionPropertyMapping.getColumnName() + " = ?";
+			if (dialect == DatabaseDialect.ORACLE) {
+				sb.append(" WHEN MATCHED THEN UPDATE SET ").append(mergeSetClause(updateColumnNames));
+				if (versionPropertyMapping != null) {
+					sb.append(" WHERE ").append(versionCondition);
+				}
+			} else {
+				sb.append(" WHEN MATCHED");
+				if (versionPropertyMapping != null) {
+					sb.append(" AND ").append(versionCondition);
+				}
+				sb.append(" THEN UPDATE SET ").append(mergeSetClause(updateColumnNames));
+			}
+		}
+		StringJoiner sourceColumns = new StringJoiner(", ", "(", ")");
+		for (String columnName : columnNames) {
+			sourceColumns.add("s." + columnName);
+		}
+		sb.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columnNames)).append(") VALUES ")
+				.append(sourceColumns);
+		if (dialect == DatabaseDialect.SQLSERVER) {
+			// SQL Server requires a MERGE statement to be terminated by a semicolon
+			sb.append(";");
+		}
+		return sb.toString();
+	}
+
+	private String mergeSetClause(String[] updateColumnNames) {
+		StringJoiner sj = new StringJoiner(", ");
+		for (String columnName : updateColumnNames) {
+			sj.add("t." + columnName + " = s." + columnName);
+		}
+		return sj.toString();
+	}
+
+	private String valuesRow(int columnCount) {
+		StringJoiner sj = new StringJoiner(", ", "(", ")");
+		for (int i = 0; i < columnCount; i++) {
+			sj.add("?");
+		}
+		return sj.toString();
+	}
+
+}
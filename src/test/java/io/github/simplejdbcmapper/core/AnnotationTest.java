@@ -26,7 +26,10 @@ import io.github.simplejdbcmapper.model.DuplicateIdAnnotion;
 import io.github.simplejdbcmapper.model.DuplicateUpdatedByAnnotation;
 import io.github.simplejdbcmapper.model.DuplicateUpdatedOnAnnotation;
 import io.github.simplejdbcmapper.model.DuplicateVersionAnnotation;
+import io.github.simplejdbcmapper.model.InvalidSequenceId;
+import io.github.simplejdbcmapper.model.InvalidSnowflakeId;
 import io.github.simplejdbcmapper.model.InvalidTableObject;
+import io.github.simplejdbcmapper.model.LazyLobMismatch;
 import io.github.simplejdbcmapper.model.ModelWithVersionNotInteger;
 import io.github.simplejdbcmapper.model.NoIdObject;
 import io.github.simplejdbcmapper.model.NoMatchingColumn;
@@ -231,6 +234,30 @@ class AnnotationTest {
 		assertTrue(exception.getMessage().contains("is of type java.sql.Clob and is not supported"));
 	}
 
+	@Test
+	void lazyColumn_typeMismatch_Test() {
+		Exception exception = Assertions.assertThrows(AnnotationException.class, () -> {
+			sjm.findById(LazyLobMismatch.class, 1);
+		});
+		assertTrue(exception.getMessage().contains("Its type has to be LazyBytes or LazyText"));
+	}
+
+	@Test
+	void sequenceId_missingSequenceName_Test() {
+		Exception exception = Assertions.assertThrows(AnnotationException.class, () -> {
+			sjm.findById(InvalidSequenceId.class, 1);
+		});
+		assertTrue(exception.getMessage().contains("@Id(type = IdType.SEQUENCE) requires the sequence name"));
+	}
+
+	@Test
+	void snowflakeId_typeMismatch_Test() {
+		Exception exception = Assertions.assertThrows(AnnotationException.class, () -> {
+			sjm.findById(InvalidSnowflakeId.class, 1);
+		});
+		assertTrue(exception.getMessage().contains("requires the type of the property to be Long"));
+	}
+
 	@Test
 	void sqlType_override_test() {
 		if (jdbcDriver.contains("postgres")) {
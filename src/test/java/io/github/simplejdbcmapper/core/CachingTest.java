@@ -1,6 +1,7 @@
 package io.github.simplejdbcmapper.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.time.LocalDateTime;
 
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import io.github.simplejdbcmapper.model.Customer;
@@ -48,7 +48,7 @@ class CachingTest {
 	@Test
 	void insertCache_test() {
 		InsertOperation io = TestUtils.getInsertOperation(sjm);
-		SimpleCache<Class<?>, SimpleJdbcInsert> cache = io.getInsertSqlCache();
+		SimpleCache<Class<?>, InsertStatement> cache = io.getInsertSqlCache();
 		cache.clear();
 
 		Order order = new Order();
@@ -76,10 +76,30 @@ class CachingTest {
 		sjm.delete(customer);
 	}
 
+	@Test
+	void upsertCache_test() {
+		InsertOperation io = TestUtils.getInsertOperation(sjm);
+		SimpleCache<Class<?>, UpsertStatement> cache = io.getUpsertSqlCache();
+		cache.clear();
+
+		Person person = new Person();
+		person.setPersonId("cache-upsert");
+		person.setFirstName("abc");
+		person.setLastName("xyz");
+		sjm.upsert(person);
+		assertEquals(1, cache.size());
+
+		person.setFirstName("xyz");
+		sjm.upsert(person);
+		assertEquals(1, cache.size());
+
+		sjm.delete(person);
+	}
+
 	@Test
 	void updateCache_test() {
 		UpdateOperation uo = TestUtils.getUpdateOperation(sjm);
-		SimpleCache<Class<?>, SqlAndParams> cache = uo.getUpdateSqlCache();
+		SimpleCache<Class<?>, UpdateStatement> cache = uo.getUpdateSqlCache();
 		cache.clear();
 
 		Customer customer = new Customer();
@@ -117,8 +137,8 @@ class CachingTest {
 	@Test
 	void updateSpecificPropertiesCache_test() {
 		UpdateOperation uo = TestUtils.getUpdateOperation(sjm);
-		SimpleCache<String, SqlAndParams> cache = uo.getUpdateSpecificPropertiesSqlCache();
-		cache.clear();
+		SimpleCache<Class<?>, PropertyMaskCache<UpdateStatement>> caches = uo.getUpdateSpecificPropertiesSqlCache();
+		caches.clear();
 
 		ProductWithNoAuditFields product = new ProductWithNoAuditFields();
 		product.setId(811);
@@ -127,6 +147,7 @@ class CachingTest {
 		sjm.insert(product);
 
 		sjm.updateSpecificProperties(product, "cost");
+		PropertyMaskCache<UpdateStatement> cache = caches.get(ProductWithNoAuditFields.class);
 		assertEquals(1, cache.size());
 
 		sjm.updateSpecificProperties(product, "cost");
@@ -138,17 +159,23 @@ class CachingTest {
 		sjm.updateSpecificProperties(product, "cost", "name");
 		assertEquals(3, cache.size());
 
-		sjm.updateSpecificProperties(product, "cost", "name");
+		// the order of the properties does not matter
+		sjm.updateSpecificProperties(product, "name", "cost");
 		assertEquals(3, cache.size());
 
 		product.setVersion(1);
 		sjm.updateSpecificProperties(product, "cost", "name", "version");
 		assertEquals(4, cache.size());
 
-		// larger than CACHEABLE_UPDATE_PROPERTIES_COUNT = 5, so no caching
+		// any number of properties gets cached
 		product.setCreatedOn(LocalDateTime.now());
 		sjm.updateSpecificProperties(product, "cost", "name", "version", "createdOn", "createdBy", "updatedOn");
-		assertEquals(4, cache.size()); // no caching so count remains the same
+		assertEquals(5, cache.size());
+
+		sjm.updateSpecificProperties(product, "updatedOn", "createdBy", "createdOn", "version", "name", "cost");
+		assertEquals(5, cache.size());
+
+		assertEquals(1, caches.size());
 
 		sjm.delete(product);
 
@@ -197,6 +224,42 @@ class CachingTest {
 
 	}
 
+	@Test
+	void entityRowMapperCache_test() {
+		FindOperation fo = TestUtils.getFindOperation(sjm);
+		SimpleCache<Class<?>, EntityRowMapper<?>> cache = fo.getEntityRowMapperCache();
+		cache.clear();
+
+		EntityRowMapper<Order> rowMapper = sjm.newEntityRowMapper(Order.class);
+		assertEquals(1, cache.size());
+
+		sjm.findAll(Order.class);
+		assertEquals(1, cache.size());
+		assertSame(rowMapper, sjm.newEntityRowMapper(Order.class));
+
+		sjm.findById(Customer.class, 1);
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	void projectionMappingCache_test() {
+		FindOperation fo = TestUtils.getFindOperation(sjm);
+		SimpleCache<String, FindOperation.ProjectionMapping> cache = fo.getProjectionMappingCache();
+		cache.clear();
+
+		sjm.findAll(Product.class, Projection.of("id", "name"));
+		assertEquals(1, cache.size());
+
+		sjm.findByPropertyValue(Product.class, "name", "shoes", Projection.of("id", "name"));
+		assertEquals(1, cache.size());
+
+		sjm.findAll(Product.class, Projection.of("name", "id"));
+		assertEquals(2, cache.size());
+
+		sjm.findAll(Order.class, Projection.of("id", "status"));
+		assertEquals(3, cache.size());
+	}
+
 	@Test
 	void deleteSqlCache_test() {
 		DeleteOperation op = TestUtils.getDeleteOperation(sjm);
@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,4 +57,99 @@ class DeleteTest {
 		assertEquals(0, cnt);
 	}
 
+	@Test
+	void deleteWhere_Test() {
+		for (int id = 7301; id <= 7304; id++) {
+			Product product = new Product();
+			product.setId(id);
+			product.setName(id <= 7303 ? "deleteWhere" : "deleteWhere-keep");
+			product.setCost(id * 1.0);
+			sjm.insert(product);
+		}
+
+		int cnt = sjm.deleteWhere(Product.class,
+				Criteria.where("name", "deleteWhere").and("cost", Criteria.Operator.GE, 7302.0));
+		assertEquals(2, cnt);
+		assertNull(sjm.findById(Product.class, 7302));
+		assertNull(sjm.findById(Product.class, 7303));
+
+		cnt = sjm.deleteWhere(Product.class, Criteria.where("id", Criteria.Operator.IN, Arrays.asList(7301, 7304)));
+		assertEquals(2, cnt);
+		assertNull(sjm.findById(Product.class, 7301));
+		assertNull(sjm.findById(Product.class, 7304));
+	}
+
+	@Test
+	void deleteWhere_largeInList_Test() {
+		for (int id = 7311; id <= 7313; id++) {
+			Product product = new Product();
+			product.setId(id);
+			product.setName("deleteWhere-large");
+			sjm.insert(product);
+		}
+		// over the IN list limit of Oracle and the bind parameter limit of SQL Server
+		List<Integer> ids = new ArrayList<>();
+		for (int id = 7311; id < 7311 + 2500; id++) {
+			ids.add(id);
+		}
+		int cnt = sjm.deleteWhere(Product.class,
+				Criteria.where("id", Criteria.Operator.IN, ids).and("name", "deleteWhere-large"));
+		assertEquals(3, cnt);
+		assertNull(sjm.findById(Product.class, 7312));
+	}
+
+	@Test
+	void deleteWhere_cache_Test() {
+		DeleteOperation deleteOperation = TestUtils.getDeleteOperation(sjm);
+		deleteOperation.getDeleteWhereSqlCache().clear();
+		// IN lists are padded to the next power of two so 3 and 4 values share the sql
+		sjm.deleteWhere(Product.class, Criteria.where("id", Criteria.Operator.IN, Arrays.asList(7391, 7392, 7393)));
+		sjm.deleteWhere(Product.class,
+				Criteria.where("id", Criteria.Operator.IN, Arrays.asList(7391, 7392, 7393, 7394)));
+		assertEquals(1, deleteOperation.getDeleteWhereSqlCache().size());
+		sjm.deleteWhere(Product.class,
+				Criteria.where("id", Criteria.Operator.IN, Arrays.asList(7391, 7392, 7393, 7394, 7395)));
+		assertEquals(2, deleteOperation.getDeleteWhereSqlCache().size());
+	}
+
+	@Test
+	void criteria_inListSplit_Test() {
+		TableMapping tableMapping = TestUtils.getSimpleJdbcMapperSupport(sjm).getTableMapping(Product.class);
+		List<Integer> ids = new ArrayList<>();
+		for (int id = 1; id <= 1500; id++) {
+			ids.add(id);
+		}
+		Criteria criteria = Criteria.where("id", Criteria.Operator.IN, ids).and("name", "a");
+		assertEquals(2049, criteria.getParameterCount());
+		assertEquals(2049, criteria.getArgs(tableMapping).size());
+		assertEquals(ids.get(1499), criteria.getArgs(tableMapping).get(2047).getValue());
+
+		// Oracle limits an IN list to 1000 values
+		String where = criteria.whereClause(tableMapping, DatabaseDialect.ORACLE);
+		assertTrue(where.contains(" IN (?") && where.contains(" OR "));
+		assertTrue(where.trim().startsWith("WHERE ("));
+		assertEquals(2049, where.chars().filter(c -> c == '?').count());
+		assertTrue(!criteria.whereClause(tableMapping, DatabaseDialect.POSTGRES).contains(" OR "));
+
+		// SQL Server limits a statement to 2100 bind parameters
+		assertEquals(1, criteria.split(DatabaseDialect.SQLSERVER.getMaxBindParameters()).size());
+		for (int id = 1501; id <= 2500; id++) {
+			ids.add(id);
+		}
+		criteria = Criteria.where("id", Criteria.Operator.IN, ids).and("name", "a");
+		List<Criteria> chunks = criteria.split(DatabaseDialect.SQLSERVER.getMaxBindParameters());
+		assertEquals(2, chunks.size());
+		assertEquals(2049, chunks.get(0).getParameterCount());
+		assertEquals(513, chunks.get(1).getParameterCount());
+		assertEquals(1, criteria.split(DatabaseDialect.POSTGRES.getMaxBindParameters()).size());
+	}
+
+	@Test
+	void deleteWhere_invalidProperty_Test() {
+		Exception exception = Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.deleteWhere(Product.class, Criteria.where("xyz", 1));
+		});
+		assertTrue(exception.getMessage().contains("xyz is not a mapped property"));
+	}
+
 }
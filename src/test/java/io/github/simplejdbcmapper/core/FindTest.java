@@ -1,30 +1,43 @@
 package io.github.simplejdbcmapper.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import io.github.simplejdbcmapper.exception.MapperException;
 import io.github.simplejdbcmapper.model.ConvertorMissingProduct;
 import io.github.simplejdbcmapper.model.Customer;
+import io.github.simplejdbcmapper.model.LazyLobType;
 import io.github.simplejdbcmapper.model.NoDefaultConstructor;
 import io.github.simplejdbcmapper.model.Order;
 import io.github.simplejdbcmapper.model.OrderLine;
+import io.github.simplejdbcmapper.model.Person;
 import io.github.simplejdbcmapper.model.PersonView;
 import io.github.simplejdbcmapper.model.Product;
 import io.github.simplejdbcmapper.model.ProductMismatchType;
@@ -35,6 +48,9 @@ class FindTest {
 	@Value("${spring.datasource.driver-class-name}")
 	private String jdbcDriver;
 
+	@Autowired
+	private DataSource dataSource;
+
 	@Autowired
 	private SimpleJdbcMapper sjm;
 
@@ -140,6 +156,212 @@ class FindTest {
 		assertEquals(2, orderLines.size());
 	}
 
+	@Test
+	void findAll_projection_Test() {
+		List<Product> products = sjm.findAll(Product.class, Projection.of("id", "name"), new SortBy("id"));
+		List<Product> fullProducts = sjm.findAll(Product.class, new SortBy("id"));
+		assertEquals(fullProducts.size(), products.size());
+		for (int idx = 0; idx < products.size(); idx++) {
+			assertEquals(fullProducts.get(idx).getId(), products.get(idx).getId());
+			assertEquals(fullProducts.get(idx).getName(), products.get(idx).getName());
+			assertNull(products.get(idx).getCost());
+			assertNull(products.get(idx).getCreatedOn());
+			assertNull(products.get(idx).getVersion());
+		}
+	}
+
+	@Test
+	void findByPropertyValue_projection_Test() {
+		List<OrderLine> orderLines = sjm.findByPropertyValue(OrderLine.class, "orderId", 1,
+				Projection.of("productId", "numOfUnits"), new SortBy("productId"));
+		assertEquals(2, orderLines.size());
+		assertNull(orderLines.get(0).getOrderLineId());
+		assertNull(orderLines.get(0).getOrderId());
+		assertNotNull(orderLines.get(0).getProductId());
+		assertNotNull(orderLines.get(0).getNumOfUnits());
+	}
+
+	@Test
+	void findAll_projectionInvalidProperty_Test() {
+		Projection projection = Projection.of("id", "xyz");
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.findAll(Order.class, projection);
+		});
+		assertTrue(exception.getMessage().contains("does not have a mapping"));
+	}
+
+	@Test
+	void streamAll_Test() {
+		List<Order> orders = sjm.findAll(Order.class, new SortBy("id"));
+		List<Order> streamedOrders = null;
+		try (Stream<Order> stream = sjm.streamAll(Order.class, new SortBy("id"))) {
+			streamedOrders = stream.toList();
+		}
+		assertEquals(orders.size(), streamedOrders.size());
+		for (int idx = 0; idx < orders.size(); idx++) {
+			assertEquals(orders.get(idx).getId(), streamedOrders.get(idx).getId());
+			assertNotNull(streamedOrders.get(idx).getOrderDate());
+		}
+	}
+
+	@Test
+	void streamByPropertyValue_Test() {
+		try (Stream<OrderLine> stream = sjm.streamByPropertyValue(OrderLine.class, "orderId", 1,
+				new SortBy("productId"))) {
+			List<OrderLine> orderLines = stream.toList();
+			assertEquals(2, orderLines.size());
+			assertTrue(orderLines.get(0).getProductId() <= orderLines.get(1).getProductId());
+		}
+	}
+
+	@Test
+	void streamByPropertyValue_InvalidProperty_Test() {
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.streamByPropertyValue(Order.class, "x", 1);
+		});
+		assertTrue(exception.getMessage().contains("does not have a mapping"));
+	}
+
+	@Test
+	void forEach_Test() {
+		List<Order> orders = sjm.findAll(Order.class, new SortBy("id"));
+		List<Order> visitedOrders = new ArrayList<>();
+		sjm.forEach(Order.class, visitedOrders::add, new SortBy("id"));
+		assertEquals(orders.size(), visitedOrders.size());
+		for (int idx = 0; idx < orders.size(); idx++) {
+			assertEquals(orders.get(idx).getId(), visitedOrders.get(idx).getId());
+		}
+		assertEquals(visitedOrders.size(), new HashSet<>(visitedOrders).size());
+	}
+
+	@Test
+	void forEachReusingInstance_Test() {
+		List<Order> orders = sjm.findAll(Order.class, new SortBy("id"));
+		List<Long> ids = new ArrayList<>();
+		Set<Order> instances = new HashSet<>();
+		sjm.forEachReusingInstance(Order.class, order -> {
+			ids.add(order.getId());
+			instances.add(order);
+		}, new SortBy("id"));
+		assertEquals(orders.stream().map(Order::getId).toList(), ids);
+		assertEquals(1, instances.size());
+	}
+
+	@Test
+	void parallelScan_Test() {
+		List<Order> orders = sjm.findAll(Order.class, new SortBy("id"));
+		List<Long> ids = new ArrayList<>();
+		sjm.parallelScan(Order.class, 3, partition -> partition.forEach(order -> ids.add(order.getId())));
+		assertEquals(new HashSet<>(orders.stream().map(Order::getId).toList()), new HashSet<>(ids));
+		assertEquals(orders.size(), ids.size());
+	}
+
+	@Test
+	void parallelScan_ordered_Test() {
+		List<Order> orders = sjm.findAll(Order.class, new SortBy("id"));
+		List<Long> ids = new ArrayList<>();
+		sjm.parallelScan(Order.class, 100, 2, true, partition -> partition.forEach(order -> ids.add(order.getId())));
+		assertEquals(orders.stream().map(Order::getId).toList(), ids);
+	}
+
+	@Test
+	void parallelScan_boundedPartitions_Test() {
+		for (boolean ordered : new boolean[] { true, false }) {
+			// counts the partition queries started on the virtual threads.
+			AtomicInteger started = new AtomicInteger();
+			DataSource countingDataSource = new DelegatingDataSource(dataSource) {
+				@Override
+				public Connection getConnection() throws SQLException {
+					if (Thread.currentThread().isVirtual()) {
+						started.incrementAndGet();
+					}
+					return super.getConnection();
+				}
+			};
+			SimpleJdbcMapper mapper = new SimpleJdbcMapper(countingDataSource, sjm.getSchemaName(),
+					sjm.getCatalogName());
+			int maxConcurrency = 2;
+			AtomicInteger delivered = new AtomicInteger();
+			AtomicInteger maxOutstanding = new AtomicInteger();
+			mapper.parallelScan(Order.class, 8, maxConcurrency, ordered, partition -> {
+				// the partitions started but not yet consumed, including this one.
+				maxOutstanding.accumulateAndGet(started.get() - delivered.get(), Math::max);
+				try {
+					// a slow action gives the other partitions time to pile up
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				delivered.incrementAndGet();
+			});
+			assertTrue(delivered.get() > maxConcurrency);
+			assertTrue(maxOutstanding.get() <= maxConcurrency);
+		}
+	}
+
+	@Test
+	void parallelScan_nonNumericId_Test() {
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.parallelScan(Person.class, 2, partition -> {
+			});
+		});
+		assertTrue(exception.getMessage().contains("requires an id of type"));
+	}
+
+	@Test
+	void findPage_Test() {
+		List<Order> orders = sjm.findAll(Order.class, new SortBy("id"));
+		List<Order> pagedOrders = new ArrayList<>();
+		Page<Order> page = sjm.findPage(Order.class, new PageRequest(2));
+		pagedOrders.addAll(page.getContent());
+		while (page.hasNext()) {
+			assertEquals(2, page.getContent().size());
+			page = sjm.findPage(Order.class, page.nextPageRequest());
+			pagedOrders.addAll(page.getContent());
+		}
+		assertNull(page.getContinuationToken());
+		assertNull(page.nextPageRequest());
+		assertEquals(orders.stream().map(Order::getId).toList(), pagedOrders.stream().map(Order::getId).toList());
+	}
+
+	@Test
+	void findPage_withSortBy_Test() {
+		List<Customer> customers = sjm.findAll(Customer.class, new SortBy("lastName", "DESC"), new SortBy("id"));
+		List<Customer> pagedCustomers = new ArrayList<>();
+		String token = null;
+		do {
+			Page<Customer> page = sjm.findPage(Customer.class,
+					new PageRequest(1, token, new SortBy("lastName", "DESC")));
+			pagedCustomers.addAll(page.getContent());
+			token = page.getContinuationToken();
+		} while (token != null);
+		assertEquals(customers.stream().map(Customer::getId).toList(),
+				pagedCustomers.stream().map(Customer::getId).toList());
+	}
+
+	@Test
+	void findPage_invalidToken_Test() {
+		Page<Customer> page = sjm.findPage(Customer.class, new PageRequest(1, new SortBy("lastName")));
+		PageRequest pageRequest = new PageRequest(1, page.getContinuationToken(), new SortBy("firstName"));
+		Exception exception = Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.findPage(Customer.class, pageRequest);
+		});
+		assertTrue(exception.getMessage().contains("continuation token was not issued"));
+
+		PageRequest pageRequest2 = new PageRequest(1, "xyz");
+		exception = Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.findPage(Customer.class, pageRequest2);
+		});
+		assertTrue(exception.getMessage().contains("Invalid continuation token"));
+	}
+
+	@Test
+	void findPage_invalidPageSize_Test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			new PageRequest(0);
+		});
+	}
+
 	@Test
 	void findByPropertyValue_OrderBy_success_Test() {
 		List<OrderLine> orderLines = sjm.findByPropertyValue(OrderLine.class, "orderId", 1, new SortBy("productId"));
@@ -270,6 +492,31 @@ class FindTest {
 		assertTrue(exception.getMessage().contains("does not have a mapping"));
 	}
 
+	@Test
+	void findAll_getObjectStrategyResolved_Test() {
+		sjm.findAll(Order.class);
+		// the strategy used to read LocalDateTime columns is resolved on the first row
+		Map<String, String> strategies = sjm.newEntityRowMapper(Order.class).getColumnReadStrategies();
+		assertTrue(strategies.containsKey("orderDate"));
+		assertTrue(strategies.values().stream().noneMatch(e -> "UNRESOLVED".equals(e)));
+	}
+
+	@Test
+	void generatedRowMappers_Test() {
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(dataSource, sjm.getSchemaName(), sjm.getCatalogName());
+		mapper.setGeneratedRowMappers(true);
+		assertTrue(mapper.newEntityRowMapper(Order.class).isRowPopulatorGenerated());
+		assertTrue(mapper.newEntityRowMapper(Product.class).isRowPopulatorGenerated());
+
+		assertSameProperties(Order.class, sjm.findAll(Order.class, new SortBy("id")),
+				mapper.findAll(Order.class, new SortBy("id")));
+		assertSameProperties(Product.class, sjm.findAll(Product.class, new SortBy("id")),
+				mapper.findAll(Product.class, new SortBy("id")));
+
+		mapper.setGeneratedRowMappers(false);
+		assertFalse(mapper.newEntityRowMapper(Order.class).isRowPopulatorGenerated());
+	}
+
 	@Test
 	void find_ConvertorMissing_Test() {
 		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
@@ -294,4 +541,125 @@ class FindTest {
 		assertTrue(exception.getMessage().contains("No converter found"));
 	}
 
+	@Test
+	void findById_lazyColumn_Test() {
+		LazyLobType obj = new LazyLobType();
+		obj.setBooleanVal(true);
+		obj.setImage(LazyBytes.of(new byte[] { 10, 20, 30 }));
+		sjm.insert(obj);
+
+		assertTrue(!sjm.getEntitySqlColumns(LazyLobType.class).contains("image"));
+
+		LazyLobType found = sjm.findById(LazyLobType.class, obj.getId());
+		assertTrue(found.getBooleanVal());
+		assertTrue(!found.getImage().isLoaded());
+		assertTrue(Arrays.equals(new byte[] { 10, 20, 30 }, found.getImage().get()));
+		assertTrue(found.getImage().isLoaded());
+
+		// update of a found object with a loaded lazy value writes it back
+		found.setBooleanVal(false);
+		sjm.update(found);
+		LazyLobType updated = sjm.findById(LazyLobType.class, obj.getId());
+		assertTrue(Arrays.equals(new byte[] { 10, 20, 30 }, updated.getImage().get()));
+
+		sjm.delete(obj);
+	}
+
+	@Test
+	void update_lazyColumnNotLoaded_Test() {
+		LazyLobType obj = new LazyLobType();
+		obj.setBooleanVal(true);
+		obj.setImage(LazyBytes.of(new byte[] { 10, 20, 30 }));
+		sjm.insert(obj);
+
+		QueryOptionsTest.StatementRecorder recorder = new QueryOptionsTest.StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		// the unloaded lazy value is neither read nor written back
+		LazyLobType found = mapper.findById(LazyLobType.class, obj.getId());
+		found.setBooleanVal(false);
+		recorder.getSqls().clear();
+		assertEquals(1, mapper.update(found));
+		assertTrue(!found.getImage().isLoaded());
+		assertEquals(1, recorder.getSqls().size());
+		assertTrue(recorder.getSqls().get(0).toLowerCase().contains("boolean_val"));
+		assertTrue(!recorder.getSqls().get(0).toLowerCase().contains("image"));
+
+		LazyLobType found2 = mapper.findById(LazyLobType.class, obj.getId());
+		recorder.getSqls().clear();
+		mapper.updateAll(List.of(found2));
+		assertTrue(!found2.getImage().isLoaded());
+		assertTrue(recorder.getSqls().stream().noneMatch(sql -> sql.toLowerCase().contains("image")));
+
+		LazyLobType updated = sjm.findById(LazyLobType.class, obj.getId());
+		assertEquals(false, updated.getBooleanVal());
+		assertTrue(Arrays.equals(new byte[] { 10, 20, 30 }, updated.getImage().get()));
+
+		sjm.delete(obj);
+	}
+
+	@Test
+	void findAll_lazyColumn_loadAll_Test() {
+		List<LazyLobType> inserted = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			LazyLobType obj = new LazyLobType();
+			obj.setImage(LazyBytes.of(new byte[] { (byte) i }));
+			sjm.insert(obj);
+			inserted.add(obj);
+		}
+		LazyLobType noImage = new LazyLobType();
+		sjm.insert(noImage);
+		inserted.add(noImage);
+
+		List<LazyLobType> list = sjm.findAll(LazyLobType.class);
+		List<LazyBytes> handles = list.stream().map(LazyLobType::getImage).toList();
+		LazyLob.loadAll(handles);
+		for (LazyLobType obj : list) {
+			assertTrue(obj.getImage().isLoaded());
+		}
+		for (int i = 0; i < 3; i++) {
+			Integer id = inserted.get(i).getId();
+			LazyLobType obj = list.stream().filter(o -> o.getId().equals(id)).findFirst().orElseThrow();
+			assertEquals(i, obj.getImage().get()[0]);
+		}
+		LazyLobType obj = list.stream().filter(o -> o.getId().equals(noImage.getId())).findFirst().orElseThrow();
+		assertNull(obj.getImage().get());
+
+		for (LazyLobType o : inserted) {
+			sjm.delete(o);
+		}
+	}
+
+	@Test
+	void findAll_lazyColumnProjection_Test() {
+		LazyLobType obj = new LazyLobType();
+		obj.setImage(LazyBytes.of(new byte[] { 5 }));
+		sjm.insert(obj);
+
+		List<LazyLobType> list = sjm.findByPropertyValue(LazyLobType.class, "id", obj.getId(),
+				Projection.of("id", "image"));
+		assertEquals(1, list.size());
+		assertEquals(5, list.get(0).getImage().get()[0]);
+
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.findAll(LazyLobType.class, Projection.of("booleanVal", "image"));
+		});
+		assertTrue(exception.getMessage().contains("is required to map the lazy properties"));
+
+		sjm.delete(obj);
+	}
+
+	private <T> void assertSameProperties(Class<T> entityType, List<T> expected, List<T> actual) {
+		assertEquals(expected.size(), actual.size());
+		Set<String> propertyNames = sjm.getPropertyToColumnMappings(entityType).keySet();
+		for (int i = 0; i < expected.size(); i++) {
+			BeanWrapper expectedBw = new BeanWrapperImpl(expected.get(i));
+			BeanWrapper actualBw = new BeanWrapperImpl(actual.get(i));
+			for (String propertyName : propertyNames) {
+				assertEquals(expectedBw.getPropertyValue(propertyName), actualBw.getPropertyValue(propertyName),
+						propertyName);
+			}
+		}
+	}
+
 }
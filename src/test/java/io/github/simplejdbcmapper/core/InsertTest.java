@@ -2,29 +2,49 @@ package io.github.simplejdbcmapper.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import io.github.simplejdbcmapper.exception.MapperException;
 import io.github.simplejdbcmapper.model.Customer;
+import io.github.simplejdbcmapper.model.GeneratedCheck;
+import io.github.simplejdbcmapper.model.GeneratedTriggerCheck;
 import io.github.simplejdbcmapper.model.Order;
 import io.github.simplejdbcmapper.model.Person;
 import io.github.simplejdbcmapper.model.PersonSetterPrivate;
+import io.github.simplejdbcmapper.model.PersonWithUuidV7Id;
 import io.github.simplejdbcmapper.model.Product;
 import io.github.simplejdbcmapper.model.ProductMismatchType;
+import io.github.simplejdbcmapper.model.ProductWithSequenceId;
+import io.github.simplejdbcmapper.model.ProductWithSnowflakeId;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 class InsertTest {
+	@Value("${spring.datasource.driver-class-name}")
+	private String jdbcDriver;
+
+	@Autowired
+	private DataSource dataSource;
+
 	@Autowired
 	private SimpleJdbcMapper sjm;
 
@@ -199,4 +219,378 @@ class InsertTest {
 		assertTrue(exception.getMessage().contains("setter method was not accessible for property "));
 	}
 
+	@Test
+	void insertAll_manualId_Test() {
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Product product = new Product();
+			product.setId(7001 + i);
+			product.setName("batch" + i);
+			product.setCost(1.5 + i);
+			products.add(product);
+		}
+
+		sjm.insertAll(products, 2);
+
+		for (int i = 0; i < 5; i++) {
+			Product product = sjm.findById(Product.class, 7001 + i);
+			assertEquals("batch" + i, product.getName());
+			assertEquals(1.5 + i, product.getCost());
+			assertEquals(1, product.getVersion());
+			if (sjmSupport.getRecordAuditedBySupplier() != null) {
+				assertEquals("tester", product.getCreatedBy());
+				assertEquals("tester", product.getUpdatedBy());
+			}
+			if (sjmSupport.getRecordAuditedOnSupplier() != null) {
+				assertNotNull(product.getCreatedOn());
+				assertNotNull(product.getUpdatedOn());
+			}
+			sjm.delete(product);
+		}
+	}
+
+	@Test
+	void insertAll_autoGeneratedIdAndMixedTypes_Test() {
+		Order order1 = new Order();
+		order1.setOrderDate(LocalDateTime.now());
+		order1.setCustomerId(2);
+		Product product = new Product();
+		product.setId(7011);
+		product.setName("mixed");
+		Order order2 = new Order();
+		order2.setOrderDate(LocalDateTime.now());
+		order2.setCustomerId(2);
+
+		sjm.insertAll(Arrays.asList(order1, product, order2));
+
+		assertNotNull(order1.getId());
+		assertNotNull(order2.getId());
+		assertNotNull(sjm.findById(Order.class, order1.getId()));
+		assertNotNull(sjm.findById(Order.class, order2.getId()));
+		assertEquals("mixed", sjm.findById(Product.class, 7011).getName());
+
+		sjm.delete(order1);
+		sjm.delete(order2);
+		sjm.delete(product);
+	}
+
+	@Test
+	void insertAll_generatedKeysWrittenBack_Test() {
+		List<Customer> customers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Customer customer = new Customer();
+			customer.setFirstName("first" + i);
+			customer.setLastName("batchKeys");
+			customers.add(customer);
+		}
+
+		sjm.insertAll(customers, 2);
+
+		for (int i = 0; i < 5; i++) {
+			Customer customer = customers.get(i);
+			assertNotNull(customer.getId());
+			// the key of each row is assigned to the object inserted with it
+			assertEquals("first" + i, sjm.findById(Customer.class, customer.getId()).getFirstName());
+			sjm.delete(customer);
+		}
+	}
+
+	@Test
+	void insertAll_auditSuppliersCalledOncePerBatch_Test() {
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(dataSource, sjm.getSchemaName(), sjm.getCatalogName());
+		AtomicInteger auditedByCount = new AtomicInteger();
+		AtomicInteger auditedOnCount = new AtomicInteger();
+		mapper.setRecordAuditedBySupplier(() -> "batcher" + auditedByCount.incrementAndGet());
+		mapper.setRecordAuditedOnSupplier(() -> {
+			auditedOnCount.incrementAndGet();
+			return LocalDateTime.now();
+		});
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Product product = new Product();
+			product.setId(7021 + i);
+			product.setName("audit" + i);
+			products.add(product);
+		}
+
+		mapper.insertAll(products, 3);
+
+		// 2 batches
+		assertEquals(2, auditedByCount.get());
+		assertEquals(2, auditedOnCount.get());
+		assertEquals("batcher1", products.get(2).getCreatedBy());
+		assertEquals("batcher2", products.get(3).getCreatedBy());
+		assertEquals(products.get(0).getCreatedOn(), products.get(2).getUpdatedOn());
+
+		for (Product product : products) {
+			mapper.delete(product);
+		}
+	}
+
+	@Test
+	void insertAll_multiRowValues_Test() {
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(dataSource, sjm.getSchemaName(), sjm.getCatalogName());
+		mapper.setBatchInsertStrategy(BatchInsertStrategy.MULTI_ROW_VALUES);
+		mapper.setRecordAuditedBySupplier(() -> "tester");
+		InsertOperation io = TestUtils.getInsertOperation(mapper);
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < 13; i++) {
+			Product product = new Product();
+			product.setId(7041 + i);
+			product.setName("multi" + i);
+			product.setCost(2.5 + i);
+			products.add(product);
+		}
+
+		mapper.insertAll(products);
+
+		for (int i = 0; i < 13; i++) {
+			Product product = mapper.findById(Product.class, 7041 + i);
+			assertEquals("multi" + i, product.getName());
+			assertEquals(2.5 + i, product.getCost());
+			assertEquals("tester", product.getCreatedBy());
+			assertEquals(1, product.getVersion());
+		}
+		if (!jdbcDriver.contains("oracle")) {
+			// 13 rows are inserted as 8 + 4 + 1
+			assertEquals(3, io.getMultiRowInsertSqlCache().size());
+		}
+
+		for (Product product : products) {
+			mapper.delete(product);
+		}
+	}
+
+	@Test
+	void insert_snowflakeIdWithoutNodeId_Test() {
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(dataSource, sjm.getSchemaName(), sjm.getCatalogName());
+		assertEquals(-1, mapper.getSnowflakeNodeId());
+		ProductWithSnowflakeId product = new ProductWithSnowflakeId();
+		product.setName("snowflake");
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			mapper.insert(product);
+		});
+		assertTrue(exception.getMessage().contains("setSnowflakeNodeId()"));
+		assertNull(product.getId());
+	}
+
+	@Test
+	void insert_sequenceId_Test() {
+		if (jdbcDriver.contains("mysql")) {
+			// mysql does not have sequences
+			return;
+		}
+		ProductWithSequenceId product = new ProductWithSequenceId();
+		product.setName("seq");
+		sjm.insert(product);
+		assertNotNull(product.getId());
+		assertEquals("seq", sjm.findById(ProductWithSequenceId.class, product.getId()).getName());
+
+		ProductWithSequenceId product2 = new ProductWithSequenceId();
+		product2.setName("seq2");
+		product2.setId(1L);
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.insert(product2);
+		});
+		assertTrue(exception.getMessage().contains("whose id is assigned from a sequence"));
+
+		sjm.delete(product);
+	}
+
+	@Test
+	void insertAll_sequenceId_Test() {
+		if (jdbcDriver.contains("mysql")) {
+			return;
+		}
+		List<ProductWithSequenceId> products = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			ProductWithSequenceId product = new ProductWithSequenceId();
+			product.setName("seq" + i);
+			products.add(product);
+		}
+
+		sjm.insertAll(products);
+
+		// allocationSize is 10 so the ids come from 3 blocks of the sequence
+		assertEquals(25, products.stream().map(ProductWithSequenceId::getId).distinct().count());
+		for (ProductWithSequenceId product : products) {
+			assertEquals(product.getName(), sjm.findById(ProductWithSequenceId.class, product.getId()).getName());
+			sjm.delete(product);
+		}
+	}
+
+	@Test
+	void insertAll_uuidV7Id_Test() {
+		List<PersonWithUuidV7Id> persons = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			PersonWithUuidV7Id person = new PersonWithUuidV7Id();
+			person.setFirstName("uuid" + i);
+			person.setLastName("v7");
+			persons.add(person);
+		}
+
+		sjm.insert(persons.get(0));
+		sjm.insertAll(persons.subList(1, persons.size()));
+
+		for (int i = 0; i < persons.size(); i++) {
+			PersonWithUuidV7Id person = persons.get(i);
+			assertEquals(7, UUID.fromString(person.getPersonId()).version());
+			if (i > 0) {
+				// time ordered
+				assertTrue(person.getPersonId().compareTo(persons.get(i - 1).getPersonId()) > 0);
+			}
+			assertEquals("uuid" + i, sjm.findById(PersonWithUuidV7Id.class, person.getPersonId()).getFirstName());
+			sjm.delete(person);
+		}
+	}
+
+	@Test
+	void insert_generatedColumns_Test() {
+		GeneratedCheck obj = new GeneratedCheck();
+		obj.setName("gen");
+		obj.setStatus("IGNORED");
+
+		sjm.insert(obj);
+
+		assertNotNull(obj.getId());
+		// the values assigned by the database are written back
+		assertEquals("NEW", obj.getStatus());
+		assertNotNull(obj.getCreatedAt());
+
+		GeneratedCheck obj2 = sjm.findById(GeneratedCheck.class, obj.getId());
+		assertEquals("NEW", obj2.getStatus());
+		assertEquals(obj.getCreatedAt(), obj2.getCreatedAt());
+
+		// generated columns are not updated
+		obj2.setStatus("CHANGED");
+		obj2.setName("gen2");
+		sjm.update(obj2);
+		assertEquals("NEW", sjm.findById(GeneratedCheck.class, obj.getId()).getStatus());
+
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.updateSpecificProperties(obj2, "status");
+		});
+		assertTrue(exception.getMessage().contains("cannot be updated using updateSpecificProperties()"));
+
+		sjm.delete(obj2);
+	}
+
+	@Test
+	void insert_generatedColumnsSingleStatement_Test() {
+		QueryOptionsTest.StatementRecorder recorder = new QueryOptionsTest.StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+		GeneratedCheck obj = new GeneratedCheck();
+		obj.setName("gen-single");
+
+		mapper.insert(obj);
+
+		assertNotNull(obj.getId());
+		assertEquals("NEW", obj.getStatus());
+		assertNotNull(obj.getCreatedAt());
+		if (!jdbcDriver.contains("mysql")) {
+			// the generated columns are returned by the insert itself. MySQL has to
+			// read them with a follow-up query.
+			assertEquals(1, recorder.getSqls().size());
+		}
+		if (jdbcDriver.contains("sqlserver")) {
+			assertTrue(recorder.getSqls().get(0).contains("; SELECT "));
+		}
+		sjm.delete(obj);
+	}
+
+	@Test
+	void insertStatement_generatedColumns_Test() {
+		TableMapping tableMapping = TestUtils.getSimpleJdbcMapperSupport(sjm).getTableMapping(GeneratedCheck.class);
+		InsertStatement sqlServer = new InsertStatement(tableMapping, DatabaseDialect.SQLSERVER);
+		assertTrue(sqlServer.getInsertSelectSql().endsWith(" = SCOPE_IDENTITY()"));
+		assertNull(sqlServer.getGeneratedColumnsSql());
+
+		InsertStatement mysql = new InsertStatement(tableMapping, DatabaseDialect.MYSQL);
+		assertNull(mysql.getInsertSelectSql());
+		assertNotNull(mysql.getGeneratedColumnsSql());
+
+		InsertStatement postgres = new InsertStatement(tableMapping, DatabaseDialect.POSTGRES);
+		assertNull(postgres.getInsertSelectSql());
+		assertNull(postgres.getGeneratedColumnsSql());
+		assertTrue(postgres.isGeneratedColumnKeys());
+	}
+
+	@Test
+	void insert_generatedColumnsSetByTrigger_Test() {
+		// the trigger is only created by the sqlserver migration
+		if (!jdbcDriver.contains("sqlserver")) {
+			return;
+		}
+		GeneratedTriggerCheck obj = new GeneratedTriggerCheck();
+		obj.setName("trg");
+
+		sjm.insert(obj);
+
+		assertNotNull(obj.getId());
+		// the value assigned by the trigger after the insert is read back
+		assertEquals("TRG-trg", obj.getCode());
+		assertEquals(obj.getCode(), sjm.findById(GeneratedTriggerCheck.class, obj.getId()).getCode());
+
+		List<GeneratedTriggerCheck> list = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			GeneratedTriggerCheck o = new GeneratedTriggerCheck();
+			o.setName("trg" + i);
+			list.add(o);
+		}
+		sjm.insertAll(list);
+		for (int i = 0; i < 3; i++) {
+			// the identities generated by the audit inserts of the trigger are ignored
+			assertEquals("TRG-trg" + i, sjm.findById(GeneratedTriggerCheck.class, list.get(i).getId()).getCode());
+			assertEquals("TRG-trg" + i, list.get(i).getCode());
+			sjm.delete(list.get(i));
+		}
+		sjm.delete(obj);
+	}
+
+	@Test
+	void insertAll_generatedColumns_Test() {
+		List<GeneratedCheck> list = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			GeneratedCheck obj = new GeneratedCheck();
+			obj.setName("gen" + i);
+			list.add(obj);
+		}
+
+		sjm.insertAll(list);
+
+		for (GeneratedCheck obj : list) {
+			assertNotNull(obj.getId());
+			assertEquals("NEW", obj.getStatus());
+			assertNotNull(obj.getCreatedAt());
+			sjm.delete(obj);
+		}
+	}
+
+	@Test
+	void insertAll_invalidId_Test() {
+		Product product1 = new Product();
+		product1.setId(7031);
+		Product product2 = new Product();
+
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.insertAll(Arrays.asList(product1, product2));
+		});
+		assertTrue(exception.getMessage().contains("must not be null since it is not an auto generated id"));
+		// nothing in the batch got inserted
+		assertEquals(null, sjm.findById(Product.class, 7031));
+	}
+
+	@Test
+	void insertAll_invalidArguments_Test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.insertAll(null);
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.insertAll(Arrays.asList(new Product(), null));
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.insertAll(new ArrayList<>(), 0);
+		});
+	}
+
 }
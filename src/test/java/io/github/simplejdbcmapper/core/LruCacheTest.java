@@ -0,0 +1,59 @@
+package io.github.simplejdbcmapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+class LruCacheTest {
+
+	@Test
+	void getAndPut_test() {
+		LruCache<String, String> cache = new LruCache<>(10);
+		assertNull(cache.get("a"));
+		cache.put("a", "1");
+		cache.put("b", "2");
+		assertEquals("1", cache.get("a"));
+		assertEquals("2", cache.get("b"));
+		assertEquals(2, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get("a"));
+	}
+
+	@Test
+	void leastRecentlyUsedEviction_test() throws Exception {
+		LruCache<Integer, Integer> cache = new LruCache<>(80);
+		for (int i = 1; i <= 80; i++) {
+			cache.put(i, i);
+		}
+		Thread.sleep(1);
+		// 1 becomes the most recently used so it is not evicted
+		assertEquals(1, cache.get(1));
+		cache.put(1000, 1000);
+		// the least recently used eighth is evicted when the capacity is exceeded
+		assertEquals(70, cache.size());
+		assertEquals(1, cache.get(1));
+		assertEquals(1000, cache.get(1000));
+		assertNull(cache.get(2));
+
+		for (int i = 2000; i < 3000; i++) {
+			cache.put(i, i);
+		}
+		assertTrue(cache.size() <= 80);
+		assertEquals(2999, cache.get(2999));
+	}
+
+	@Test
+	void invalidCapacity_test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+	}
+}
@@ -0,0 +1,153 @@
+package io.github.simplejdbcmapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+class PropertyMaskCacheTest {
+
+	@Test
+	void getAndPut_test() {
+		PropertyMaskCache<String> cache = new PropertyMaskCache<>();
+		assertNull(cache.get(mask()));
+		cache.put(mask(), "none");
+		cache.put(mask(0), "a");
+		cache.put(mask(63), "last");
+		cache.put(mask(0, 1, 63), "three");
+		assertEquals("none", cache.get(mask()));
+		assertEquals("a", cache.get(mask(0)));
+		assertEquals("last", cache.get(mask(63)));
+		assertEquals("three", cache.get(mask(63, 1, 0)));
+		assertNull(cache.get(mask(1)));
+		assertEquals(4, cache.size());
+
+		cache.put(mask(0), "b");
+		assertEquals("b", cache.get(mask(0)));
+		assertEquals(4, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(mask(0)));
+	}
+
+	@Test
+	void leastRecentlyUsedEviction_test() throws Exception {
+		PropertyMaskCache<Integer> cache = new PropertyMaskCache<>(40);
+		for (int i = 0; i < 40; i++) {
+			cache.put(mask(i), i);
+		}
+		Thread.sleep(1);
+		// mask 0 becomes the most recently used so mask 1 gets evicted
+		assertEquals(0, cache.get(mask(0)));
+		cache.put(mask(0, 1), 100);
+		assertTrue(cache.size() < 40);
+		assertEquals(0, cache.get(mask(0)));
+		assertEquals(100, cache.get(mask(0, 1)));
+		assertNull(cache.get(mask(1)));
+	}
+
+	@Test
+	void concurrent_test() throws Exception {
+		PropertyMaskCache<Integer> cache = new PropertyMaskCache<>(16);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						int index = i % 64;
+						Integer value = cache.get(mask(index));
+						if (value == null) {
+							cache.put(mask(index), index);
+						} else {
+							assertEquals(index, value);
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		// a put evicts down to the capacity once the puts no longer race
+		cache.put(mask(64), 64);
+		assertTrue(cache.size() <= 16);
+	}
+
+	@Test
+	void bitSetKeys_test() throws Exception {
+		PropertyMaskCache<String> cache = new PropertyMaskCache<>(2);
+		BitSet mask1 = new BitSet();
+		mask1.set(70);
+		BitSet mask2 = new BitSet();
+		mask2.set(1);
+		mask2.set(80);
+		BitSet mask3 = new BitSet();
+		mask3.set(90);
+		cache.put(mask1, "1");
+		cache.put(mask2, "2");
+		Thread.sleep(1);
+		BitSet lookup = new BitSet();
+		lookup.set(70);
+		assertEquals("1", cache.get(lookup));
+
+		cache.put(mask3, "3");
+		assertEquals(2, cache.size());
+		assertNull(cache.get(mask2));
+		assertEquals("3", cache.get(mask3));
+	}
+
+	@Test
+	void longMaskKeys_test() throws Exception {
+		PropertyMaskCache<String> cache = new PropertyMaskCache<>(40);
+		cache.put(0L, "none");
+		cache.put(1L << 63, "last");
+		cache.put(0b1011L, "three");
+		// the long and BitSet keys of the same set are the same entry
+		assertEquals("none", cache.get(mask()));
+		assertEquals("last", cache.get(mask(63)));
+		assertEquals("three", cache.get(mask(0, 1, 3)));
+		cache.put(mask(0, 1, 3), "four");
+		assertEquals("four", cache.get(0b1011L));
+		assertEquals(3, cache.size());
+		assertEquals(0b1011L, PropertyMaskCache.toMask(mask(3, 1, 0)));
+
+		for (int i = 0; i < 100; i++) {
+			cache.put(i + 1000L, "v" + i);
+			assertEquals("v" + i, cache.get(i + 1000L));
+			assertTrue(cache.size() <= 40);
+		}
+		assertNull(cache.get(1000L));
+	}
+
+	@Test
+	void invalidCapacity_test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new PropertyMaskCache<String>(0));
+	}
+
+	private static BitSet mask(int... indexes) {
+		BitSet mask = new BitSet();
+		for (int index : indexes) {
+			mask.set(index);
+		}
+		return mask;
+	}
+}
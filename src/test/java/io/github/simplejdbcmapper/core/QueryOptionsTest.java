@@ -0,0 +1,322 @@
+package io.github.simplejdbcmapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.github.simplejdbcmapper.exception.AnnotationException;
+import io.github.simplejdbcmapper.model.Customer;
+import io.github.simplejdbcmapper.model.CustomerQueryOptions;
+import io.github.simplejdbcmapper.model.InvalidQueryOptionsAnnotation;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+class QueryOptionsTest {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private SimpleJdbcMapper sjm;
+
+	@Value("${spring.datasource.driver-class-name}")
+	private String jdbcDriver;
+
+	@Test
+	void findAll_queryOptions_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		mapper.findAll(Customer.class, QueryOptions.create().fetchSize(25).maxRows(1).queryTimeout(15));
+
+		assertEquals(25, recorder.getLastSetting("setFetchSize"));
+		assertEquals(1, recorder.getLastSetting("setMaxRows"));
+		assertEquals(15, recorder.getLastSetting("setQueryTimeout"));
+	}
+
+	@Test
+	void findAll_noQueryOptions_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		mapper.findAll(Customer.class);
+
+		assertTrue(recorder.getSettings().isEmpty());
+	}
+
+	@Test
+	void find_tableAnnotationQueryOptions_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		List<CustomerQueryOptions> list = mapper.findAll(CustomerQueryOptions.class);
+		assertTrue(list.size() <= 2);
+		assertEquals(50, recorder.getLastSetting("setFetchSize"));
+		assertEquals(2, recorder.getLastSetting("setMaxRows"));
+		assertEquals(20, recorder.getLastSetting("setQueryTimeout"));
+
+		mapper.findById(CustomerQueryOptions.class, 1);
+		assertEquals(20, recorder.getLastSetting("setQueryTimeout"));
+
+		mapper.findByPropertyValues(CustomerQueryOptions.class, "id", Arrays.asList(1, 2, null));
+		assertEquals(2, recorder.getLastSetting("setMaxRows"));
+	}
+
+	@Test
+	void find_callOptionsOverrideTableAnnotation_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		mapper.findByPropertyValue(CustomerQueryOptions.class, "lastName", "doe", QueryOptions.create().maxRows(0));
+
+		assertEquals(50, recorder.getLastSetting("setFetchSize"));
+		assertEquals(0, recorder.getLastSetting("setMaxRows"));
+		assertEquals(20, recorder.getLastSetting("setQueryTimeout"));
+	}
+
+	@Test
+	void stream_queryOptions_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+		mapper.setStreamFetchSize(300);
+
+		try (Stream<Customer> stream = mapper.streamAll(Customer.class)) {
+			stream.count();
+		}
+		assertEquals(300, recorder.getLastSetting("setFetchSize"));
+
+		try (Stream<Customer> stream = mapper.streamByPropertyValue(Customer.class, "lastName", "doe",
+				QueryOptions.create().fetchSize(10).maxRows(5))) {
+			stream.count();
+		}
+		assertEquals(10, recorder.getLastSetting("setFetchSize"));
+		assertEquals(5, recorder.getLastSetting("setMaxRows"));
+	}
+
+	@Test
+	void stream_mysqlStreamFetchSize_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		recorder.setNegativeFetchSizeRecordedOnly(!jdbcDriver.contains("mysql"));
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+		mapper.setStreamFetchSize(Integer.MIN_VALUE);
+		assertEquals(Integer.MIN_VALUE, mapper.getStreamFetchSize());
+		int count = sjm.findAll(Customer.class).size();
+
+		try (Stream<Customer> stream = mapper.streamAll(Customer.class)) {
+			assertEquals(count, stream.count());
+		}
+		assertEquals(Integer.MIN_VALUE, recorder.getLastSetting("setFetchSize"));
+
+		try (Stream<Customer> stream = mapper.streamByPropertyValue(Customer.class, "lastName", "doe")) {
+			stream.count();
+		}
+		assertEquals(Integer.MIN_VALUE, recorder.getLastSetting("setFetchSize"));
+
+		List<Integer> ids = new ArrayList<>();
+		mapper.forEach(Customer.class, customer -> ids.add(customer.getId()));
+		assertEquals(count, ids.size());
+		assertEquals(Integer.MIN_VALUE, recorder.getLastSetting("setFetchSize"));
+
+		List<Integer> scannedIds = new ArrayList<>();
+		mapper.parallelScan(Customer.class, 1, 1, true,
+				partition -> partition.forEach(customer -> scannedIds.add(customer.getId())));
+		assertEquals(count, scannedIds.size());
+		assertEquals(Integer.MIN_VALUE, recorder.getLastSetting("setFetchSize"));
+
+		// a fetch size from the call still takes precedence
+		mapper.forEach(Customer.class, customer -> {
+		}, QueryOptions.create().fetchSize(9));
+		assertEquals(9, recorder.getLastSetting("setFetchSize"));
+	}
+
+	@Test
+	void setStreamFetchSize_invalidValue_Test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			new SimpleJdbcMapper(dataSource, sjm.getSchemaName(), sjm.getCatalogName()).setStreamFetchSize(-1);
+		});
+	}
+
+	@Test
+	void findPage_tableAnnotationMaxRowsNotApplied_Test() {
+		int count = sjm.findAll(Customer.class).size();
+		assertTrue(count > 3);
+		List<Integer> ids = new ArrayList<>();
+		Page<CustomerQueryOptions> page = sjm.findPage(CustomerQueryOptions.class, new PageRequest(3));
+		ids.addAll(page.getContent().stream().map(CustomerQueryOptions::getId).toList());
+		assertEquals(3, page.getContent().size());
+		while (page.hasNext()) {
+			page = sjm.findPage(CustomerQueryOptions.class, page.nextPageRequest());
+			ids.addAll(page.getContent().stream().map(CustomerQueryOptions::getId).toList());
+		}
+		assertEquals(count, ids.size());
+	}
+
+	@Test
+	void parallelScan_tableAnnotationMaxRowsNotApplied_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+		int count = sjm.findAll(Customer.class).size();
+		List<Integer> ids = new ArrayList<>();
+		mapper.parallelScan(CustomerQueryOptions.class, 1, 1, true, QueryOptions.create().queryTimeout(40),
+				partition -> partition.forEach(customer -> ids.add(customer.getId())));
+		assertEquals(count, ids.size());
+		assertEquals(50, recorder.getLastSetting("setFetchSize"));
+		assertEquals(40, recorder.getLastSetting("setQueryTimeout"));
+		assertNull(recorder.getLastSetting("setMaxRows"));
+	}
+
+	@Test
+	void projectionAndForEach_queryOptions_Test() {
+		StatementRecorder recorder = new StatementRecorder(dataSource);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		List<Customer> list = mapper.findAll(Customer.class, Projection.of("id", "lastName"),
+				QueryOptions.create().maxRows(1));
+		assertEquals(1, list.size());
+		assertEquals(1, recorder.getLastSetting("setMaxRows"));
+
+		mapper.findByPropertyValue(Customer.class, "lastName", "doe", Projection.of("id"),
+				QueryOptions.create().queryTimeout(12));
+		assertEquals(12, recorder.getLastSetting("setQueryTimeout"));
+
+		List<Integer> ids = new ArrayList<>();
+		mapper.forEach(Customer.class, customer -> ids.add(customer.getId()),
+				QueryOptions.create().fetchSize(7).maxRows(2));
+		assertEquals(2, ids.size());
+		assertEquals(7, recorder.getLastSetting("setFetchSize"));
+
+		mapper.forEachReusingInstance(Customer.class, customer -> {
+		}, QueryOptions.create().fetchSize(8));
+		assertEquals(8, recorder.getLastSetting("setFetchSize"));
+	}
+
+	@Test
+	void queryOptions_invalidValues_Test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			QueryOptions.create().fetchSize(-1);
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			QueryOptions.create().maxRows(-1);
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			QueryOptions.create().queryTimeout(-1);
+		});
+		Exception exception = Assertions.assertThrows(AnnotationException.class, () -> {
+			sjm.findAll(InvalidQueryOptionsAnnotation.class);
+		});
+		assertTrue(exception.getMessage().contains("cannot be less than -1"));
+	}
+
+	/*
+	 * Records the sql and the settings applied to the prepared statements of its
+	 * connections.
+	 */
+	static class StatementRecorder extends DelegatingDataSource {
+		private final Map<String, List<Integer>> settings = new HashMap<>();
+
+		private final List<String> sqls = new ArrayList<>();
+
+		private boolean batchCountsUnreported;
+
+		private boolean negativeFetchSizeRecordedOnly;
+
+		StatementRecorder(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection con = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						if (method.getName().equals("prepareStatement")) {
+							sqls.add((String) args[0]);
+						}
+						Object result = invoke(con, method, args);
+						if (result instanceof PreparedStatement ps) {
+							return recordingStatement(ps);
+						}
+						return result;
+					});
+		}
+
+		Map<String, List<Integer>> getSettings() {
+			return settings;
+		}
+
+		List<String> getSqls() {
+			return sqls;
+		}
+
+		// executeBatch returns Statement.SUCCESS_NO_INFO for every row like drivers
+		// which do not report the counts of a batch.
+		void setBatchCountsUnreported(boolean batchCountsUnreported) {
+			this.batchCountsUnreported = batchCountsUnreported;
+		}
+
+		// a negative fetch size is recorded but not passed to the driver since only
+		// MySQL accepts Integer.MIN_VALUE.
+		void setNegativeFetchSizeRecordedOnly(boolean negativeFetchSizeRecordedOnly) {
+			this.negativeFetchSizeRecordedOnly = negativeFetchSizeRecordedOnly;
+		}
+
+		Integer getLastSetting(String methodName) {
+			List<Integer> values = settings.get(methodName);
+			return values == null ? null : values.get(values.size() - 1);
+		}
+
+		private PreparedStatement recordingStatement(PreparedStatement ps) {
+			return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+						String name = method.getName();
+						if (name.equals("setFetchSize") || name.equals("setMaxRows")
+								|| name.equals("setQueryTimeout")) {
+							settings.computeIfAbsent(name, k -> new ArrayList<>()).add((Integer) args[0]);
+						}
+						if (negativeFetchSizeRecordedOnly && name.equals("setFetchSize") && (Integer) args[0] < 0) {
+							return null;
+						}
+						Object result = invoke(ps, method, args);
+						if (batchCountsUnreported && name.equals("executeBatch")) {
+							int[] counts = (int[]) result;
+							Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+						}
+						return result;
+					});
+		}
+
+		private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args)
+				throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+}
@@ -45,6 +45,12 @@ class ResultSetTypeTest {
 		assertEquals(ResultSetType.TIMESTAMP, ResultSetType.getResultSetType(java.sql.Timestamp.class));
 		assertEquals(ResultSetType.UTILDATE, ResultSetType.getResultSetType(java.util.Date.class));
 
+		assertEquals(ResultSetType.LOCALDATE, ResultSetType.getResultSetType(java.time.LocalDate.class));
+		assertEquals(ResultSetType.LOCALDATETIME, ResultSetType.getResultSetType(java.time.LocalDateTime.class));
+		assertEquals(ResultSetType.OFFSETDATETIME, ResultSetType.getResultSetType(java.time.OffsetDateTime.class));
+		assertEquals(ResultSetType.INSTANT, ResultSetType.getResultSetType(java.time.Instant.class));
+		assertEquals(ResultSetType.UUID, ResultSetType.getResultSetType(java.util.UUID.class));
+
 		assertEquals(ResultSetType.BYTEARRAY, ResultSetType.getResultSetType(byte[].class));
 		assertEquals(ResultSetType.BLOB, ResultSetType.getResultSetType(Blob.class));
 		assertEquals(ResultSetType.CLOB, ResultSetType.getResultSetType(Clob.class));
@@ -52,6 +58,7 @@ class ResultSetTypeTest {
 		assertEquals(ResultSetType.ENUM, ResultSetType.getResultSetType(StatusEnum.class));
 
 		assertEquals(ResultSetType.UNKNOWN, ResultSetType.getResultSetType(char[].class));
+		assertEquals(ResultSetType.UNKNOWN, ResultSetType.getResultSetType(java.time.LocalTime.class));
 
 	}
 }
@@ -0,0 +1,152 @@
+package io.github.simplejdbcmapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+class SequenceIdAllocatorTest {
+
+	@Test
+	void nextId_singleThread_test() {
+		AtomicLong sequence = new AtomicLong(1);
+		AtomicLong sequenceCalls = new AtomicLong();
+		SequenceIdAllocator allocator = new SequenceIdAllocator(() -> {
+			sequenceCalls.incrementAndGet();
+			return sequence.getAndAdd(5);
+		}, 5);
+
+		for (long i = 1; i <= 12; i++) {
+			assertEquals(i, allocator.nextId());
+		}
+		assertEquals(3, sequenceCalls.get());
+	}
+
+	@Test
+	void nextId_concurrent_test() throws Exception {
+		int threads = 16;
+		int idsPerThread = 20000;
+		int allocationSize = 50;
+		AtomicLong sequence = new AtomicLong(1);
+		AtomicLong sequenceCalls = new AtomicLong();
+		SequenceIdAllocator allocator = new SequenceIdAllocator(() -> {
+			sequenceCalls.incrementAndGet();
+			return sequence.getAndAdd(allocationSize);
+		}, allocationSize);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < idsPerThread; i++) {
+						assertTrue(ids.add(allocator.nextId()));
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(threads * idsPerThread, ids.size());
+		// the sequence is called once per block so no block is dropped
+		assertEquals(threads * idsPerThread / allocationSize, sequenceCalls.get());
+		assertEquals((long) threads * idsPerThread, Collections.max(ids).longValue());
+	}
+
+	@Test
+	void nextId_slowSequence_test() throws Exception {
+		int threads = 8;
+		int idsPerThread = 50;
+		int allocationSize = 10;
+		AtomicLong sequence = new AtomicLong(1);
+		AtomicInteger sequenceCalls = new AtomicInteger();
+		AtomicInteger inProgress = new AtomicInteger();
+		AtomicInteger maxInProgress = new AtomicInteger();
+		SequenceIdAllocator allocator = new SequenceIdAllocator(() -> {
+			sequenceCalls.incrementAndGet();
+			maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(2);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			inProgress.decrementAndGet();
+			return sequence.getAndAdd(allocationSize);
+		}, allocationSize);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < idsPerThread; i++) {
+						assertTrue(ids.add(allocator.nextId()));
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		// the threads wait for the refill in progress instead of calling the sequence
+		assertEquals(1, maxInProgress.get());
+		assertEquals(threads * idsPerThread / allocationSize, sequenceCalls.get());
+		assertEquals(threads * idsPerThread, ids.size());
+	}
+
+	@Test
+	void nextId_sequenceFailure_test() {
+		AtomicLong sequence = new AtomicLong(1);
+		AtomicInteger failures = new AtomicInteger(1);
+		SequenceIdAllocator allocator = new SequenceIdAllocator(() -> {
+			if (failures.getAndDecrement() > 0) {
+				throw new IllegalStateException("sequence failed");
+			}
+			return sequence.getAndAdd(5);
+		}, 5);
+
+		Assertions.assertThrows(IllegalStateException.class, () -> allocator.nextId());
+		// the next call refills again
+		assertEquals(1, allocator.nextId());
+		assertEquals(2, allocator.nextId());
+	}
+
+	@Test
+	void invalidAllocationSize_test() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			new SequenceIdAllocator(() -> 1L, 0);
+		});
+	}
+
+}
@@ -2,6 +2,7 @@ package io.github.simplejdbcmapper.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Types;
 
@@ -112,6 +113,20 @@ class TableMappingTest {
 		}
 	}
 
+	@Test
+	void propertyAccessors_test() {
+		SimpleJdbcMapper sjm = new SimpleJdbcMapper(dataSource, "schema1");
+		SimpleJdbcMapperSupport sjmSupport = TestUtils.getSimpleJdbcMapperSupport(sjm);
+		TableMapping tm = sjmSupport.getTableMapping(Product.class);
+		Object obj = tm.getMappedObjInstantiator().get();
+		assertTrue(obj instanceof Product);
+
+		PropertyMapping propMapping = tm.getPropertyMappingByPropertyName("name");
+		propMapping.getWriteAccessor().accept(obj, "abc");
+		assertEquals("abc", ((Product) obj).getName());
+		assertEquals("abc", propMapping.getReadAccessor().apply(obj));
+	}
+
 	@Test
 	void getDataSource_test() {
 		SimpleJdbcMapper sjm = new SimpleJdbcMapper(dataSource, null, "schema1");
@@ -0,0 +1,163 @@
+package io.github.simplejdbcmapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+class TimeOrderedIdGeneratorTest {
+
+	@Test
+	void nextUuid_test() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		long before = System.currentTimeMillis();
+		UUID previous = generator.nextUuid();
+		assertEquals(7, previous.version());
+		assertEquals(2, previous.variant());
+		assertTrue((previous.getMostSignificantBits() >>> 16) >= before);
+		for (int i = 0; i < 10000; i++) {
+			UUID uuid = generator.nextUuid();
+			// monotonic, also as strings
+			assertTrue(Long.compareUnsigned(uuid.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+			assertTrue(uuid.toString().compareTo(previous.toString()) > 0);
+			previous = uuid;
+		}
+	}
+
+	@Test
+	void nextSnowflakeId_test() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		generator.setNodeId(513);
+		long previous = generator.nextSnowflakeId();
+		assertTrue(previous > 0);
+		assertEquals(513, (previous >>> 12) & 1023);
+		for (int i = 0; i < 10000; i++) {
+			long id = generator.nextSnowflakeId();
+			assertTrue(id > previous);
+			assertEquals(513, (id >>> 12) & 1023);
+			previous = id;
+		}
+	}
+
+	@Test
+	void concurrent_test() throws Exception {
+		int threads = 16;
+		int idsPerThread = 20000;
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		generator.setNodeId(1);
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<long[]> results = new ArrayList<>();
+		try {
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					long[] ids = new long[idsPerThread];
+					for (int i = 0; i < idsPerThread; i++) {
+						ids[i] = generator.nextSnowflakeId();
+						// each thread sees increasing ids
+						if (i > 0) {
+							assertTrue(ids[i] > ids[i - 1]);
+						}
+					}
+					return ids;
+				}));
+			}
+			start.countDown();
+			for (Future<long[]> future : futures) {
+				results.add(future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		long count = results.stream().flatMapToLong(Arrays::stream).distinct().count();
+		assertEquals((long) threads * idsPerThread, count);
+	}
+
+	@Test
+	void sameNodeIdGenerators_test() throws Exception {
+		// like two mappers of the same application instance
+		TimeOrderedIdGenerator generator1 = new TimeOrderedIdGenerator();
+		generator1.setNodeId(7);
+		TimeOrderedIdGenerator generator2 = new TimeOrderedIdGenerator();
+		generator2.setNodeId(7);
+		int idsPerThread = 20000;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		List<long[]> results = new ArrayList<>();
+		try {
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (TimeOrderedIdGenerator generator : Arrays.asList(generator1, generator2)) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					long[] ids = new long[idsPerThread];
+					for (int i = 0; i < idsPerThread; i++) {
+						ids[i] = generator.nextSnowflakeId();
+					}
+					return ids;
+				}));
+			}
+			start.countDown();
+			for (Future<long[]> future : futures) {
+				results.add(future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		long count = results.stream().flatMapToLong(Arrays::stream).distinct().count();
+		assertEquals(2L * idsPerThread, count);
+	}
+
+	@Test
+	void nodeIdNotSet_test() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		assertFalse(generator.isNodeIdSet());
+		assertEquals(-1, generator.getNodeId());
+		Assertions.assertThrows(IllegalStateException.class, () -> generator.nextSnowflakeId());
+	}
+
+	@Test
+	void setNodeId_keepsState_test() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		generator.setNodeId(1);
+		long previous = 0;
+		for (int i = 0; i < 10000; i++) {
+			previous = generator.nextSnowflakeId();
+		}
+		// the (millisecond, counter) state is not reset by a new node id
+		generator.setNodeId(0);
+		long id = generator.nextSnowflakeId();
+		assertTrue(((id >>> 22) << 12 | (id & 4095)) > ((previous >>> 22) << 12 | (previous & 4095)));
+		assertEquals(0, (id >>> 12) & 1023);
+	}
+
+	@Test
+	void invalidNodeId_test() {
+		TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			generator.setNodeId(1024);
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			generator.setNodeId(-1);
+		});
+		assertFalse(generator.isNodeIdSet());
+	}
+
+}
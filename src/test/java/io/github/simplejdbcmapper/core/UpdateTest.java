@@ -6,12 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -26,9 +34,15 @@ import io.github.simplejdbcmapper.model.ProductWithNoAuditFields;
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 class UpdateTest {
+	@Value("${spring.datasource.driver-class-name}")
+	private String jdbcDriver;
+
 	@Autowired
 	private SimpleJdbcMapper sjm;
 
+	@Autowired
+	private DataSource dataSource;
+
 	private SimpleJdbcMapperSupport sjmSupport;
 
 	@BeforeEach
@@ -261,4 +275,302 @@ class UpdateTest {
 
 		sjm.delete(product);
 	}
+
+	@Test
+	void updateAll_Test() {
+		Product product1 = new Product();
+		product1.setId(7201);
+		product1.setName("p1");
+		Product product2 = new Product();
+		product2.setId(7202);
+		product2.setName("p2");
+		sjm.insertAll(Arrays.asList(product1, product2));
+
+		product1.setName("p1-updated");
+		product2.setName("p2-updated");
+		sjm.updateAll(Arrays.asList(product1, product2));
+
+		assertEquals(2, product1.getVersion());
+		assertEquals(2, product2.getVersion());
+		if (sjmSupport.getRecordAuditedBySupplier() != null) {
+			assertEquals("tester", product1.getUpdatedBy());
+			assertEquals("tester", product2.getUpdatedBy());
+		}
+		Product product = sjm.findById(Product.class, 7201);
+		assertEquals("p1-updated", product.getName());
+		assertEquals(2, product.getVersion());
+		assertEquals("p2-updated", sjm.findById(Product.class, 7202).getName());
+
+		sjm.delete(product1);
+		sjm.delete(product2);
+	}
+
+	@Test
+	void updateAll_staleVersions_Test() {
+		Product product1 = new Product();
+		product1.setId(7203);
+		product1.setName("p1");
+		Product product2 = new Product();
+		product2.setId(7204);
+		product2.setName("p2");
+		Product product3 = new Product();
+		product3.setId(7205);
+		product3.setName("p3");
+		sjm.insertAll(Arrays.asList(product1, product2, product3));
+
+		product1.setVersion(5);
+		product2.setName("p2-updated");
+		product3.setVersion(7);
+
+		Exception exception = Assertions.assertThrows(OptimisticLockingException.class, () -> {
+			sjm.updateAll(Arrays.asList(product1, product2, product3));
+		});
+		assertTrue(exception.getMessage().contains("7203"));
+		assertTrue(exception.getMessage().contains("7205"));
+		assertEquals(5, product1.getVersion());
+		assertEquals(7, product3.getVersion());
+		assertEquals(2, product2.getVersion());
+		assertEquals("p2-updated", sjm.findById(Product.class, 7204).getName());
+
+		sjm.delete(product1);
+		sjm.delete(product2);
+		sjm.delete(product3);
+	}
+
+	@Test
+	void updateAll_batchCountsUnreported_Test() {
+		Product product1 = new Product();
+		product1.setId(7206);
+		product1.setName("p1");
+		Product product2 = new Product();
+		product2.setId(7207);
+		product2.setName("p2");
+		sjm.insertAll(Arrays.asList(product1, product2));
+
+		QueryOptionsTest.StatementRecorder recorder = new QueryOptionsTest.StatementRecorder(dataSource);
+		recorder.setBatchCountsUnreported(true);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		// without the counts a stale version cannot be told from an update
+		product1.setVersion(5);
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			mapper.updateAll(Arrays.asList(product1, product2));
+		});
+		assertTrue(exception.getMessage().contains("did not return the update counts"));
+		assertTrue(exception.getMessage().contains("7206"));
+		assertTrue(exception.getMessage().contains("7207"));
+		assertEquals(5, product1.getVersion());
+		assertEquals(1, product2.getVersion());
+
+		// the counts of objects without a version are not needed
+		Person person = new Person();
+		person.setPersonId("batch-counts-p1");
+		person.setFirstName("john");
+		person.setLastName("doe");
+		sjm.insert(person);
+		person.setFirstName("jane");
+		mapper.updateAll(Arrays.asList(person));
+		assertEquals("jane", sjm.findById(Person.class, "batch-counts-p1").getFirstName());
+
+		sjm.delete(person);
+		sjm.delete(product1);
+		sjm.delete(product2);
+	}
+
+	@Test
+	void updateAll_nullId_Test() {
+		Product product = new Product();
+		product.setName("p1");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.updateAll(Arrays.asList(product));
+		});
+	}
+
+	@Test
+	void update_snapshotUpdatesOnlyChangedProperties_Test() {
+		Product product = new Product();
+		product.setId(7211);
+		product.setName("p1");
+		product.setDescription("desc");
+		sjm.insert(product);
+
+		sjm.setSnapshotUpdates(true);
+		try {
+			Product loaded = sjm.findById(Product.class, 7211);
+			// change a column behind the back of the loaded object
+			String tableName = sjmSupport.getTableMapping(Product.class).fullyQualifiedTableName();
+			sjm.getJdbcTemplate().update("UPDATE " + tableName + " SET description = ? WHERE id = ?", "changed", 7211);
+
+			loaded.setName("p1-updated");
+			assertEquals(1, sjm.update(loaded));
+			assertEquals(2, loaded.getVersion());
+
+			Product requeried = sjm.findById(Product.class, 7211);
+			assertEquals("p1-updated", requeried.getName());
+			// the unchanged property did not get written
+			assertEquals("changed", requeried.getDescription());
+			assertEquals(2, requeried.getVersion());
+
+			// the snapshot is refreshed after the update
+			loaded.setCost(12.5);
+			assertEquals(1, sjm.update(loaded));
+			assertEquals(3, loaded.getVersion());
+			assertEquals(12.5, sjm.findById(Product.class, 7211).getCost());
+		} finally {
+			sjm.setSnapshotUpdates(false);
+		}
+		sjm.delete(product);
+	}
+
+	@Test
+	void update_snapshotNoChanges_Test() {
+		Product product = new Product();
+		product.setId(7212);
+		product.setName("p1");
+		sjm.insert(product);
+
+		sjm.setSnapshotUpdates(true);
+		try {
+			Product loaded = sjm.findById(Product.class, 7212);
+			LocalDateTime updatedOn = loaded.getUpdatedOn();
+			assertEquals(0, sjm.update(loaded));
+			assertEquals(1, loaded.getVersion());
+			assertEquals(updatedOn, loaded.getUpdatedOn());
+			assertEquals(1, sjm.findById(Product.class, 7212).getVersion());
+
+			// objects not loaded by the mapper are fully updated
+			product.setName("p1-updated");
+			assertEquals(1, sjm.update(product));
+			assertEquals(2, product.getVersion());
+		} finally {
+			sjm.setSnapshotUpdates(false);
+		}
+		sjm.delete(product);
+	}
+
+	@Test
+	void update_snapshotStale_Test() {
+		Product product = new Product();
+		product.setId(7213);
+		product.setName("p1");
+		sjm.insert(product);
+
+		sjm.setSnapshotUpdates(true);
+		try {
+			Product loaded1 = sjm.findById(Product.class, 7213);
+			Product loaded2 = sjm.findById(Product.class, 7213);
+			loaded1.setName("first");
+			sjm.update(loaded1);
+
+			loaded2.setName("second");
+			Assertions.assertThrows(OptimisticLockingException.class, () -> {
+				sjm.update(loaded2);
+			});
+			assertEquals("first", sjm.findById(Product.class, 7213).getName());
+		} finally {
+			sjm.setSnapshotUpdates(false);
+		}
+		sjm.delete(product);
+	}
+
+	@Test
+	void updateWhere_Test() {
+		for (int id = 7221; id <= 7223; id++) {
+			Product product = new Product();
+			product.setId(id);
+			product.setName("updateWhere");
+			product.setCost(id == 7223 ? 50.0 : 10.0);
+			sjm.insert(product);
+		}
+
+		int cnt = sjm.updateWhere(Product.class,
+				Criteria.where("name", "updateWhere").and("cost", Criteria.Operator.LT, 20.0),
+				Map.of("description", "cheap", "cost", 15.0));
+		assertEquals(2, cnt);
+
+		Product product = sjm.findById(Product.class, 7221);
+		assertEquals("cheap", product.getDescription());
+		assertEquals(15.0, product.getCost());
+		assertEquals(2, product.getVersion());
+		if (sjmSupport.getRecordAuditedBySupplier() != null) {
+			assertEquals("tester", product.getUpdatedBy());
+		}
+		Product unchanged = sjm.findById(Product.class, 7223);
+		assertNull(unchanged.getDescription());
+		assertEquals(1, unchanged.getVersion());
+
+		// null values
+		cnt = sjm.updateWhere(Product.class, Criteria.where("description", "cheap"),
+				Collections.singletonMap("description", null));
+		assertEquals(2, cnt);
+		cnt = sjm.updateWhere(Product.class,
+				Criteria.where("id", Criteria.Operator.IN, Arrays.asList(7221, 7222, 7223)).and("description", null),
+				Map.of("name", "updateWhere2"));
+		assertEquals(3, cnt);
+		assertEquals(4, sjm.findById(Product.class, 7222).getVersion());
+
+		sjm.deleteWhere(Product.class, Criteria.where("name", "updateWhere2"));
+		assertNull(sjm.findById(Product.class, 7221));
+	}
+
+	@Test
+	void updateWhere_cache_Test() {
+		UpdateOperation uo = TestUtils.getUpdateOperation(sjm);
+		uo.getUpdateWhereSqlCache().clear();
+		sjm.updateWhere(Product.class, Criteria.where("id", 7299), Map.of("name", "a", "cost", 1.0));
+		sjm.updateWhere(Product.class, Criteria.where("id", 7298), Map.of("cost", 2.0, "name", "b"));
+		assertEquals(1, uo.getUpdateWhereSqlCache().size());
+
+		sjm.updateWhere(Product.class, Criteria.where("id", null), Map.of("name", "a", "cost", 1.0));
+		assertEquals(2, uo.getUpdateWhereSqlCache().size());
+	}
+
+	@Test
+	void updateWhere_largeInList_Test() {
+		for (int id = 7231; id <= 7232; id++) {
+			Product product = new Product();
+			product.setId(id);
+			product.setName("updateWhere-large");
+			sjm.insert(product);
+		}
+		List<Integer> ids = new ArrayList<>();
+		for (int id = 7231; id < 7231 + 2500; id++) {
+			ids.add(id);
+		}
+		int cnt = sjm.updateWhere(Product.class, Criteria.where("id", Criteria.Operator.IN, ids),
+				Map.of("description", "large"));
+		assertEquals(2, cnt);
+		assertEquals("large", sjm.findById(Product.class, 7232).getDescription());
+		assertEquals(2, sjm.findById(Product.class, 7232).getVersion());
+
+		// a chunk must not update rows matched by a later chunk
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 70000; i++) {
+			names.add("updateWhere-large" + i);
+		}
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.updateWhere(Product.class, Criteria.where("name", Criteria.Operator.IN, names),
+					Map.of("name", "x"));
+		});
+
+		sjm.deleteWhere(Product.class, Criteria.where("name", "updateWhere-large"));
+	}
+
+	@Test
+	void updateWhere_invalidProperty_Test() {
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.updateWhere(Product.class, Criteria.where("id", 1), Map.of("version", 5));
+		});
+		assertTrue(exception.getMessage().contains("cannot be updated using updateWhere() method"));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.updateWhere(Product.class, Criteria.where("id", 1), Map.of());
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			Criteria.where("id", Criteria.Operator.IN, Arrays.asList());
+		});
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			Criteria.where("id", Criteria.Operator.GT, null);
+		});
+	}
 }
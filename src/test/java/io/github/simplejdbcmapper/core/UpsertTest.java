@@ -0,0 +1,237 @@
+package io.github.simplejdbcmapper.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.github.simplejdbcmapper.exception.MapperException;
+import io.github.simplejdbcmapper.exception.OptimisticLockingException;
+import io.github.simplejdbcmapper.model.Order;
+import io.github.simplejdbcmapper.model.Person;
+import io.github.simplejdbcmapper.model.Product;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+class UpsertTest {
+	@Value("${spring.datasource.driver-class-name}")
+	private String jdbcDriver;
+
+	@Autowired
+	private SimpleJdbcMapper sjm;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void upsert_insertThenUpdate_Test() {
+		Product product = new Product();
+		product.setId(7101);
+		product.setName("upsert");
+		product.setCost(1.5);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(dataSource, sjm.getSchemaName(), sjm.getCatalogName());
+		mapper.setRecordAuditedBySupplier(() -> "tester");
+		mapper.setRecordAuditedOnSupplier(LocalDateTime::now);
+		if (jdbcDriver.contains("mysql")) {
+			Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+				mapper.upsert(product);
+			});
+			assertTrue(exception.getMessage().contains("MySQL cannot check the version"));
+			return;
+		}
+
+		mapper.upsert(product);
+		assertEquals(1, product.getVersion());
+		// the created values are only written to the row
+		assertNull(product.getCreatedOn());
+		assertNull(product.getCreatedBy());
+		assertNotNull(product.getUpdatedOn());
+
+		Product product1 = sjm.findById(Product.class, 7101);
+		assertEquals("upsert", product1.getName());
+		assertEquals(1, product1.getVersion());
+		// the supplied created values are written by the insert
+		assertNotNull(product1.getCreatedOn());
+		assertEquals("tester", product1.getCreatedBy());
+
+		LocalDateTime createdOn = product1.getCreatedOn();
+		String createdBy = product1.getCreatedBy();
+		product1.setName("upsert2");
+		mapper.upsert(product1);
+		assertEquals(2, product1.getVersion());
+		// the object keeps the created values of the existing row
+		assertEquals(createdOn, product1.getCreatedOn());
+		assertEquals(createdBy, product1.getCreatedBy());
+		assertNotNull(product1.getUpdatedOn());
+
+		product1.setName("upsert3");
+		product1.setCreatedOn(LocalDateTime.now().plusDays(1));
+		mapper.upsert(product1);
+		assertEquals(3, product1.getVersion());
+
+		Product product2 = sjm.findById(Product.class, 7101);
+		assertEquals("upsert3", product2.getName());
+		assertEquals(3, product2.getVersion());
+		// created on is only written on insert
+		assertEquals(createdOn, product2.getCreatedOn());
+		assertEquals(createdBy, product2.getCreatedBy());
+
+		sjm.delete(product2);
+	}
+
+	@Test
+	void upsert_staleVersion_Test() {
+		if (jdbcDriver.contains("mysql")) {
+			return;
+		}
+		Product product = new Product();
+		product.setId(7102);
+		product.setName("upsert");
+		sjm.insert(product);
+
+		Product stale = sjm.findById(Product.class, 7102);
+		product.setName("upsert2");
+		sjm.upsert(product);
+
+		stale.setName("upsert3");
+		Exception exception = Assertions.assertThrows(OptimisticLockingException.class, () -> {
+			sjm.upsert(stale);
+		});
+		assertTrue(exception.getMessage().contains("upsert failed due to stale data"));
+		// the version is not incremented
+		assertEquals(1, stale.getVersion());
+		assertEquals("upsert2", sjm.findById(Product.class, 7102).getName());
+
+		// a new object with the same id is also stale
+		Product newProduct = new Product();
+		newProduct.setId(7102);
+		Assertions.assertThrows(OptimisticLockingException.class, () -> {
+			sjm.upsert(newProduct);
+		});
+		assertNull(newProduct.getVersion());
+
+		sjm.delete(product);
+	}
+
+	@Test
+	void upsertAll_Test() {
+		Person person1 = new Person();
+		person1.setPersonId("upsert-p1");
+		person1.setFirstName("john");
+		person1.setLastName("doe");
+		sjm.insert(person1);
+
+		person1.setLastName("doe2");
+		Person person2 = new Person();
+		person2.setPersonId("upsert-p2");
+		person2.setFirstName("jane");
+		person2.setLastName("doe");
+
+		sjm.upsertAll(Arrays.asList(person1, person2));
+
+		assertEquals("doe2", sjm.findById(Person.class, "upsert-p1").getLastName());
+		assertEquals("jane", sjm.findById(Person.class, "upsert-p2").getFirstName());
+
+		sjm.delete(person1);
+		sjm.delete(person2);
+	}
+
+	@Test
+	void upsertAll_staleVersions_Test() {
+		if (jdbcDriver.contains("mysql")) {
+			return;
+		}
+		Product product1 = new Product();
+		product1.setId(7103);
+		product1.setName("p1");
+		Product product2 = new Product();
+		product2.setId(7104);
+		product2.setName("p2");
+		sjm.insertAll(Arrays.asList(product1, product2));
+
+		product1.setVersion(5);
+		product2.setName("p2-upserted");
+		Product product3 = new Product();
+		product3.setId(7105);
+		product3.setName("p3");
+
+		Exception exception = Assertions.assertThrows(OptimisticLockingException.class, () -> {
+			sjm.upsertAll(Arrays.asList(product1, product2, product3));
+		});
+		assertTrue(exception.getMessage().contains("7103"));
+		assertEquals(5, product1.getVersion());
+		assertEquals(2, product2.getVersion());
+		assertEquals("p2-upserted", sjm.findById(Product.class, 7104).getName());
+		assertEquals(1, sjm.findById(Product.class, 7105).getVersion());
+
+		sjm.delete(product1);
+		sjm.delete(product2);
+		sjm.delete(product3);
+	}
+
+	@Test
+	void upsertAll_batchCountsUnreported_Test() {
+		if (jdbcDriver.contains("mysql")) {
+			return;
+		}
+		Product product1 = new Product();
+		product1.setId(7106);
+		product1.setName("p1");
+		Product product2 = new Product();
+		product2.setId(7107);
+		product2.setName("p2");
+		sjm.insertAll(Arrays.asList(product1, product2));
+
+		QueryOptionsTest.StatementRecorder recorder = new QueryOptionsTest.StatementRecorder(dataSource);
+		recorder.setBatchCountsUnreported(true);
+		SimpleJdbcMapper mapper = new SimpleJdbcMapper(recorder, sjm.getSchemaName(), sjm.getCatalogName());
+
+		// without the counts a stale version cannot be told from an upsert
+		product1.setVersion(5);
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			mapper.upsertAll(Arrays.asList(product1, product2));
+		});
+		assertTrue(exception.getMessage().contains("did not return the update counts"));
+		assertTrue(exception.getMessage().contains("7106"));
+		assertTrue(exception.getMessage().contains("7107"));
+		assertEquals(5, product1.getVersion());
+		assertEquals(1, product2.getVersion());
+
+		sjm.delete(product1);
+		sjm.delete(product2);
+	}
+
+	@Test
+	void upsert_invalidId_Test() {
+		Order order = new Order();
+		order.setId(1L);
+		Exception exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.upsert(order);
+		});
+		assertTrue(exception.getMessage().contains("is an auto generated id"));
+
+		Person person = new Person();
+		exception = Assertions.assertThrows(MapperException.class, () -> {
+			sjm.upsert(person);
+		});
+		assertTrue(exception.getMessage().contains("must not be null"));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			sjm.upsert(null);
+		});
+	}
+
+}
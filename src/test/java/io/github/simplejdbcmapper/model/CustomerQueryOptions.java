@@ -0,0 +1,40 @@
+package io.github.simplejdbcmapper.model;
+
+import io.github.simplejdbcmapper.annotation.Column;
+import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
+import io.github.simplejdbcmapper.annotation.Table;
+
+@Table(name = "customer", fetchSize = 50, maxRows = 2, queryTimeout = 20)
+public class CustomerQueryOptions {
+	@Id(type = IdType.AUTO_GENERATED)
+	private Integer id;
+	@Column
+	private String firstName;
+	@Column
+	private String lastName;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.simplejdbcmapper.model;
+
+import java.time.LocalDateTime;
+
+import io.github.simplejdbcmapper.annotation.Column;
+import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
+import io.github.simplejdbcmapper.annotation.Table;
+
+@Table(name = "generated_check")
+public class GeneratedCheck {
+	@Id(type = IdType.AUTO_GENERATED)
+	private Integer id;
+
+	@Column
+	private String name;
+
+	@Column(generated = true)
+	private String status;
+
+	@Column(generated = true)
+	private LocalDateTime createdAt;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+}
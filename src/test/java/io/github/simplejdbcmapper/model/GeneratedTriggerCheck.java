@@ -0,0 +1,45 @@
+package io.github.simplejdbcmapper.model;
+
+import io.github.simplejdbcmapper.annotation.Column;
+import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
+import io.github.simplejdbcmapper.annotation.Table;
+
+// the table and its trigger only exist on sqlserver
+@Table(name = "generated_trigger_check")
+public class GeneratedTriggerCheck {
+	@Id(type = IdType.AUTO_GENERATED)
+	private Integer id;
+
+	@Column
+	private String name;
+
+	// assigned by the insert trigger
+	@Column(generated = true)
+	private String code;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public void setCode(String code) {
+		this.code = code;
+	}
+
+}
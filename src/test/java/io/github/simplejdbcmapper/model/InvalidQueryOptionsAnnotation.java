@@ -0,0 +1,19 @@
+package io.github.simplejdbcmapper.model;
+
+import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
+import io.github.simplejdbcmapper.annotation.Table;
+
+@Table(name = "customer", fetchSize = -5)
+public class InvalidQueryOptionsAnnotation {
+	@Id(type = IdType.AUTO_GENERATED)
+	private Integer id;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+}
@@ -0,0 +1,32 @@
+package io.github.simplejdbcmapper.model;
+
+import io.github.simplejdbcmapper.annotation.Column;
+import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
+import io.github.simplejdbcmapper.annotation.Table;
+
+@Table(name = "product")
+public class InvalidSnowflakeId {
+	@Id(type = IdType.SNOWFLAKE)
+	private Integer id;
+
+	@Column
+	private String name;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+}
@@ -0,0 +1,43 @@
+package io.github.simplejdbcmapper.model;
+
+import io.github.simplejdbcmapper.annotation.Column;
+import io.github.simplejdbcmapper.annotation.Id;
+import io.github.simplejdbcmapper.annotation.IdType;
+import io.github.simplejdbcmapper.annotation.Table;
+import io.github.simplejdbcmapper.core.LazyBytes;
+
+@Table(name = "type_check")
+public class LazyLobType {
+	@Id(type = IdType.AUTO_GENERATED)
+	private Integer id;
+
+	@Column
+	private Boolean booleanVal;
+
+	@Column(lazy = true)
+	private LazyBytes image;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public Boolean getBooleanVal() {
+		return booleanVal;
+	}
+
+	public void setBooleanVal(Boolean booleanVal) {
+		this.booleanVal = booleanVal;
+	}
+
+	public LazyBytes getImage() {
+		return image;
+	}
+
+	public void setImage(LazyBytes image) {
+		this.image = image;
+	}
+}
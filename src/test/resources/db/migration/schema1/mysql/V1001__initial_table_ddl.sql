@@ -21,6 +21,14 @@ CREATE TABLE schema1.order_line (
 	CONSTRAINT order_line_pk PRIMARY KEY (order_line_id)
 );
 
+CREATE TABLE schema1.generated_check (
+	id integer NOT NULL AUTO_INCREMENT,
+	name varchar(100),
+	status varchar(20) DEFAULT 'NEW',
+	created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+	CONSTRAINT generated_check_pk PRIMARY KEY (id)
+);
+
 CREATE TABLE schema1.customer (
 	id integer NOT NULL AUTO_INCREMENT,
 	first_name varchar(100),
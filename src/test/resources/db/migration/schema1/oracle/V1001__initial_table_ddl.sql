@@ -21,6 +21,14 @@ CREATE TABLE SCHEMA1.order_line (
 	CONSTRAINT order_line_pk PRIMARY KEY (order_line_id)
 );
 
+CREATE TABLE SCHEMA1.generated_check (
+	id NUMBER GENERATED ALWAYS AS IDENTITY,
+	name varchar(100),
+	status varchar(20) DEFAULT 'NEW',
+	created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+	CONSTRAINT generated_check_pk PRIMARY KEY (id)
+);
+
 CREATE TABLE SCHEMA1.customer (
 	id NUMBER GENERATED ALWAYS AS IDENTITY,
 	first_name varchar(100),
@@ -42,6 +50,8 @@ CREATE TABLE SCHEMA1.product (
 	CONSTRAINT product_pk PRIMARY KEY (id)
 );
 
+CREATE SEQUENCE SCHEMA1.product_seq START WITH 100000 INCREMENT BY 10;
+
 
 CREATE TABLE SCHEMA1.person (
 	person_id varchar(100) NOT NULL,
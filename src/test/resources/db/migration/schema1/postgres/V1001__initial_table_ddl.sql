@@ -21,6 +21,14 @@ CREATE TABLE schema1.order_line (
 	CONSTRAINT order_line_pk PRIMARY KEY (order_line_id)
 );
 
+CREATE TABLE schema1.generated_check (
+	id serial NOT NULL,
+	name varchar(100),
+	status varchar(20) DEFAULT 'NEW',
+	created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+	CONSTRAINT generated_check_pk PRIMARY KEY (id)
+);
+
 CREATE TABLE schema1.customer (
 	id serial NOT NULL,
 	first_name varchar(100),
@@ -42,6 +50,8 @@ CREATE TABLE schema1.product (
 	CONSTRAINT product_pk PRIMARY KEY (id)
 );
 
+CREATE SEQUENCE schema1.product_seq START WITH 100000 INCREMENT BY 10;
+
 
 CREATE TABLE schema1.person (
 	person_id varchar(100) NOT NULL,
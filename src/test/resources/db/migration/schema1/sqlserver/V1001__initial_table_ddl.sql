@@ -22,6 +22,27 @@ CREATE TABLE schema1.order_line (
 	CONSTRAINT order_line_pk PRIMARY KEY (order_line_id)
 );
 
+CREATE TABLE schema1.generated_check (
+	id int IDENTITY(1,1) NOT NULL,
+	name varchar(100),
+	status varchar(20) DEFAULT 'NEW',
+	created_at datetime2 DEFAULT CURRENT_TIMESTAMP,
+	CONSTRAINT generated_check_pk PRIMARY KEY (id)
+);
+
+CREATE TABLE schema1.generated_trigger_check (
+	id int IDENTITY(1,1) NOT NULL,
+	name varchar(100),
+	code varchar(30),
+	CONSTRAINT generated_trigger_check_pk PRIMARY KEY (id)
+);
+
+CREATE TABLE schema1.generated_trigger_audit (
+	id int IDENTITY(1000,1) NOT NULL,
+	check_id int,
+	CONSTRAINT generated_trigger_audit_pk PRIMARY KEY (id)
+);
+
 CREATE TABLE schema1.customer (
 	id int IDENTITY(1,1) NOT NULL,
 	first_name varchar(100),
@@ -43,6 +64,8 @@ CREATE TABLE schema1.product (
 	CONSTRAINT product_pk PRIMARY KEY (id)
 );
 
+CREATE SEQUENCE schema1.product_seq AS bigint START WITH 100000 INCREMENT BY 10;
+
 
 CREATE TABLE schema1.person (
 	person_id varchar(100) NOT NULL,
@@ -118,4 +141,16 @@ CREATE VIEW schema1.person_view AS
 SELECT person_id, first_name, last_name
 FROM schema1.person;
 
+GO
+
+-- assigns generated_trigger_check.code after the insert. The audit insert
+-- generates an identity in the scope of the trigger.
+CREATE TRIGGER schema1.generated_trigger_check_insert ON schema1.generated_trigger_check
+AFTER INSERT AS
+BEGIN
+	UPDATE t SET code = 'TRG-' + i.name
+	FROM schema1.generated_trigger_check t JOIN inserted i ON t.id = i.id;
+	INSERT INTO schema1.generated_trigger_audit (check_id) SELECT id FROM inserted;
+END;
 
+GO